@@ -22,11 +22,15 @@ package com.codedecode.order;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class OrderApplication {
 
 	public static void main(String[] args) {
@@ -35,8 +39,11 @@ public class OrderApplication {
 
 	@Bean
 	@LoadBalanced
-	public RestTemplate getRestTemplate()
+	public RestTemplate getRestTemplate(RestTemplateBuilder restTemplateBuilder,
+									   HttpComponentsClientHttpRequestFactory userServiceRequestFactory)
 	{
-		return new RestTemplate();
+		// built through the builder so client observations and trace propagation are applied; the request
+		// factory is passed explicitly so its pool sizes are ours rather than the detected client's defaults
+		return restTemplateBuilder.requestFactory(() -> userServiceRequestFactory).build();
 	}
 }
@@ -0,0 +1,136 @@
+package com.codedecode.order.archive;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ArchiveProperties;
+import com.codedecode.order.repo.OrderCodecRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically moves orders older than the cutoff from Mongo into the {@link OrderArchive}. Orders are only
+ * deleted after their segment is on disk, so a crash in between leaves duplicates, never gaps. Run it on one
+ * instance per archive directory.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled")
+public class ArchivalJob {
+
+    @Autowired
+    ArchiveProperties archiveProperties;
+
+    @Autowired
+    OrderCodecRepository orderCodecRepository;
+
+    @Autowired
+    OrderArchive orderArchive;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    Clock clock = Clock.systemUTC();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        long interval = archiveProperties.getInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("order-archival").factory());
+        scheduler.scheduleWithFixedDelay(this::runSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return how many orders were archived
+     */
+    public int run() {
+        ObjectId cutoff = new ObjectId(Date.from(clock.instant().minus(archiveProperties.getCutoff())));
+        Counter archived = meterRegistry.counter("order.archive.archived");
+        Counter skipped = meterRegistry.counter("order.archive.skipped");
+        int total = 0;
+        BsonValue after = null;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<RawBsonDocument> batch = orderCodecRepository.findRawOlderThan(cutoff, after, archiveProperties.getOrdersPerSegment());
+            if (batch.isEmpty()) {
+                break;
+            }
+            after = batch.get(batch.size() - 1).get("_id");
+            // segments are keyed by orderId; documents without one stay in Mongo rather than stalling every run
+            List<RawBsonDocument> archivable = new ArrayList<>(batch.size());
+            for (RawBsonDocument order : batch) {
+                if (order.isInt32("orderId")) {
+                    archivable.add(order);
+                }
+            }
+            if (archivable.size() < batch.size()) {
+                skipped.increment(batch.size() - archivable.size());
+                log.warn("Left {} order documents without an int orderId in Mongo", batch.size() - archivable.size());
+            }
+            if (!archivable.isEmpty()) {
+                List<BsonValue> ids = archivable.stream().map(order -> order.get("_id")).toList();
+                orderArchive.append(archivable);
+                for (int from = 0; from < ids.size(); from += archiveProperties.getDeleteBatchSize()) {
+                    orderCodecRepository.deleteByIds(ids.subList(from, Math.min(ids.size(), from + archiveProperties.getDeleteBatchSize())));
+                }
+                archived.increment(ids.size());
+                total += ids.size();
+            }
+            if (batch.size() < archiveProperties.getOrdersPerSegment()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void runSafely() {
+        try {
+            int count = run();
+            if (count > 0) {
+                log.info("Archived {} orders older than {}", count, archiveProperties.getCutoff());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Order archival failed; will retry next run", e);
+        }
+    }
+}
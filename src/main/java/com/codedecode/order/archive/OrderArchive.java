@@ -0,0 +1,112 @@
+package com.codedecode.order.archive;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ArchiveProperties;
+import com.codedecode.order.entity.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Cold tier for orders moved out of Mongo: a directory of {@link Segment}s, searched newest first.
+ */
+@Slf4j
+@Component
+public class OrderArchive {
+
+    @Autowired
+    ArchiveProperties archiveProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private Path directory;
+    private Counter hits;
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = Path.of(archiveProperties.getDirectory());
+        hits = meterRegistry.counter("order.archive.reads");
+        meterRegistry.gauge("order.archive.segments", segments, List::size);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path indexFile : files.filter(f -> f.getFileName().toString().matches("segment-\\d+\\.idx")).sorted().toList()) {
+                String name = indexFile.getFileName().toString();
+                long id = Long.parseLong(name.substring("segment-".length(), name.length() - ".idx".length()));
+                segments.add(0, Segment.open(id, directory.resolve(SegmentWriter.dataFileName(id)), indexFile));
+            }
+        }
+        log.info("Opened {} archive segments in {}", segments.size(), directory.toAbsolutePath());
+    }
+
+    public Optional<Order> find(int orderId) {
+        for (Segment segment : segments) {
+            if (segment.mayContain(orderId)) {
+                Optional<Order> order = segment.find(orderId);
+                if (order.isPresent()) {
+                    hits.increment();
+                    return order;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes {@code orders} as a new segment; it is durable on disk and searchable once this returns.
+     */
+    public synchronized void append(List<RawBsonDocument> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            long id = segments.isEmpty() ? 1 : segments.get(0).id() + 1;
+            SegmentWriter.write(directory, id, orders, (int) archiveProperties.getBlockSize().toBytes(),
+                    archiveProperties.getCompressionLevel());
+            segments.add(0, Segment.open(id, directory.resolve(SegmentWriter.dataFileName(id)),
+                    directory.resolve(SegmentWriter.indexFileName(id))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write archive segment to " + directory, e);
+        }
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+}
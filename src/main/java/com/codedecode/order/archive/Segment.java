@@ -0,0 +1,160 @@
+package com.codedecode.order.archive;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.codec.OrderCodec;
+import com.codedecode.order.entity.Order;
+import com.github.luben.zstd.Zstd;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.codecs.DecoderContext;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * One immutable archive segment: a data file of independently zstd-compressed blocks of BSON orders, sorted
+ * by {@code orderId}, and a sparse index holding the first and last {@code orderId} of every block. A lookup
+ * binary-searches the index, copies one compressed block out of the memory-mapped data file, decompresses it on
+ * the heap and scans it.
+ */
+final class Segment {
+
+    static final int INDEX_MAGIC = 0x4F524441;
+    static final int INDEX_VERSION = 1;
+
+    private static final OrderCodec ORDER_CODEC = new OrderCodec();
+
+    private final long id;
+    private final MappedByteBuffer data;
+    private final int[] firstOrderIds;
+    private final int[] lastOrderIds;
+    private final long[] offsets;
+    private final int[] compressedLengths;
+    private final int[] rawLengths;
+    private final int orderCount;
+
+    private Segment(long id, MappedByteBuffer data, int[] firstOrderIds, int[] lastOrderIds, long[] offsets,
+                    int[] compressedLengths, int[] rawLengths, int orderCount) {
+        this.id = id;
+        this.data = data;
+        this.firstOrderIds = firstOrderIds;
+        this.lastOrderIds = lastOrderIds;
+        this.offsets = offsets;
+        this.compressedLengths = compressedLengths;
+        this.rawLengths = rawLengths;
+        this.orderCount = orderCount;
+    }
+
+    static Segment open(long id, Path dataFile, Path indexFile) throws IOException {
+        int[] firstOrderIds;
+        int[] lastOrderIds;
+        long[] offsets;
+        int[] compressedLengths;
+        int[] rawLengths;
+        int orderCount;
+        try (InputStream in = Files.newInputStream(indexFile);
+             DataInputStream index = new DataInputStream(new BufferedInputStream(in))) {
+            if (index.readInt() != INDEX_MAGIC || index.readInt() != INDEX_VERSION) {
+                throw new IOException("Not an order archive index: " + indexFile);
+            }
+            orderCount = index.readInt();
+            int blocks = index.readInt();
+            firstOrderIds = new int[blocks];
+            lastOrderIds = new int[blocks];
+            offsets = new long[blocks];
+            compressedLengths = new int[blocks];
+            rawLengths = new int[blocks];
+            for (int i = 0; i < blocks; i++) {
+                firstOrderIds[i] = index.readInt();
+                lastOrderIds[i] = index.readInt();
+                offsets[i] = index.readLong();
+                compressedLengths[i] = index.readInt();
+                rawLengths[i] = index.readInt();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Segment(id, data, firstOrderIds, lastOrderIds, offsets, compressedLengths, rawLengths, orderCount);
+        }
+    }
+
+    long id() {
+        return id;
+    }
+
+    int orderCount() {
+        return orderCount;
+    }
+
+    boolean mayContain(int orderId) {
+        return firstOrderIds.length > 0 && orderId >= firstOrderIds[0] && orderId <= lastOrderIds[lastOrderIds.length - 1];
+    }
+
+    Optional<Order> find(int orderId) {
+        int block = Arrays.binarySearch(firstOrderIds, orderId);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        if (block < 0 || orderId > lastOrderIds[block]) {
+            return Optional.empty();
+        }
+        // decompressed on the heap: the ByteBuffer overload allocates direct memory on every lookup, competing with
+        // the off-heap recent-order cache for the direct memory limit
+        byte[] compressed = new byte[compressedLengths[block]];
+        data.get((int) offsets[block], compressed);
+        ByteBuffer raw = ByteBuffer.wrap(Zstd.decompress(compressed, rawLengths[block])).order(ByteOrder.LITTLE_ENDIAN);
+        while (raw.remaining() > 0) {
+            int start = raw.position();
+            int length = raw.getInt(start);
+            if (readOrderId(raw.slice(start, length)) == orderId) {
+                ByteBuffer document = raw.slice(start, length);
+                return Optional.of(ORDER_CODEC.decode(new BsonBinaryReader(document), DecoderContext.builder().build()));
+            }
+            raw.position(start + length);
+        }
+        return Optional.empty();
+    }
+
+    private static int readOrderId(ByteBuffer document) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(document)) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if ("orderId".equals(reader.readName()) && reader.getCurrentBsonType() == BsonType.INT32) {
+                    return reader.readInt32();
+                }
+                reader.skipValue();
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+}
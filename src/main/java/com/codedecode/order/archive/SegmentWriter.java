@@ -0,0 +1,126 @@
+package com.codedecode.order.archive;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.luben.zstd.Zstd;
+import org.bson.RawBsonDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes a {@link Segment}. Both files are written under temporary names, forced to disk and then renamed,
+ * index last, so a segment is either fully visible or not at all.
+ */
+final class SegmentWriter {
+
+    private SegmentWriter() {
+    }
+
+    static String dataFileName(long id) {
+        return String.format("segment-%012d.zst", id);
+    }
+
+    static String indexFileName(long id) {
+        return String.format("segment-%012d.idx", id);
+    }
+
+    /**
+     * @param unsorted raw {@code order} documents, each with an int32 {@code orderId}; a sorted copy is written
+     */
+    static void write(Path directory, long id, List<RawBsonDocument> unsorted, int blockBytes, int level) throws IOException {
+        List<RawBsonDocument> orders = new ArrayList<>(unsorted);
+        orders.sort(Comparator.comparingInt(order -> order.getInt32("orderId").getValue()));
+        Path dataFile = directory.resolve(dataFileName(id));
+        Path indexFile = directory.resolve(indexFileName(id));
+        Path dataTmp = directory.resolve(dataFileName(id) + ".tmp");
+        Path indexTmp = directory.resolve(indexFileName(id) + ".tmp");
+
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        int blocks = 0;
+        try (FileChannel out = FileChannel.open(dataTmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream block = new ByteArrayOutputStream(blockBytes + 4096);
+            int first = 0;
+            int last = 0;
+            for (RawBsonDocument order : orders) {
+                int orderId = order.getInt32("orderId").getValue();
+                if (block.size() == 0) {
+                    first = orderId;
+                }
+                ByteBuffer bytes = order.getByteBuffer().asNIO();
+                block.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                last = orderId;
+                if (block.size() >= blockBytes) {
+                    writeBlock(out, index, block, first, last, level);
+                    blocks++;
+                }
+            }
+            if (block.size() > 0) {
+                writeBlock(out, index, block, first, last, level);
+                blocks++;
+            }
+            out.force(true);
+        }
+
+        try (FileChannel out = FileChannel.open(indexTmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(16)
+                    .putInt(Segment.INDEX_MAGIC).putInt(Segment.INDEX_VERSION).putInt(orders.size()).putInt(blocks)
+                    .flip();
+            writeFully(out, header);
+            writeFully(out, ByteBuffer.wrap(indexBytes.toByteArray()));
+            out.force(true);
+        }
+        Files.move(dataTmp, dataFile, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(indexTmp, indexFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeBlock(FileChannel out, DataOutputStream index, ByteArrayOutputStream block,
+                                   int first, int last, int level) throws IOException {
+        byte[] raw = block.toByteArray();
+        byte[] compressed = Zstd.compress(raw, level);
+        index.writeInt(first);
+        index.writeInt(last);
+        index.writeLong(out.position());
+        index.writeInt(compressed.length);
+        index.writeInt(raw.length);
+        writeFully(out, ByteBuffer.wrap(compressed));
+        block.reset();
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the requests of a file written by {@link CaptureFileWriter} in arrival order.
+ */
+public class CaptureFileReader implements Closeable {
+
+    private final DataInputStream in;
+    private final long startEpochMillis;
+
+    public CaptureFileReader(Path file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        if (in.readInt() != CaptureFileWriter.MAGIC) {
+            in.close();
+            throw new IOException("Not a capture file: " + file);
+        }
+        int version = in.readInt();
+        if (version != CaptureFileWriter.VERSION) {
+            in.close();
+            throw new IOException("Unsupported capture version " + version + " in " + file);
+        }
+        startEpochMillis = in.readLong();
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * @return the next request with its offset from the start of the capture, or {@code null} at the end
+     */
+    public CapturedRequest next() throws IOException {
+        try {
+            long offsetNanos = in.readLong();
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            return new CapturedRequest(offsetNanos, payload);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,74 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends captured requests to a file: a header of magic, version and the capture start in epoch millis,
+ * then per request the arrival offset in nanoseconds, the payload length and the payload bytes. A record cut
+ * short by a crash is ignored by {@link CaptureFileReader}.
+ */
+public class CaptureFileWriter implements Closeable {
+
+    static final int MAGIC = 0x4F434150;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_OVERHEAD = 12;
+
+    private final DataOutputStream out;
+    private final long startNanos;
+    private long bytesWritten;
+
+    public CaptureFileWriter(Path file, long startEpochMillis, long startNanos) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+        this.startNanos = startNanos;
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(startEpochMillis);
+        bytesWritten = HEADER_BYTES;
+    }
+
+    public void write(CapturedRequest request) throws IOException {
+        out.writeLong(Math.max(0, request.arrivalNanos() - startNanos));
+        out.writeInt(request.payload().length);
+        out.write(request.payload());
+        bytesWritten += RECORD_OVERHEAD + request.payload().length;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,93 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue for many request threads and one flushing thread. Each slot carries a sequence
+ * number: a producer claims a slot with one CAS on the tail and publishes it by advancing the slot sequence,
+ * the consumer frees it by advancing the sequence a full lap. A full ring rejects instead of blocking, so a
+ * slow disk can never hold up a request.
+ */
+public class CaptureRing {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final CapturedRequest[] slots;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    public CaptureRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.slots = new CapturedRequest[size];
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return {@code false} if the ring is full
+     */
+    public boolean offer(CapturedRequest request) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = request;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Single consumer only.
+     *
+     * @return the oldest published request, or {@code null} if there is none
+     */
+    public CapturedRequest poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        CapturedRequest request = slots[index];
+        slots[index] = null;
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return request;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
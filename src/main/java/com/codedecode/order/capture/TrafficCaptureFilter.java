@@ -0,0 +1,137 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the body up front and hands the bytes to the {@link TrafficRecorder} before anything downstream can
+ * shed the request, so the capture holds every arrival, including the ones rejected under load. Bodies above
+ * the payload limit are passed through without being captured.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private final TrafficRecorder recorder;
+    private final int maxPayloadBytes;
+
+    public TrafficCaptureFilter(TrafficRecorder recorder, int maxPayloadBytes) {
+        this.recorder = recorder;
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long arrivalNanos = System.nanoTime();
+        if (!"POST".equals(request.getMethod()) || request.getContentLengthLong() > maxPayloadBytes) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxPayloadBytes + 1);
+        if (body.length <= maxPayloadBytes) {
+            recorder.record(arrivalNanos, body);
+            filterChain.doFilter(new CachedBodyRequest(request, body), response);
+        } else {
+            filterChain.doFilter(new CachedBodyRequest(request, body, request.getInputStream()), response);
+        }
+    }
+
+    /**
+     * Replays the bytes already read, followed by whatever is left of the original stream.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final ServletInputStream body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] read) {
+            this(request, read, null);
+        }
+
+        CachedBodyRequest(HttpServletRequest request, byte[] read, ServletInputStream rest) {
+            super(request);
+            this.body = new ReplayingInputStream(read, rest);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return body;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(body, charset));
+        }
+    }
+
+    private static final class ReplayingInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream read;
+        private final ServletInputStream rest;
+
+        ReplayingInputStream(byte[] read, ServletInputStream rest) {
+            this.read = new ByteArrayInputStream(read);
+            this.rest = rest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int next = read.read();
+            return next >= 0 || rest == null ? next : rest.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = read.read(buffer, offset, length);
+            return count > 0 || rest == null || length == 0 ? count : rest.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return read.available() == 0 && (rest == null || rest.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Async reads are not supported for captured requests");
+        }
+    }
+}
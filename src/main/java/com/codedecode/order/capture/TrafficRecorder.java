@@ -0,0 +1,138 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers captured requests in a {@link CaptureRing} and drains them to a capture file on a background
+ * thread. Recording costs a slot claim on the request thread; everything that touches the disk happens on
+ * the flusher.
+ */
+@Slf4j
+public class TrafficRecorder implements AutoCloseable {
+
+    private final CaptureRing ring;
+    private final Path file;
+    private final long maxFileBytes;
+    private final Duration flushInterval;
+    private final Counter captured;
+    private final Counter dropped;
+    private final Object drainLock = new Object();
+
+    private ScheduledExecutorService flusher;
+    private CaptureFileWriter writer;
+    private volatile boolean full;
+
+    public TrafficRecorder(Path file, int ringCapacity, long maxFileBytes, Duration flushInterval, MeterRegistry meterRegistry) {
+        this.ring = new CaptureRing(ringCapacity);
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.flushInterval = flushInterval;
+        this.captured = meterRegistry.counter("order.capture.captured");
+        this.dropped = meterRegistry.counter("order.capture.dropped");
+    }
+
+    public void start() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        writer = new CaptureFileWriter(file, System.currentTimeMillis(), System.nanoTime());
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("order-capture").factory());
+        long interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::drainSafely, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Capturing saveOrder traffic to {}", file);
+    }
+
+    /**
+     * @return {@code false} if the request was dropped because the ring or the file is full
+     */
+    public boolean record(long arrivalNanos, byte[] payload) {
+        if (!full && ring.offer(new CapturedRequest(arrivalNanos, payload))) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes everything buffered so far and flushes the file.
+     */
+    public void drain() throws IOException {
+        synchronized (drainLock) {
+            if (writer == null) {
+                return;
+            }
+            int count = 0;
+            CapturedRequest request;
+            while ((request = ring.poll()) != null) {
+                if (full) {
+                    dropped.increment();
+                    continue;
+                }
+                writer.write(request);
+                count++;
+                if (writer.bytesWritten() >= maxFileBytes) {
+                    full = true;
+                    log.warn("Capture file {} reached {} bytes; capture stopped", file, writer.bytesWritten());
+                }
+            }
+            writer.flush();
+            captured.increment(count);
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (IOException e) {
+            log.warn("Writing capture file {} failed; capture stopped", file, e);
+            full = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        synchronized (drainLock) {
+            if (writer != null) {
+                drain();
+                writer.close();
+                writer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+
+/**
+ * Null-aware field helpers shared by the order codecs. Null values are omitted on write, matching
+ * {@code MappingMongoConverter}, and read back as {@code null}.
+ */
+final class BsonFields {
+
+    private BsonFields() {
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeInt32(BsonWriter writer, String name, Integer value) {
+        if (value != null) {
+            writer.writeInt32(name, value);
+        }
+    }
+
+    static void writeNumber(BsonWriter writer, String name, Number value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writer.writeInt32(name, value.intValue());
+        } else if (value instanceof Long) {
+            writer.writeInt64(name, value.longValue());
+        } else if (value instanceof BigDecimal decimal) {
+            writer.writeDecimal128(name, new Decimal128(decimal));
+        } else {
+            writer.writeDouble(name, value.doubleValue());
+        }
+    }
+
+    static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    static Integer readInt32(BsonReader reader) {
+        Number value = readNumber(reader);
+        return value == null ? null : value.intValue();
+    }
+
+    static Number readNumber(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case DOUBLE -> reader.readDouble();
+            case DECIMAL128 -> reader.readDecimal128().bigDecimalValue();
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            default -> throw new IllegalStateException("Expected a numeric value but found " + reader.getCurrentBsonType());
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Hand-written codec for {@link FoodItemsDTO}. Field names follow what {@code MappingMongoConverter}
+ * writes for the embedded item, so documents stay readable by either path.
+ */
+public class FoodItemsDTOCodec implements Codec<FoodItemsDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, FoodItemsDTO item, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeInt32("_id", item.getId());
+        BsonFields.writeString(writer, "itemName", item.getItemName());
+        BsonFields.writeString(writer, "itemDescription", item.getItemDescription());
+        writer.writeBoolean("isVeg", item.isVeg());
+        BsonFields.writeNumber(writer, "price", item.getPrice());
+        BsonFields.writeInt32(writer, "restaurantId", item.getRestaurantId());
+        BsonFields.writeInt32(writer, "quantity", item.getQuantity());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public FoodItemsDTO decode(BsonReader reader, DecoderContext decoderContext) {
+        FoodItemsDTO item = new FoodItemsDTO();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> item.setId(BsonFields.readInt32(reader));
+                case "itemName" -> item.setItemName(BsonFields.readString(reader));
+                case "itemDescription" -> item.setItemDescription(BsonFields.readString(reader));
+                case "isVeg" -> item.setVeg(reader.readBoolean());
+                case "price" -> item.setPrice(BsonFields.readNumber(reader));
+                case "restaurantId" -> item.setRestaurantId(BsonFields.readInt32(reader));
+                case "quantity" -> item.setQuantity(BsonFields.readInt32(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return item;
+    }
+
+    @Override
+    public Class<FoodItemsDTO> getEncoderClass() {
+        return FoodItemsDTO.class;
+    }
+}
@@ -0,0 +1,133 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes and reads {@link Order} documents directly against the BSON stream, skipping the reflective
+ * {@code MappingMongoConverter} and the intermediate {@code Document}. The layout is the one Spring Data
+ * produces (including {@code _class}), so both paths can read each other's documents.
+ * <p>
+ * {@code Order} has no id property, so a fresh {@link ObjectId} is written as {@code _id} on every encode;
+ * the codec is meant for inserts, not replacements.
+ */
+public class OrderCodec implements Codec<Order> {
+
+    static final String TYPE_ALIAS = Order.class.getName();
+
+    private final Codec<FoodItemsDTO> foodItemsCodec;
+    private final Codec<Restaurant> restaurantCodec;
+    private final Codec<UserDTO> userCodec;
+
+    public OrderCodec() {
+        this(new FoodItemsDTOCodec(), new RestaurantCodec(), new UserDTOCodec());
+    }
+
+    public OrderCodec(Codec<FoodItemsDTO> foodItemsCodec, Codec<Restaurant> restaurantCodec, Codec<UserDTO> userCodec) {
+        this.foodItemsCodec = foodItemsCodec;
+        this.restaurantCodec = restaurantCodec;
+        this.userCodec = userCodec;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Order order, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeObjectId("_id", new ObjectId());
+        BsonFields.writeInt32(writer, "orderId", order.getOrderId());
+        if (order.getFoodItemsList() != null) {
+            writer.writeStartArray("foodItemsList");
+            for (FoodItemsDTO item : order.getFoodItemsList()) {
+                if (item == null) {
+                    writer.writeNull();
+                } else {
+                    encoderContext.encodeWithChildContext(foodItemsCodec, writer, item);
+                }
+            }
+            writer.writeEndArray();
+        }
+        if (order.getRestaurant() != null) {
+            writer.writeName("restaurant");
+            encoderContext.encodeWithChildContext(restaurantCodec, writer, order.getRestaurant());
+        }
+        if (order.getUserDTO() != null) {
+            writer.writeName("userDTO");
+            encoderContext.encodeWithChildContext(userCodec, writer, order.getUserDTO());
+        }
+        writer.writeString("_class", TYPE_ALIAS);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Order decode(BsonReader reader, DecoderContext decoderContext) {
+        Order order = new Order();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (name) {
+                case "orderId" -> order.setOrderId(BsonFields.readInt32(reader));
+                case "foodItemsList" -> order.setFoodItemsList(decodeItems(reader, decoderContext));
+                case "restaurant" -> order.setRestaurant(restaurantCodec.decode(reader, decoderContext));
+                case "userDTO" -> order.setUserDTO(userCodec.decode(reader, decoderContext));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return order;
+    }
+
+    private List<FoodItemsDTO> decodeItems(BsonReader reader, DecoderContext decoderContext) {
+        List<FoodItemsDTO> items = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                items.add(null);
+            } else {
+                items.add(foodItemsCodec.decode(reader, decoderContext));
+            }
+        }
+        reader.readEndArray();
+        return items;
+    }
+
+    @Override
+    public Class<Order> getEncoderClass() {
+        return Order.class;
+    }
+}
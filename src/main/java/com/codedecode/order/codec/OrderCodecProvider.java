@@ -0,0 +1,55 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+public class OrderCodecProvider implements CodecProvider {
+
+    private final FoodItemsDTOCodec foodItemsCodec = new FoodItemsDTOCodec();
+    private final RestaurantCodec restaurantCodec = new RestaurantCodec();
+    private final UserDTOCodec userCodec = new UserDTOCodec();
+    private final OrderCodec orderCodec = new OrderCodec(foodItemsCodec, restaurantCodec, userCodec);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        if (clazz == Order.class) {
+            return (Codec<T>) orderCodec;
+        }
+        if (clazz == FoodItemsDTO.class) {
+            return (Codec<T>) foodItemsCodec;
+        }
+        if (clazz == Restaurant.class) {
+            return (Codec<T>) restaurantCodec;
+        }
+        if (clazz == UserDTO.class) {
+            return (Codec<T>) userCodec;
+        }
+        return null;
+    }
+}
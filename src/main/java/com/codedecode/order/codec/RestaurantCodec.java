@@ -0,0 +1,66 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.Restaurant;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class RestaurantCodec implements Codec<Restaurant> {
+
+    @Override
+    public void encode(BsonWriter writer, Restaurant restaurant, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeInt32("_id", restaurant.getId());
+        BsonFields.writeString(writer, "name", restaurant.getName());
+        BsonFields.writeString(writer, "address", restaurant.getAddress());
+        BsonFields.writeString(writer, "city", restaurant.getCity());
+        BsonFields.writeString(writer, "restaurantDescription", restaurant.getRestaurantDescription());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Restaurant decode(BsonReader reader, DecoderContext decoderContext) {
+        Restaurant restaurant = new Restaurant();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> restaurant.setId(BsonFields.readInt32(reader));
+                case "name" -> restaurant.setName(BsonFields.readString(reader));
+                case "address" -> restaurant.setAddress(BsonFields.readString(reader));
+                case "city" -> restaurant.setCity(BsonFields.readString(reader));
+                case "restaurantDescription" -> restaurant.setRestaurantDescription(BsonFields.readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return restaurant;
+    }
+
+    @Override
+    public Class<Restaurant> getEncoderClass() {
+        return Restaurant.class;
+    }
+}
@@ -0,0 +1,66 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.UserDTO;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class UserDTOCodec implements Codec<UserDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, UserDTO user, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeInt32("userId", user.getUserId());
+        BsonFields.writeString(writer, "userName", user.getUserName());
+        BsonFields.writeString(writer, "userPassword", user.getUserPassword());
+        BsonFields.writeString(writer, "address", user.getAddress());
+        BsonFields.writeString(writer, "city", user.getCity());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public UserDTO decode(BsonReader reader, DecoderContext decoderContext) {
+        UserDTO user = new UserDTO();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "userId" -> user.setUserId(BsonFields.readInt32(reader));
+                case "userName" -> user.setUserName(BsonFields.readString(reader));
+                case "userPassword" -> user.setUserPassword(BsonFields.readString(reader));
+                case "address" -> user.setAddress(BsonFields.readString(reader));
+                case "city" -> user.setCity(BsonFields.readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return user;
+    }
+
+    @Override
+    public Class<UserDTO> getEncoderClass() {
+        return UserDTO.class;
+    }
+}
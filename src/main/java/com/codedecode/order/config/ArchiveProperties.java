@@ -0,0 +1,52 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.archive")
+public class ArchiveProperties {
+
+    /** Runs the archival job on this instance. Segments are read whenever the directory exists. */
+    private boolean enabled = false;
+
+    private String directory = "archive";
+
+    /** Orders whose {@code _id} timestamp is older than this are archived. */
+    private Duration cutoff = Duration.ofDays(90);
+
+    private Duration interval = Duration.ofHours(1);
+
+    /** Upper bound on orders per segment, which is also how many are held in memory while writing one. */
+    private int ordersPerSegment = 100_000;
+
+    /** Uncompressed size of a block; a lookup decompresses exactly one. */
+    private DataSize blockSize = DataSize.ofKilobytes(64);
+
+    private int compressionLevel = 3;
+
+    private int deleteBatchSize = 1_000;
+}
@@ -0,0 +1,58 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.capture.TrafficCaptureFilter;
+import com.codedecode.order.capture.TrafficRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order.capture", name = "enabled")
+public class CaptureConfig {
+
+    @Bean(destroyMethod = "close")
+    public TrafficRecorder saveOrderTrafficRecorder(CaptureProperties properties, MeterRegistry meterRegistry) throws IOException {
+        Path file = Path.of(properties.getDirectory(), "orders-" + System.currentTimeMillis() + ".cap");
+        TrafficRecorder recorder = new TrafficRecorder(file, properties.getRingCapacity(),
+                properties.getMaxFileSize().toBytes(), properties.getFlushInterval(), meterRegistry);
+        recorder.start();
+        return recorder;
+    }
+
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> saveOrderTrafficCaptureFilter(
+            TrafficRecorder saveOrderTrafficRecorder, CaptureProperties properties) {
+        FilterRegistrationBean<TrafficCaptureFilter> registration = new FilterRegistrationBean<>(
+                new TrafficCaptureFilter(saveOrderTrafficRecorder, (int) properties.getMaxPayload().toBytes()));
+        registration.addUrlPatterns("/order/saveOrder");
+        // ahead of the concurrency limiter, so shed requests are captured too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
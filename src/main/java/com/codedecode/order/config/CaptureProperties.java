@@ -0,0 +1,49 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.capture")
+public class CaptureProperties {
+
+    /** Records every {@code POST /order/saveOrder} arrival into a capture file for later replay. */
+    private boolean enabled = false;
+
+    /** Each process start writes a new {@code orders-<epochMillis>.cap} file here. */
+    private String directory = "capture";
+
+    /** Requests buffered between flushes; rounded up to a power of two. Arrivals beyond it are dropped. */
+    private int ringCapacity = 16_384;
+
+    /** Larger bodies are forwarded untouched but not captured. */
+    private DataSize maxPayload = DataSize.ofKilobytes(64);
+
+    /** Capture stops once the file reaches this size. */
+    private DataSize maxFileSize = DataSize.ofGigabytes(1);
+
+    private Duration flushInterval = Duration.ofMillis(200);
+}
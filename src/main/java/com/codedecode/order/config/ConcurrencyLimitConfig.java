@@ -0,0 +1,61 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.limiter.ConcurrencyLimitFilter;
+import com.codedecode.order.limiter.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order.concurrency-limit", name = "enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public GradientConcurrencyLimiter saveOrderConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties.getInitialLimit(),
+                properties.getMinLimit(), properties.getMaxLimit(), properties.getSmoothing(),
+                properties.getLongWindow(), properties.getRttTolerance(), properties.getBackoffRatio());
+        Gauge.builder("order.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .tag("endpoint", "saveOrder").register(meterRegistry);
+        Gauge.builder("order.concurrency.inflight", limiter, GradientConcurrencyLimiter::getInflight)
+                .tag("endpoint", "saveOrder").register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> saveOrderConcurrencyLimitFilter(
+            GradientConcurrencyLimiter saveOrderConcurrencyLimiter, ConcurrencyLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("order.concurrency.rejected").tag("endpoint", "saveOrder").register(meterRegistry);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(saveOrderConcurrencyLimiter, rejected, properties.getRetryAfter()));
+        registration.addUrlPatterns("/order/saveOrder");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,57 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit in front of {@code POST /order/saveOrder}.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /** Weight of each new limit estimate, 0..1. */
+    private double smoothing = 0.2;
+
+    /** Samples averaged into the long-term (no-load) round-trip time. */
+    private int longWindow = 600;
+
+    /** How much slower than the long-term RTT a sample may be before the limit shrinks. */
+    private double rttTolerance = 1.5;
+
+    /** Multiplicative decrease applied when a request fails or times out. */
+    private double backoffRatio = 0.9;
+
+    /** Value of the Retry-After header on shed requests. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
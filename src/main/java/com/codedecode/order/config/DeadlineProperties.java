@@ -0,0 +1,45 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * End-to-end request deadlines. Callers send their remaining budget in milliseconds in {@code header}; it caps
+ * the USER-SERVICE call and the Mongo operations of the request, and is forwarded on outbound calls.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.deadline")
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+
+    private String header = "X-Request-Timeout-Ms";
+
+    /** Larger budgets from callers are cut down to this. */
+    private Duration max = Duration.ofSeconds(30);
+
+    /** Budget of requests that arrive without the header; unset means no deadline. */
+    private Duration defaultBudget;
+}
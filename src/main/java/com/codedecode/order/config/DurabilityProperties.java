@@ -0,0 +1,55 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.repo.DurabilityTier;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Chooses the {@link DurabilityTier} of an order write. A mapped client class wins over the endpoint,
+ * which wins over the default.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.durability")
+public class DurabilityProperties {
+
+    /** {@code null} keeps the Mongo client's default write concern. */
+    private DurabilityTier defaultTier;
+
+    /** Request header naming the caller's client class; only honoured on requests carrying the gateway token. */
+    private String clientClassHeader = "X-Client-Class";
+
+    /** Header the trusted gateway puts the shared {@link #gatewayToken} in, after stripping it from client requests. */
+    private String gatewayTokenHeader = "X-Gateway-Token";
+
+    /** Shared secret of the trusted gateway; while empty the client class header is ignored. */
+    private String gatewayToken = "";
+
+    /** Client class (header value) to tier, e.g. {@code backfill: W1_UNJOURNALED}. */
+    private Map<String, DurabilityTier> clientClasses = new LinkedHashMap<>();
+
+    /** Request path to tier, e.g. {@code "[/order/saveOrder]": MAJORITY}. */
+    private Map<String, DurabilityTier> endpoints = new LinkedHashMap<>();
+}
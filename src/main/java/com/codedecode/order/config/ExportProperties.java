@@ -0,0 +1,56 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.export")
+public class ExportProperties {
+
+    /** Runs the export job on this instance; exports share one checkpoint, so enable it on a single one. */
+    private boolean enabled = false;
+
+    private String directory = "export";
+
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * Orders younger than this are left for the next run. Exports follow {@code _id}, which is generated as the
+     * insert is sent, so this only has to cover insert latency and clock skew between instances.
+     */
+    private Duration settle = Duration.ofMinutes(1);
+
+    /** Rows per Arrow record batch; every batch except the last of a file has exactly this many. */
+    private int batchRows = 32_768;
+
+    /** A file is closed and checkpointed after this many full batches, at the next order boundary. */
+    private int batchesPerFile = 64;
+
+    /** Cap on off-heap memory held by the export's allocator. */
+    private DataSize memoryLimit = DataSize.ofMegabytes(256);
+
+    private int cursorBatchSize = 1_000;
+}
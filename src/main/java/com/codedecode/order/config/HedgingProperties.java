@@ -0,0 +1,56 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Hedged USER-SERVICE lookups: a second attempt goes to another instance when the first is slower than
+ * the recent {@code percentile} latency.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.user-service-hedging")
+public class HedgingProperties {
+
+    private boolean enabled = false;
+
+    /** Recent-latency percentile after which the hedge is sent, 0..1. */
+    private double percentile = 0.95;
+
+    private Duration minDelay = Duration.ofMillis(5);
+
+    private Duration maxDelay = Duration.ofSeconds(1);
+
+    /** Latencies kept for the percentile. */
+    private int window = 1024;
+
+    /** No hedging until this many latencies have been seen. */
+    private int minSamples = 100;
+
+    /** Extra load hedges may add, as a percentage of primary requests. */
+    private double budgetPercent = 5.0;
+
+    /** Unused hedge budget that may accumulate for a burst of slow calls. */
+    private int budgetBurst = 10;
+}
@@ -0,0 +1,58 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.import")
+public class ImportProperties {
+
+    /** NDJSON or CSV file to import at startup; nothing is imported when unset. */
+    private String file;
+
+    /** {@code ndjson}, {@code csv}, or {@code auto} to pick by file extension. */
+    private String format = "auto";
+
+    /** Bytes per mapped chunk; a chunk is the unit of parallelism and of checkpointing. */
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+
+    private int parserThreads = Runtime.getRuntime().availableProcessors();
+
+    private int writerThreads = 4;
+
+    private int batchSize = 1_000;
+
+    /** Insert batches submitted but not yet acknowledged, across all chunks. */
+    private int maxInFlightBatches = 16;
+
+    private Duration progressInterval = Duration.ofSeconds(5);
+
+    /** Rebuild every user's order summary after an import that added orders, so they include the imported ones. */
+    private boolean rebuildSummaries = true;
+
+    /** Shut the application down once the import finishes, for use as a one-off command. */
+    private boolean exitWhenDone = true;
+}
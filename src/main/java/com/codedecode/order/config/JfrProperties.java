@@ -0,0 +1,45 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.jfr")
+public class JfrProperties {
+
+    /** Runs an in-process recording stream that feeds the {@code slowestorders} actuator endpoint. */
+    private boolean streamingEnabled = true;
+
+    /** Placements faster than this are not recorded by the stream. */
+    private Duration placementThreshold = Duration.ofMillis(50);
+
+    private Duration sequenceThreshold = Duration.ofMillis(10);
+
+    /** How many placements the endpoint lists. */
+    private int slowestOrders = 20;
+
+    /** The endpoint covers this much recent history, at one-minute granularity. */
+    private Duration window = Duration.ofMinutes(15);
+}
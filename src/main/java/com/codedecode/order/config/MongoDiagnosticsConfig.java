@@ -0,0 +1,60 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.mongo.CommandExplainer;
+import com.codedecode.order.mongo.ConnectionPoolWaitListener;
+import com.codedecode.order.mongo.SlowCommandListener;
+import com.codedecode.order.mongo.SlowCommandLog;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order.mongo-diagnostics", name = "enabled", matchIfMissing = true)
+public class MongoDiagnosticsConfig {
+
+    @Bean
+    public SlowCommandLog slowCommandLog(MongoDiagnosticsProperties properties) {
+        return new SlowCommandLog(properties.getSlowLogSize());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "order.mongo-diagnostics", name = "explain-enabled")
+    public CommandExplainer commandExplainer(ObjectProvider<MongoClient> mongoClient, MongoDiagnosticsProperties properties) {
+        // the client is built after the listeners it carries, so it is looked up on first use
+        return new CommandExplainer(mongoClient::getObject, properties.getExplainsPerMinute());
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoDiagnosticsCustomizer(MongoDiagnosticsProperties properties,
+            SlowCommandLog slowCommandLog, ObjectProvider<CommandExplainer> commandExplainer, MeterRegistry meterRegistry) {
+        SlowCommandListener commandListener = new SlowCommandListener(properties.getSlowThreshold(), slowCommandLog,
+                commandExplainer.getIfAvailable(), meterRegistry);
+        ConnectionPoolWaitListener poolListener = new ConnectionPoolWaitListener(meterRegistry);
+        return builder -> builder.addCommandListener(commandListener)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolListener));
+    }
+}
@@ -0,0 +1,45 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.mongo-diagnostics")
+public class MongoDiagnosticsProperties {
+
+    private boolean enabled = true;
+
+    /** Commands at least this slow go to the slow-command log. */
+    private Duration slowThreshold = Duration.ofMillis(100);
+
+    /** The log keeps the most recent entries up to this many. */
+    private int slowLogSize = 200;
+
+    /** Runs {@code explain} (queryPlanner verbosity, nothing is executed) for slow queries and keeps the plan. */
+    private boolean explainEnabled = false;
+
+    /** Upper bound on explains per minute, so a slow spell does not double the load on the server. */
+    private int explainsPerMinute = 10;
+}
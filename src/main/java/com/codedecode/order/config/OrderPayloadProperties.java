@@ -0,0 +1,43 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "order.payload")
+public class OrderPayloadProperties {
+
+    /** Parses {@code saveOrder} bodies item by item instead of binding them through the generic Jackson converter. */
+    private boolean streaming = true;
+
+    /** Bodies declaring a larger {@code Content-Length} are refused unread; others are cut off once they pass it. */
+    private DataSize maxBytes = DataSize.ofMegabytes(2);
+
+    private int maxItems = 5_000;
+
+    private int maxQuantityPerItem = 1_000;
+
+    /** Longest accepted item name, description or restaurant field, in characters. */
+    private int maxTextLength = 512;
+}
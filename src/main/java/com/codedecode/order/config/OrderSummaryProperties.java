@@ -0,0 +1,42 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.summary")
+public class OrderSummaryProperties {
+
+    /** Orders kept per user in {@code user_order_summary}. */
+    private int recentOrders = 20;
+
+    /** Pending updates held in memory; updates beyond this are dropped and counted until a rebuild. */
+    private int queueCapacity = 10_000;
+
+    private int batchSize = 500;
+
+    /** Minimum time between two full rebuilds through {@code /actuator/ordersummary}. */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,57 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-key token buckets checked before an order does any Mongo or USER-SERVICE work.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private KeyClass user = new KeyClass(2, 10);
+
+    private KeyClass restaurant = new KeyClass(50, 200);
+
+    @Data
+    public static class KeyClass {
+
+        private double permitsPerSecond;
+
+        private int burst;
+
+        /** Sizes the bucket table; beyond it the most idle buckets are evicted. */
+        private int maxKeys = 200_000;
+
+        public KeyClass() {
+        }
+
+        public KeyClass(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
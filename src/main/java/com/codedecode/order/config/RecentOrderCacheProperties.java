@@ -0,0 +1,45 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Off-heap copy of recently placed orders, consulted by order reads before Mongo. The data area is allocated in
+ * direct memory at startup, which counts against {@code -XX:MaxDirectMemorySize} (by default the maximum heap).
+ */
+@Data
+@ConfigurationProperties(prefix = "order.recent-order-cache")
+public class RecentOrderCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Orders held at most; the index takes about 26 heap bytes per entry. */
+    private int maxEntries = 1_000_000;
+
+    /** Direct memory for the encoded orders, rounded up to whole 64MB chunks. */
+    private DataSize dataSize = DataSize.ofMegabytes(256);
+
+    /** Orders whose encoding is larger are not cached. */
+    private DataSize maxOrderSize = DataSize.ofKilobytes(256);
+}
@@ -0,0 +1,54 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Data
+@ConfigurationProperties(prefix = "order.restaurant-stats")
+public class RestaurantStatsProperties {
+
+    private Duration bucket = Duration.ofHours(1);
+
+    /** Buckets kept in memory and in Mongo; the longest window that can be queried is {@code bucket * buckets}. */
+    private int buckets = 24;
+
+    /**
+     * Restaurants with own buckets in memory. Once full, restaurants with nothing left in the window are evicted
+     * and orders for further new ids are not counted.
+     */
+    private int maxRestaurants = 10_000;
+
+    /**
+     * Identifies this instance's documents. A stable value lets a restarted instance resume its own buckets;
+     * with the random default they are picked up as a peer's instead.
+     */
+    private String instanceId = UUID.randomUUID().toString();
+
+    private boolean persistenceEnabled = true;
+
+    /** How often own buckets are written and peer buckets re-read. */
+    private Duration syncInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,48 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.top-items")
+public class TopItemsProperties {
+
+    /** Counters per bucket; a restaurant holds at most {@code capacity * buckets} of them. */
+    private int capacity = 64;
+
+    private Duration window = Duration.ofHours(1);
+
+    private int buckets = 12;
+
+    /**
+     * Restaurants tracked at once. Ids come from order payloads, so once full, restaurants idle for a whole
+     * window are evicted and orders for further new ids are not tracked.
+     */
+    private int maxRestaurants = 10_000;
+
+    private boolean persistenceEnabled = true;
+
+    private Duration persistInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,60 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.tracing.JsonLinesSpanExporter;
+import com.codedecode.order.tracing.RecentSpansExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Spans for every Mongo command, parented to the observation current on the calling thread.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.tracing", name = "exporter", havingValue = "memory", matchIfMissing = true)
+    public RecentSpansExporter recentSpansExporter(TracingProperties properties) {
+        return new RecentSpansExporter(properties.getMemorySpans());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "order.tracing", name = "exporter", havingValue = "file")
+    public JsonLinesSpanExporter jsonLinesSpanExporter(TracingProperties properties, ObjectMapper objectMapper) throws IOException {
+        return new JsonLinesSpanExporter(Path.of(properties.getFile()), objectMapper);
+    }
+}
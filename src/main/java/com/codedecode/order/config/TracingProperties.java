@@ -0,0 +1,42 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Local span export for offline analysis. Sampling is Spring Boot's
+ * {@code management.tracing.sampling.probability}.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.tracing")
+public class TracingProperties {
+
+    public enum Exporter { NONE, MEMORY, FILE }
+
+    /** {@code MEMORY} keeps recent spans for {@code /actuator/spans}; {@code FILE} appends JSON lines. */
+    private Exporter exporter = Exporter.MEMORY;
+
+    private int memorySpans = 10_000;
+
+    private String file = "traces/spans.jsonl";
+}
@@ -0,0 +1,85 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.tieredcache.BsonValueCodec;
+import com.codedecode.order.tieredcache.CacheInvalidationBus;
+import com.codedecode.order.tieredcache.TwoTierCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order.two-tier-cache", name = "enabled", havingValue = "true")
+public class TwoTierCacheConfig {
+
+    @Bean
+    public RedisTemplate<String, byte[]> tieredCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(TwoTierCacheProperties properties,
+                                                     RedisTemplate<String, byte[]> tieredCacheRedisTemplate) {
+        return new CacheInvalidationBus(properties.getInvalidationChannel(), tieredCacheRedisTemplate);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(cacheInvalidationBus.getChannel()));
+        return container;
+    }
+
+    @Bean
+    public TwoTierCache<Integer, UserDTO> userTwoTierCache(TwoTierCacheProperties properties,
+                                                           RedisTemplate<String, byte[]> tieredCacheRedisTemplate,
+                                                           CacheInvalidationBus cacheInvalidationBus,
+                                                           MeterRegistry meterRegistry) {
+        TwoTierCacheProperties.Tier tier = properties.getUsers();
+        return new TwoTierCache<>("users", properties.getKeyPrefix(), tier.getL1MaxEntries(), tier.getL1Ttl(),
+                tier.getL2Ttl(), tieredCacheRedisTemplate, BsonValueCodec.users(), cacheInvalidationBus, meterRegistry);
+    }
+
+    @Bean
+    public TwoTierCache<Integer, Order> orderTwoTierCache(TwoTierCacheProperties properties,
+                                                          RedisTemplate<String, byte[]> tieredCacheRedisTemplate,
+                                                          CacheInvalidationBus cacheInvalidationBus,
+                                                          MeterRegistry meterRegistry) {
+        TwoTierCacheProperties.Tier tier = properties.getOrders();
+        return new TwoTierCache<>("orders", properties.getKeyPrefix(), tier.getL1MaxEntries(), tier.getL1Ttl(),
+                tier.getL2Ttl(), tieredCacheRedisTemplate, BsonValueCodec.orders(), cacheInvalidationBus, meterRegistry);
+    }
+}
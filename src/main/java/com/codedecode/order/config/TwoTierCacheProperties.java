@@ -0,0 +1,66 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * In-process L1 caches in front of a Redis L2 shared by all instances, for user profiles and orders.
+ * Writes are announced on {@code invalidationChannel} so the other instances drop their L1 copy.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.two-tier-cache")
+public class TwoTierCacheProperties {
+
+    private boolean enabled = false;
+
+    /** Prepended to every Redis key, so several services can share one Redis. */
+    private String keyPrefix = "order-service:";
+
+    private String invalidationChannel = "order-service:cache-invalidation";
+
+    private Tier users = new Tier(10_000, Duration.ofSeconds(30), Duration.ofMinutes(10));
+
+    private Tier orders = new Tier(10_000, Duration.ofMinutes(5), Duration.ofHours(1));
+
+    @Data
+    public static class Tier {
+
+        private int l1MaxEntries;
+
+        /** Bounds how stale an L1 entry gets if an invalidation message is lost. */
+        private Duration l1Ttl;
+
+        private Duration l2Ttl;
+
+        public Tier() {
+        }
+
+        public Tier(int l1MaxEntries, Duration l1Ttl, Duration l2Ttl) {
+            this.l1MaxEntries = l1MaxEntries;
+            this.l1Ttl = l1Ttl;
+            this.l2Ttl = l2Ttl;
+        }
+    }
+}
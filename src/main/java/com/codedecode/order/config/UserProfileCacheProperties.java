@@ -0,0 +1,49 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Memory-mapped cache of USER-SERVICE profiles, consulted before the remote lookup and filled on its way back.
+ * The file survives restarts, so a new instance starts warm.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.user-profile-cache")
+public class UserProfileCacheProperties {
+
+    private boolean enabled = true;
+
+    /** One file per instance; a second process opening the same file runs without the cache. */
+    private String file = "cache/user-profiles.bin";
+
+    /** How long a profile is served after it was fetched. */
+    private Duration ttl = Duration.ofMinutes(15);
+
+    /** Profiles held; rounded up to a whole number of 8-way buckets. Changing it starts an empty file. */
+    private int capacity = 65_536;
+
+    /** Bytes per entry, including a 22-byte header; profiles that do not fit are not cached. */
+    private int slotBytes = 256;
+}
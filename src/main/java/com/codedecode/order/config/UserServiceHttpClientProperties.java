@@ -0,0 +1,46 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool of the Apache HttpClient 5 behind the load-balanced {@code RestTemplate}. The client's own
+ * defaults (5 connections per instance, 25 in total) queue user lookups well below the service's concurrency
+ * limit, so the sizes are set here.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.user-service-http")
+public class UserServiceHttpClientProperties {
+
+    /** Pooled connections per USER-SERVICE instance. */
+    private int maxConnectionsPerRoute = 100;
+
+    private int maxConnectionsTotal = 400;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /** Longest wait for a pooled connection before the call fails. */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+}
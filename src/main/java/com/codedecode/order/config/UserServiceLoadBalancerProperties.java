@@ -0,0 +1,58 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.user-service-lb")
+public class UserServiceLoadBalancerProperties {
+
+    public enum Strategy { PEAK_EWMA, LEAST_OUTSTANDING }
+
+    /** Replaces Spring Cloud's round robin for USER-SERVICE. */
+    private boolean enabled = true;
+
+    private Strategy strategy = Strategy.PEAK_EWMA;
+
+    /** Time constant of the latency average; a latency peak is forgotten over a few of these. */
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /** Consecutive 5xx responses or I/O failures that eject an instance. */
+    private int failureThreshold = 5;
+
+    /** An instance whose average latency exceeds this multiple of its peers' median is ejected; 0 disables. */
+    private double latencyOutlierFactor = 3.0;
+
+    /** Latency outliers below this are tolerated, so a fleet of fast instances never ejects its slowest. */
+    private Duration minOutlierLatency = Duration.ofMillis(20);
+
+    /** Samples an instance needs before it can be ejected as a latency outlier. */
+    private int minOutlierSamples = 20;
+
+    private Duration ejectionTime = Duration.ofSeconds(30);
+
+    /** Never eject more than this share of known instances. */
+    private int maxEjectedPercent = 50;
+}
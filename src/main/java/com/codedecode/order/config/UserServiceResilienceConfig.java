@@ -0,0 +1,52 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.resilience.CircuitBreaker;
+import com.codedecode.order.resilience.OutboundGuard;
+import com.codedecode.order.service.UserLookupGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order.user-service-resilience", name = "enabled", matchIfMissing = true)
+public class UserServiceResilienceConfig {
+
+    @Bean(destroyMethod = "close")
+    public OutboundGuard userServiceGuard(UserServiceResilienceProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(properties.getFailureRateThreshold(),
+                properties.getSlidingWindowSize(), properties.getMinimumCalls(), properties.getOpenDuration().toNanos(),
+                properties.getHalfOpenCalls(), System::nanoTime);
+        // a 4xx means the service answered; the order request itself is wrong
+        return new OutboundGuard("user-service", circuitBreaker, properties.getMaxConcurrentCalls(),
+                properties.getMaxWait().toNanos(), properties.getTimeout().toNanos(),
+                HttpClientErrorException.class::isInstance, meterRegistry);
+    }
+
+    @Bean
+    public UserLookupGuard userLookupGuard(OutboundGuard userServiceGuard, UserServiceResilienceProperties properties,
+                                           MeterRegistry meterRegistry) {
+        return new UserLookupGuard(userServiceGuard, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker, bulkhead and timeout around the USER-SERVICE lookup of {@code saveOrder}.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.user-service-resilience")
+public class UserServiceResilienceProperties {
+
+    public enum Fallback { NONE, PARTIAL, CACHED }
+
+    private boolean enabled = true;
+
+    /** Upper bound of one lookup; a shorter request deadline wins. */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /** Lookups allowed in flight at once. */
+    private int maxConcurrentCalls = 25;
+
+    /** How long a lookup may wait for a bulkhead permit. */
+    private Duration maxWait = Duration.ofMillis(100);
+
+    /** Failure percentage over the sliding window that opens the breaker. */
+    private int failureRateThreshold = 50;
+
+    /** Outcomes of the most recent calls the failure rate is computed over. */
+    private int slidingWindowSize = 20;
+
+    /** Calls needed in the window before the breaker may open. */
+    private int minimumCalls = 10;
+
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    /** Trial calls let through while half-open; all must succeed to close again. */
+    private int halfOpenCalls = 3;
+
+    /**
+     * What a rejected or failed lookup returns: NONE fails the order, PARTIAL returns a user with only the id,
+     * CACHED returns the last successful lookup of that user and otherwise the partial one. Both degrade the
+     * order silently, so they have to be opted into.
+     */
+    private Fallback fallback = Fallback.NONE;
+
+    /** Users remembered for the CACHED fallback. */
+    private int cacheSize = 10_000;
+}
@@ -0,0 +1,53 @@
+package com.codedecode.order.config;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Start-up warm-up that drives synthetic orders through the hot code paths before the instance reports
+ * ready and switches its Eureka status to UP.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    /** Stop after this many synthetic orders. */
+    private int maxIterations = 10_000;
+
+    /** Never finish before this many, even when the latency target is already met. */
+    private int minIterations = 1_000;
+
+    /** Finish early once a batch's p99 drops to this value; unset means iteration count only. */
+    private Duration targetP99Latency;
+
+    private int batchSize = 200;
+
+    private int itemsPerOrder = 3;
+
+    /** Hard upper bound on warm-up time; the instance goes UP when it is reached. */
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,61 @@
+package com.codedecode.order.controller;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.DurabilityProperties;
+import com.codedecode.order.repo.DurabilityTier;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@Component
+public class DurabilityTierResolver {
+
+    @Autowired
+    DurabilityProperties durabilityProperties;
+
+    /**
+     * @return the tier for this request, or {@code null} for the client's default write concern
+     */
+    public DurabilityTier resolve(HttpServletRequest request) {
+        String clientClass = request.getHeader(durabilityProperties.getClientClassHeader());
+        if (clientClass != null && fromTrustedGateway(request)) {
+            DurabilityTier tier = durabilityProperties.getClientClasses().get(clientClass);
+            if (tier != null) {
+                return tier;
+            }
+        }
+        return durabilityProperties.getEndpoints().getOrDefault(request.getRequestURI(), durabilityProperties.getDefaultTier());
+    }
+
+    /**
+     * The client class can downgrade a write to unjournaled, so only the gateway may choose it.
+     */
+    private boolean fromTrustedGateway(HttpServletRequest request) {
+        String expected = durabilityProperties.getGatewayToken();
+        String presented = request.getHeader(durabilityProperties.getGatewayTokenHeader());
+        return expected != null && !expected.isEmpty() && presented != null
+                && MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
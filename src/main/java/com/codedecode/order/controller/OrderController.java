@@ -22,25 +22,57 @@ package com.codedecode.order.controller;
 
 import com.codedecode.order.dto.OrderDTO;
 import com.codedecode.order.dto.OrderDTOFromFE;
+import com.codedecode.order.limiter.OrderRateLimiter;
 import com.codedecode.order.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/order")
 @CrossOrigin
 public class OrderController {
 
+    private static final int MAX_BATCH_IDS = 100;
+
     @Autowired
     OrderService orderService;
 
+    @Autowired
+    OrderRateLimiter orderRateLimiter;
+
+    @Autowired
+    DurabilityTierResolver durabilityTierResolver;
+
     @PostMapping("/saveOrder")
-    public ResponseEntity<OrderDTO> saveOrder(@RequestBody OrderDTOFromFE orderDetails)
+    public ResponseEntity<OrderDTO> saveOrder(@RequestBody OrderDTOFromFE orderDetails, HttpServletRequest request)
     {
-        OrderDTO orderSavedInDB = orderService.saveOrderInDb(orderDetails);
+        if (orderDetails.getUserId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId is required");
+        }
+        orderRateLimiter.check(orderDetails);
+        OrderDTO orderSavedInDB = orderService.saveOrderInDb(orderDetails, durabilityTierResolver.resolve(request));
         return new ResponseEntity<>(orderSavedInDB, HttpStatus.CREATED);
     }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderDTO> getOrder(@PathVariable int orderId)
+    {
+        return ResponseEntity.ok(orderService.findOrder(orderId));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<OrderDTO>> getOrders(@RequestParam List<Integer> ids)
+    {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_IDS + " ids per request");
+        }
+        return ResponseEntity.ok(orderService.findOrders(ids));
+    }
 }
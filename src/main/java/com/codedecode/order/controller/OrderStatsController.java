@@ -0,0 +1,60 @@
+package com.codedecode.order.controller;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.RestaurantStatsDTO;
+import com.codedecode.order.dto.TopItem;
+import com.codedecode.order.stats.RestaurantStatsTracker;
+import com.codedecode.order.stats.TopItemsTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/order/stats")
+public class OrderStatsController {
+
+    @Autowired
+    TopItemsTracker topItemsTracker;
+
+    @Autowired
+    RestaurantStatsTracker restaurantStatsTracker;
+
+    @GetMapping("/restaurant/{restaurantId}/top-items")
+    public ResponseEntity<List<TopItem>> getTopItems(@PathVariable int restaurantId,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be at least 1");
+        }
+        return ResponseEntity.ok(topItemsTracker.topItems(restaurantId, limit));
+    }
+
+    @GetMapping("/restaurant/{restaurantId}/summary")
+    public ResponseEntity<RestaurantStatsDTO> getSummary(@PathVariable int restaurantId,
+                                                         @RequestParam(defaultValue = "24h") Duration window) {
+        return ResponseEntity.ok(restaurantStatsTracker.stats(restaurantId, window));
+    }
+}
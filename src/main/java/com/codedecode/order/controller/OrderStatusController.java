@@ -0,0 +1,59 @@
+package com.codedecode.order.controller;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.OrderStatusUpdateDTO;
+import com.codedecode.order.entity.OrderEvent;
+import com.codedecode.order.entity.OrderState;
+import com.codedecode.order.service.OrderLifecycleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/order")
+public class OrderStatusController {
+
+    @Autowired
+    OrderLifecycleService orderLifecycleService;
+
+    @GetMapping("/{orderId}/status")
+    public ResponseEntity<OrderState> getStatus(@PathVariable int orderId) {
+        return ResponseEntity.ok(orderLifecycleService.currentState(orderId));
+    }
+
+    @PostMapping("/{orderId}/status")
+    public ResponseEntity<OrderState> updateStatus(@PathVariable int orderId, @RequestBody OrderStatusUpdateDTO update) {
+        if (update.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status is required");
+        }
+        return ResponseEntity.ok(orderLifecycleService.transition(orderId, update.getStatus()));
+    }
+
+    @GetMapping("/{orderId}/events")
+    public ResponseEntity<List<OrderEvent>> getEvents(@PathVariable int orderId) {
+        return ResponseEntity.ok(orderLifecycleService.history(orderId));
+    }
+}
@@ -0,0 +1,45 @@
+package com.codedecode.order.controller;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.UserOrderSummary;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/order")
+public class OrderSummaryController {
+
+    @Autowired
+    UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<UserOrderSummary> getSummary(@PathVariable int userId) {
+        return ResponseEntity.ok(userOrderSummaryRepository.findByUserId(userId)
+                .orElseGet(() -> {
+                    UserOrderSummary empty = new UserOrderSummary();
+                    empty.setUserId(userId);
+                    return empty;
+                }));
+    }
+}
@@ -0,0 +1,52 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Last order {@code _id} written to a finished export file. The next run only reads orders inserted after it.
+ * {@code lastOrderId} is the order id of that order, kept for reporting and for checkpoints written before
+ * {@code lastId} existed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("order_export_checkpoint")
+public class ExportCheckpoint {
+
+    @Id
+    private String id;
+
+    private int lastOrderId;
+    private ObjectId lastId;
+    private String lastFile;
+    private long exportedOrders;
+    private long exportedRows;
+    private Instant updatedAt;
+}
@@ -0,0 +1,55 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress of one bulk import, keyed by file path, size and modification time. {@code startedChunks} maps a
+ * chunk still being written to the first order id reserved for it, so a retry can remove a partial write.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("order_import_checkpoint")
+public class ImportCheckpoint {
+
+    @Id
+    private String id;
+
+    private String file;
+    private long chunkBytes;
+    private List<Integer> doneChunks = new ArrayList<>();
+    private Map<String, Integer> startedChunks = new HashMap<>();
+    private long imported;
+    private long rejected;
+    private Instant updatedAt;
+}
@@ -0,0 +1,48 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One entry of an order's append-only stream. {@code seq} starts at 1 and is unique per order, so two
+ * writers racing on the same order cannot both append.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("order_event")
+public class OrderEvent {
+
+    @Id
+    private String id;
+
+    private Integer orderId;
+    private int seq;
+    private OrderStatus status;
+    private Instant occurredAt;
+}
@@ -0,0 +1,62 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Current state of an order folded from its events. {@code version} is the {@code seq} of the last event
+ * applied. The same shape is stored in {@code order_snapshot}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("order_state")
+public class OrderState {
+
+    @Id
+    private Integer orderId;
+
+    private OrderStatus status;
+    private int version;
+    private Instant placedAt;
+    private Instant updatedAt;
+
+    public static OrderState initial(int orderId) {
+        return new OrderState(orderId, null, 0, null, null);
+    }
+
+    public OrderState apply(OrderEvent event) {
+        if (event.getStatus() == OrderStatus.PLACED) {
+            placedAt = event.getOccurredAt();
+        }
+        status = event.getStatus();
+        version = event.getSeq();
+        updatedAt = event.getOccurredAt();
+        return this;
+    }
+}
@@ -0,0 +1,41 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+public enum OrderStatus {
+
+    PLACED,
+    ACCEPTED,
+    PREPARING,
+    OUT_FOR_DELIVERY,
+    DELIVERED,
+    CANCELLED;
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case PLACED -> next == ACCEPTED || next == CANCELLED;
+            case ACCEPTED -> next == PREPARING || next == CANCELLED;
+            case PREPARING -> next == OUT_FOR_DELIVERY;
+            case OUT_FOR_DELIVERY -> next == DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSummaryEntry {
+
+    private Integer orderId;
+    private String restaurantName;
+    private int itemCount;
+    private double total;
+
+    public static OrderSummaryEntry of(Order order) {
+        int itemCount = 0;
+        double total = 0;
+        if (order.getFoodItemsList() != null) {
+            for (FoodItemsDTO item : order.getFoodItemsList()) {
+                int quantity = item.getQuantity() == null ? 1 : item.getQuantity();
+                itemCount += quantity;
+                if (item.getPrice() != null) {
+                    total += item.getPrice().doubleValue() * quantity;
+                }
+            }
+        }
+        String restaurantName = order.getRestaurant() == null ? null : order.getRestaurant().getName();
+        return new OrderSummaryEntry(order.getOrderId(), restaurantName, itemCount, total);
+    }
+}
@@ -0,0 +1,55 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Serialized customer and order-value sketches of one restaurant, for one time bucket, written by one
+ * instance. Instances merge each other's documents to get a service-wide view.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("restaurant_sketch")
+public class RestaurantSketch {
+
+    @Id
+    private String id;
+
+    private Integer restaurantId;
+    private String instanceId;
+    private long epoch;
+    private long bucketMillis;
+    private byte[] customers;
+    private byte[] orderValues;
+    private Instant updatedAt;
+
+    public static String id(int restaurantId, String instanceId, long epoch) {
+        return restaurantId + ":" + instanceId + ":" + epoch;
+    }
+}
@@ -0,0 +1,47 @@
+package com.codedecode.order.entity;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read model for a user's order history: the most recent orders, newest first, in one document keyed by
+ * user id. Maintained asynchronously from the save path and rebuildable from {@code order}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("user_order_summary")
+public class UserOrderSummary {
+
+    @Id
+    private Integer userId;
+
+    private List<OrderSummaryEntry> recentOrders = new ArrayList<>();
+    private long orderCount;
+}
@@ -0,0 +1,78 @@
+package com.codedecode.order.export;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ExportProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.export", name = "enabled")
+public class OrderExportJob {
+
+    @Autowired
+    ExportProperties exportProperties;
+
+    @Autowired
+    OrderExporter orderExporter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        long interval = exportProperties.getInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("order-export").factory());
+        scheduler.scheduleWithFixedDelay(this::runSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void runSafely() {
+        try {
+            ExportResult result = orderExporter.export();
+            meterRegistry.counter("order.export.rows").increment(result.rows());
+            if (!result.files().isEmpty()) {
+                log.info("Exported {} orders ({} rows) up to order {} into {}",
+                        result.orders(), result.rows(), result.lastOrderId(), result.files());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Order export failed; will resume from the last checkpoint next run", e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.codedecode.order.export;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ExportProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.entity.ExportCheckpoint;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.repo.ExportCheckpointRepo;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.mongodb.client.MongoCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes orders to Arrow IPC files, one row per food item. Each run streams the orders inserted after the
+ * checkpointed {@code _id} through a cursor and reuses one set of vectors for every record batch, so off-heap
+ * memory stays at roughly one batch regardless of how many orders are exported. Following {@code _id} rather than
+ * {@code orderId} keeps orders whose id was allocated long before their insert, such as imports, from being
+ * skipped. Documents without an int {@code orderId} and {@code null} items are skipped and counted rather than
+ * failing the run, which would otherwise stop at the same document every time.
+ */
+@Slf4j
+@Component
+public class OrderExporter {
+
+    public static final String CHECKPOINT_ID = "orders";
+
+    public static final Schema SCHEMA = new Schema(List.of(
+            Field.notNullable("order_id", new ArrowType.Int(32, true)),
+            Field.nullable("user_id", new ArrowType.Int(32, true)),
+            Field.nullable("restaurant_id", new ArrowType.Int(32, true)),
+            Field.notNullable("item_id", new ArrowType.Int(32, true)),
+            Field.nullable("item_name", ArrowType.Utf8.INSTANCE),
+            new Field("is_veg", FieldType.notNullable(ArrowType.Bool.INSTANCE), null),
+            Field.nullable("price", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+            Field.nullable("quantity", new ArrowType.Int(32, true))));
+
+    @Autowired
+    ExportProperties exportProperties;
+
+    @Autowired
+    OrderCodecRepository orderCodecRepository;
+
+    @Autowired
+    ExportCheckpointRepo exportCheckpointRepo;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    Clock clock = Clock.systemUTC();
+
+    private final Codec<Order> orderCodec = OrderCodecRepository.ORDER_CODEC_REGISTRY.get(Order.class);
+
+    public ExportResult export() throws IOException {
+        ExportCheckpoint checkpoint = exportCheckpointRepo.findById(CHECKPOINT_ID)
+                .orElseGet(() -> new ExportCheckpoint(CHECKPOINT_ID, 0, null, null, 0, 0, null));
+        Path directory = Path.of(exportProperties.getDirectory());
+        Files.createDirectories(directory);
+        orderCodecRepository.ensureOrderIdIndex();
+        ObjectId createdBefore = new ObjectId(Date.from(clock.instant().minus(exportProperties.getSettle())));
+
+        List<Path> files = new ArrayList<>();
+        long orders = 0;
+        long rows = 0;
+        try (BufferAllocator allocator = new RootAllocator(exportProperties.getMemoryLimit().toBytes());
+             VectorSchemaRoot root = VectorSchemaRoot.create(SCHEMA, allocator);
+             MongoCursor<RawBsonDocument> cursor = orderCodecRepository.streamAfterId(checkpoint.getLastId(),
+                     checkpoint.getLastOrderId(), createdBefore, exportProperties.getCursorBatchSize())) {
+            for (FieldVector vector : root.getFieldVectors()) {
+                vector.setInitialCapacity(exportProperties.getBatchRows());
+            }
+            root.allocateNew();
+            while (cursor.hasNext()) {
+                ExportedFile file = writeFile(cursor, root, directory, checkpoint.getLastOrderId());
+                checkpoint.setLastId(file.lastId());
+                checkpoint.setLastOrderId(file.lastOrderId());
+                checkpoint.setLastFile(file.path().getFileName().toString());
+                checkpoint.setExportedOrders(checkpoint.getExportedOrders() + file.orders());
+                checkpoint.setExportedRows(checkpoint.getExportedRows() + file.rows());
+                checkpoint.setUpdatedAt(clock.instant());
+                exportCheckpointRepo.save(checkpoint);
+                files.add(file.path());
+                orders += file.orders();
+                rows += file.rows();
+            }
+        }
+        return new ExportResult(files, orders, rows, checkpoint.getLastOrderId());
+    }
+
+    /**
+     * Writes orders from the cursor until it is exhausted or the file holds {@code batchesPerFile} full batches.
+     * The file is only renamed into place once it is complete and synced.
+     */
+    private ExportedFile writeFile(MongoCursor<RawBsonDocument> cursor, VectorSchemaRoot root, Path directory,
+                                   int lastOrderId) throws IOException {
+        Path tmp = directory.resolve("orders.arrow.tmp");
+        int batchRows = exportProperties.getBatchRows();
+        Counter skippedOrders = meterRegistry.counter("order.export.skipped");
+        Counter skippedItems = meterRegistry.counter("order.export.skipped-items");
+        ObjectId firstId = null;
+        ObjectId lastId = null;
+        long orders = 0;
+        long rows = 0;
+        int batches = 0;
+        int row = 0;
+        try (FileChannel channel = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING);
+             ArrowFileWriter writer = new ArrowFileWriter(root, null, channel)) {
+            writer.start();
+            while (batches < exportProperties.getBatchesPerFile() && cursor.hasNext()) {
+                RawBsonDocument raw = cursor.next();
+                lastId = raw.getObjectId("_id").getValue();
+                if (firstId == null) {
+                    firstId = lastId;
+                }
+                if (!raw.isInt32("orderId")) {
+                    skippedOrders.increment();
+                    log.warn("Skipped order document {} without an int orderId", lastId);
+                    continue;
+                }
+                Order order = raw.decode(orderCodec);
+                orders++;
+                lastOrderId = order.getOrderId();
+                if (order.getFoodItemsList() == null) {
+                    continue;
+                }
+                for (FoodItemsDTO item : order.getFoodItemsList()) {
+                    if (item == null) {
+                        skippedItems.increment();
+                        continue;
+                    }
+                    setRow(root, row++, order, item);
+                    if (row == batchRows) {
+                        flush(root, writer, row);
+                        rows += row;
+                        row = 0;
+                        batches++;
+                    }
+                }
+            }
+            if (row > 0) {
+                flush(root, writer, row);
+                rows += row;
+            }
+            writer.end();
+            channel.force(true);
+        }
+        Path target = directory.resolve("orders-%s-%s.arrow".formatted(firstId.toHexString(), lastId.toHexString()));
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new ExportedFile(target, orders, rows, lastId, lastOrderId);
+    }
+
+    private static void flush(VectorSchemaRoot root, ArrowFileWriter writer, int rowCount) throws IOException {
+        root.setRowCount(rowCount);
+        writer.writeBatch();
+        for (FieldVector vector : root.getFieldVectors()) {
+            vector.reset();
+        }
+    }
+
+    private static void setRow(VectorSchemaRoot root, int row, Order order, FoodItemsDTO item) {
+        ((IntVector) root.getVector(0)).setSafe(row, order.getOrderId());
+        setInt((IntVector) root.getVector(1), row, order.getUserDTO() == null ? null : order.getUserDTO().getUserId());
+        setInt((IntVector) root.getVector(2), row, order.getRestaurant() == null ? null : order.getRestaurant().getId());
+        ((IntVector) root.getVector(3)).setSafe(row, item.getId());
+        VarCharVector itemName = (VarCharVector) root.getVector(4);
+        if (item.getItemName() == null) {
+            itemName.setNull(row);
+        } else {
+            itemName.setSafe(row, item.getItemName().getBytes(StandardCharsets.UTF_8));
+        }
+        ((BitVector) root.getVector(5)).setSafe(row, item.isVeg() ? 1 : 0);
+        Float8Vector price = (Float8Vector) root.getVector(6);
+        if (item.getPrice() == null) {
+            price.setNull(row);
+        } else {
+            price.setSafe(row, item.getPrice().doubleValue());
+        }
+        setInt((IntVector) root.getVector(7), row, item.getQuantity());
+    }
+
+    private static void setInt(IntVector vector, int row, Integer value) {
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value);
+        }
+    }
+
+    private record ExportedFile(Path path, long orders, long rows, ObjectId lastId, int lastOrderId) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.codedecode.order.hedge;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Every primary request deposits {@code ratio} of a token and every hedge withdraws one, so hedges stay
+ * within that share of traffic however slow the backend gets. At most {@code burst} tokens are banked.
+ */
+class HedgeBudget {
+
+    private final double ratio;
+    private final double burst;
+    private double tokens;
+
+    HedgeBudget(double ratio, double burst) {
+        this.ratio = ratio;
+        this.burst = burst;
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(burst, tokens + ratio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.codedecode.order.hedge;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+/**
+ * The last {@code capacity} latencies in a ring. The percentile is recomputed from a sorted copy at most every
+ * {@code capacity / 16} samples, which keeps the per-call cost to an array store.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final int recomputeEvery;
+    private long recorded;
+    private long sinceRecompute;
+    private double cachedQuantile = Double.NaN;
+    private long cachedValue;
+
+    LatencyWindow(int capacity) {
+        this.samples = new long[Math.max(1, capacity)];
+        this.recomputeEvery = Math.max(1, samples.length / 16);
+    }
+
+    synchronized void record(long nanos) {
+        samples[(int) (recorded++ % samples.length)] = nanos;
+        sinceRecompute++;
+    }
+
+    synchronized long count() {
+        return recorded;
+    }
+
+    /**
+     * @return the {@code q}-quantile of the window, or {@code -1} when empty
+     */
+    synchronized long quantile(double q) {
+        if (recorded == 0) {
+            return -1;
+        }
+        if (q != cachedQuantile || sinceRecompute >= recomputeEvery) {
+            int size = (int) Math.min(recorded, samples.length);
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            cachedValue = sorted[Math.clamp((long) Math.ceil(q * size) - 1, 0, size - 1)];
+            cachedQuantile = q;
+            sinceRecompute = 0;
+        }
+        return cachedValue;
+    }
+}
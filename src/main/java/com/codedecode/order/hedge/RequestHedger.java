@@ -0,0 +1,183 @@
+package com.codedecode.order.hedge;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.HedgingProperties;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Runs an idempotent call and, if it has not answered by the recent {@code percentile} latency, starts a second
+ * attempt. The first successful attempt wins and the other is cancelled by interrupting it: the attempt runs on a
+ * virtual thread, whose socket is closed on interrupt, so Apache HttpClient 5 aborts the exchange. A failure only
+ * surfaces once no attempt is left running.
+ * <p>
+ * Only the primary's latency feeds the window, since a hedge that wins says nothing about how long the primary
+ * takes. A primary cancelled before it finished contributes its elapsed time as a lower bound.
+ * <p>
+ * Both attempts get the same hedge key; sent as {@link #HEDGE_KEY_HEADER} it lets the load balancer put the
+ * hedge on a different instance than the primary.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.user-service-hedging", name = "enabled")
+public class RequestHedger {
+
+    public static final String HEDGE_KEY_HEADER = "X-Order-Hedge-Key";
+
+    @Autowired
+    HedgingProperties hedgingProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+    private ExecutorService executor;
+    LatencyWindow latencies;
+    private HedgeBudget budget;
+    private Counter hedgesSent;
+    private Counter hedgesWon;
+    private Counter budgetExhausted;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("request-hedge-", 0).factory());
+        latencies = new LatencyWindow(hedgingProperties.getWindow());
+        budget = new HedgeBudget(hedgingProperties.getBudgetPercent() / 100, hedgingProperties.getBudgetBurst());
+        hedgesSent = meterRegistry.counter("order.hedge.sent");
+        hedgesWon = meterRegistry.counter("order.hedge.won");
+        budgetExhausted = meterRegistry.counter("order.hedge.budget-exhausted");
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param attempt performs one attempt given the hedge key; must be safe to run twice concurrently
+     */
+    public <T> T call(Function<String, T> attempt) {
+        String hedgeKey = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        budget.deposit();
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> running = new ArrayList<>(2);
+        long start = System.nanoTime();
+        AtomicBoolean primaryRecorded = new AtomicBoolean();
+        Future<T> primary = completion.submit(snapshotFactory.captureAll().wrap(() -> {
+            try {
+                return attempt.apply(hedgeKey);
+            } finally {
+                recordPrimary(primaryRecorded, start);
+            }
+        }));
+        running.add(primary);
+        try {
+            Future<T> done = null;
+            long delay = hedgeDelayNanos();
+            if (delay >= 0) {
+                done = completion.poll(delay, TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    if (budget.tryWithdraw()) {
+                        running.add(completion.submit(snapshotFactory.captureAll().wrap(() -> attempt.apply(hedgeKey))));
+                        hedgesSent.increment();
+                    } else {
+                        budgetExhausted.increment();
+                    }
+                }
+            }
+            ExecutionException firstFailure = null;
+            for (int pending = running.size(); pending > 0; pending--) {
+                if (done == null) {
+                    done = completion.take();
+                }
+                try {
+                    T result = done.get();
+                    if (done != primary) {
+                        hedgesWon.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (firstFailure == null || done == primary) {
+                        firstFailure = e;
+                    }
+                }
+                done = null;
+            }
+            throw unwrap(firstFailure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a hedged call");
+        } finally {
+            // a primary still running is about to be cancelled; its latency was at least this long
+            recordPrimary(primaryRecorded, start);
+            for (Future<T> future : running) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void recordPrimary(AtomicBoolean recorded, long start) {
+        if (recorded.compareAndSet(false, true)) {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return how long to wait before hedging, or {@code -1} while there are too few samples
+     */
+    long hedgeDelayNanos() {
+        if (latencies.count() < hedgingProperties.getMinSamples()) {
+            return -1;
+        }
+        return Math.clamp(latencies.quantile(hedgingProperties.getPercentile()),
+                hedgingProperties.getMinDelay().toNanos(), hedgingProperties.getMaxDelay().toNanos());
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
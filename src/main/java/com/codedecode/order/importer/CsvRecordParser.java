@@ -0,0 +1,85 @@
+package com.codedecode.order.importer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One order per line with a header row:
+ * {@code userId,userName,address,city,restaurantId,restaurantName,restaurantCity,items}, where {@code items} is
+ * {@code id:name:price:quantity:veg} entries separated by {@code ;}. Fields are not quoted, so values must not
+ * contain {@code ,}, {@code ;} or {@code :}.
+ */
+final class CsvRecordParser implements RecordParser {
+
+    private static final int COLUMNS = 8;
+
+    @Override
+    public Order parse(ByteBuffer line) {
+        String[] columns = StandardCharsets.UTF_8.decode(line).toString().split(",", -1);
+        if (columns.length != COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns but got " + columns.length);
+        }
+        UserDTO user = new UserDTO();
+        user.setUserId(Integer.parseInt(columns[0].trim()));
+        user.setUserName(columns[1]);
+        user.setAddress(columns[2]);
+        user.setCity(columns[3]);
+
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(Integer.parseInt(columns[4].trim()));
+        restaurant.setName(columns[5]);
+        restaurant.setCity(columns[6]);
+
+        List<FoodItemsDTO> items = new ArrayList<>();
+        for (String entry : columns[7].split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] fields = entry.split(":", -1);
+            if (fields.length != 5) {
+                throw new IllegalArgumentException("Bad item '" + entry + "'");
+            }
+            items.add(new FoodItemsDTO(Integer.parseInt(fields[0].trim()), fields[1], null,
+                    Boolean.parseBoolean(fields[4].trim()), parsePrice(fields[2].trim()), restaurant.getId(),
+                    Integer.parseInt(fields[3].trim())));
+        }
+        return new Order(null, items, restaurant, user);
+    }
+
+    /** Same numeric types Jackson yields for the NDJSON format. */
+    private static Number parsePrice(String value) {
+        return value.indexOf('.') < 0 ? (Number) Integer.valueOf(value) : (Number) Double.valueOf(value);
+    }
+
+    @Override
+    public boolean hasHeader() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.codedecode.order.importer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.Order;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * One JSON object per line in the stored {@link Order} shape: {@code foodItemsList}, {@code restaurant} and
+ * {@code userDTO}. Any {@code orderId} in the file is replaced.
+ */
+final class NdjsonRecordParser implements RecordParser {
+
+    private final ObjectReader reader;
+
+    NdjsonRecordParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(Order.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public Order parse(ByteBuffer line) throws IOException {
+        return reader.readValue(new ByteBufferBackedInputStream(line));
+    }
+}
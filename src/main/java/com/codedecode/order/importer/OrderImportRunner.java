@@ -0,0 +1,70 @@
+package com.codedecode.order.importer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ImportProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Runs an import when {@code order.import.file} is set, e.g.
+ * {@code java -jar order.jar --order.import.file=orders.ndjson --spring.main.web-application-type=none --eureka.client.enabled=false}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.import", name = "file")
+public class OrderImportRunner implements ApplicationRunner {
+
+    @Autowired
+    ImportProperties importProperties;
+
+    @Autowired
+    OrderImporter orderImporter;
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int exitCode = 0;
+        try {
+            ImportResult result = orderImporter.importFile(Path.of(importProperties.getFile()));
+            log.info("Imported {} orders ({} rejected, {} of {} chunks already done) in {} at {} orders/s",
+                    result.imported(), result.rejected(), result.skippedChunks(), result.chunks(), result.elapsed(),
+                    Math.round(result.ordersPerSecond()));
+        } catch (Exception e) {
+            exitCode = 1;
+            log.error("Import of {} failed; rerun to resume from the last checkpoint", importProperties.getFile(), e);
+        }
+        if (importProperties.isExitWhenDone()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.codedecode.order.importer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ImportProperties;
+import com.codedecode.order.config.OrderSummaryProperties;
+import com.codedecode.order.entity.ImportCheckpoint;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.repo.ImportCheckpointRepository;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import com.codedecode.order.service.SequenceGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk import of legacy orders. The file is split into line-aligned chunks that are memory-mapped and parsed
+ * in parallel; each chunk reserves one block of order ids and is written as unordered bulk inserts, with a
+ * global cap on batches in flight so parsing cannot outrun Mongo.
+ * <p>
+ * A chunk is checkpointed as started, with its first id, before anything is inserted and as done after every
+ * batch is acknowledged. A restart skips done chunks and redoes started ones after deleting their id range,
+ * so every record is imported exactly once.
+ * <p>
+ * Imported orders bypass placement: their lifecycle state is created as PLACED on the first status read, and
+ * user summaries are rebuilt once after the import.
+ */
+@Slf4j
+@Component
+public class OrderImporter {
+
+    @Autowired
+    ImportProperties importProperties;
+
+    @Autowired
+    OrderCodecRepository orderCodecRepository;
+
+    @Autowired
+    SequenceGenerator sequenceGenerator;
+
+    @Autowired
+    ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @Autowired
+    OrderSummaryProperties orderSummaryProperties;
+
+    public ImportResult importFile(Path file) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        RecordParser parser = parserFor(file);
+        long chunkBytes = importProperties.getChunkSize().toBytes();
+        String checkpointId = file.toAbsolutePath() + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+        ImportCheckpoint checkpoint = importCheckpointRepository.findById(checkpointId).orElseGet(ImportCheckpoint::new);
+        if (checkpoint.getChunkBytes() != 0 && checkpoint.getChunkBytes() != chunkBytes) {
+            chunkBytes = checkpoint.getChunkBytes();
+            log.info("Resuming {} with its original chunk size of {} bytes", file, chunkBytes);
+        }
+        Set<Integer> done = new HashSet<>(checkpoint.getDoneChunks());
+        // retried chunks delete their id range first
+        orderCodecRepository.ensureOrderIdIndex();
+
+        Counter importedCounter = meterRegistry.counter("order.import.orders");
+        Counter rejectedCounter = meterRegistry.counter("order.import.rejected");
+        AtomicLong imported = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicInteger chunksDone = new AtomicInteger(done.size());
+
+        ExecutorService parsers = Executors.newFixedThreadPool(importProperties.getParserThreads(),
+                Thread.ofPlatform().name("order-import-parse-", 0).factory());
+        ExecutorService writers = Executors.newFixedThreadPool(importProperties.getWriterThreads(),
+                Thread.ofPlatform().name("order-import-write-", 0).factory());
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("order-import-progress").factory());
+        Semaphore inFlight = new Semaphore(importProperties.getMaxInFlightBatches());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = plan(channel, chunkBytes);
+            long interval = importProperties.getProgressInterval().toMillis();
+            progress.scheduleAtFixedRate(() -> log.info("Import of {}: {}/{} chunks, {} orders, {} rejected, {} orders/s",
+                    file.getFileName(), chunksDone.get(), chunks.size(), imported.get(), rejected.get(),
+                    Math.round(imported.get() * 1e9 / (System.nanoTime() - startNanos))), interval, interval, TimeUnit.MILLISECONDS);
+
+            String fileName = file.toAbsolutePath().toString();
+            long checkpointChunkBytes = chunkBytes;
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                if (done.contains(i)) {
+                    continue;
+                }
+                int chunk = i;
+                Integer retryBase = checkpoint.getStartedChunks().get(String.valueOf(chunk));
+                results.add(parsers.submit(() -> {
+                    ChunkResult result = importChunk(channel, chunks.get(chunk), chunk == 0 && parser.hasHeader(), parser,
+                            retryBase, checkpointId, fileName, checkpointChunkBytes, chunk, writers, inFlight);
+                    importCheckpointRepository.markDone(checkpointId, fileName, checkpointChunkBytes, chunk,
+                            result.imported(), result.rejected());
+                    imported.addAndGet(result.imported());
+                    rejected.addAndGet(result.rejected());
+                    importedCounter.increment(result.imported());
+                    rejectedCounter.increment(result.rejected());
+                    chunksDone.incrementAndGet();
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                await(result);
+            }
+            if (imported.get() > 0 && importProperties.isRebuildSummaries()) {
+                rebuildSummaries();
+            }
+            return new ImportResult(imported.get(), rejected.get(), chunks.size(), done.size(),
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+        } finally {
+            parsers.shutdownNow();
+            writers.shutdownNow();
+            progress.shutdownNow();
+        }
+    }
+
+    private ChunkResult importChunk(FileChannel channel, long[] range, boolean skipFirstLine, RecordParser parser,
+                                    Integer retryBase, String checkpointId, String fileName, long chunkBytes, int chunk,
+                                    ExecutorService writers, Semaphore inFlight) throws Exception {
+        MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, range[0], range[1] - range[0]);
+        List<Order> orders = new ArrayList<>();
+        int rejected = 0;
+        int lineStart = 0;
+        boolean skip = skipFirstLine;
+        int limit = data.limit();
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && data.get(i) != '\n') {
+                continue;
+            }
+            int lineEnd = i > lineStart && data.get(i - 1) == '\r' ? i - 1 : i;
+            if (lineEnd > lineStart && !skip) {
+                try {
+                    orders.add(parser.parse(data.slice(lineStart, lineEnd - lineStart)));
+                } catch (Exception e) {
+                    if (rejected++ < 3) {
+                        log.warn("Skipping bad record in chunk {} at byte {}: {}", chunk, range[0] + lineStart, e.getMessage());
+                    }
+                }
+            }
+            skip = false;
+            lineStart = i + 1;
+        }
+        if (orders.isEmpty()) {
+            return new ChunkResult(0, rejected);
+        }
+
+        int firstOrderId;
+        if (retryBase != null) {
+            firstOrderId = retryBase;
+            long removed = orderCodecRepository.deleteByOrderIdRange(firstOrderId, firstOrderId + orders.size());
+            log.info("Retrying chunk {}: removed {} orders from the interrupted attempt", chunk, removed);
+        } else {
+            firstOrderId = sequenceGenerator.allocateBlock(orders.size());
+            importCheckpointRepository.markStarted(checkpointId, fileName, chunkBytes, chunk, firstOrderId);
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            orders.get(i).setOrderId(firstOrderId + i);
+        }
+
+        List<Future<?>> batches = new ArrayList<>();
+        for (int from = 0; from < orders.size(); from += importProperties.getBatchSize()) {
+            List<Order> batch = orders.subList(from, Math.min(orders.size(), from + importProperties.getBatchSize()));
+            inFlight.acquire();
+            try {
+                batches.add(writers.submit(() -> {
+                    try {
+                        orderCodecRepository.insertMany(batch);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+        for (Future<?> batch : batches) {
+            await(batch);
+        }
+        return new ChunkResult(orders.size(), rejected);
+    }
+
+    private void rebuildSummaries() {
+        try {
+            userOrderSummaryRepository.rebuild(null, orderSummaryProperties.getRecentOrders());
+        } catch (RuntimeException e) {
+            log.warn("Imported orders are missing from user summaries until the next rebuild", e);
+        }
+    }
+
+    /**
+     * Splits the file into ranges of roughly {@code chunkBytes} that each end just after a newline.
+     */
+    static List<long[]> plan(FileChannel channel, long chunkBytes) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        long start = 0;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        while (start < size) {
+            long end = Math.min(size, start + chunkBytes);
+            while (end < size) {
+                probe.clear();
+                int read = channel.read(probe, end);
+                int newline = -1;
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        newline = i;
+                        break;
+                    }
+                }
+                if (newline >= 0) {
+                    end += newline + 1;
+                    break;
+                }
+                end += read;
+            }
+            chunks.add(new long[]{start, Math.min(end, size)});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private RecordParser parserFor(Path file) {
+        String format = importProperties.getFormat();
+        if ("auto".equalsIgnoreCase(format)) {
+            format = file.getFileName().toString().toLowerCase().endsWith(".csv") ? "csv" : "ndjson";
+        }
+        return switch (format.toLowerCase()) {
+            case "csv" -> new CsvRecordParser();
+            case "ndjson" -> new NdjsonRecordParser(objectMapper);
+            default -> throw new IllegalArgumentException("Unknown import format " + format);
+        };
+    }
+
+    private static void await(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record ChunkResult(int imported, int rejected) {
+    }
+}
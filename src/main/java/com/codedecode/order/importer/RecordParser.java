@@ -0,0 +1,38 @@
+package com.codedecode.order.importer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.Order;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Turns one input line (without its line terminator) into an {@link Order} without an id.
+ */
+interface RecordParser {
+
+    Order parse(ByteBuffer line) throws Exception;
+
+    /** Whether the first line of the file is a header to skip. */
+    default boolean hasHeader() {
+        return false;
+    }
+}
@@ -0,0 +1,144 @@
+package com.codedecode.order.jfr;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * One call of {@code OrderService.saveOrderInDb} with the time spent in each stage. Stage timings are only
+ * taken while a recording has the event enabled, so without one the cost is an allocation that escape
+ * analysis usually removes.
+ */
+@Name(OrderPlacementEvent.NAME)
+@Label("Order Placement")
+@Category({"Order Service", "Placement"})
+@Description("Order placement with per-stage timings")
+@StackTrace(false)
+@Threshold("20 ms")
+public class OrderPlacementEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.codedecode.order.OrderPlacement";
+
+    @Label("Order Id")
+    int orderId;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Durability Tier")
+    String durabilityTier;
+
+    @Label("Sequence")
+    @Timespan(Timespan.NANOSECONDS)
+    long sequence;
+
+    @Label("User Lookup")
+    @Timespan(Timespan.NANOSECONDS)
+    long userLookup;
+
+    @Label("Insert")
+    @Timespan(Timespan.NANOSECONDS)
+    long insert;
+
+    @Label("Lifecycle")
+    @Timespan(Timespan.NANOSECONDS)
+    long lifecycle;
+
+    @Label("Publish")
+    @Timespan(Timespan.NANOSECONDS)
+    long publish;
+
+    @Label("Outcome")
+    String outcome;
+
+    private transient long lapStart;
+
+    public static OrderPlacementEvent start(int itemCount, Object durabilityTier) {
+        OrderPlacementEvent event = new OrderPlacementEvent();
+        if (event.isEnabled()) {
+            event.itemCount = itemCount;
+            event.durabilityTier = durabilityTier == null ? null : durabilityTier.toString();
+            event.begin();
+            event.lapStart = System.nanoTime();
+        }
+        return event;
+    }
+
+    /**
+     * An event that never begins or commits, for placements that must stay out of recordings.
+     */
+    public static OrderPlacementEvent none() {
+        return new OrderPlacementEvent();
+    }
+
+    public void sequenceDone(int orderId) {
+        this.orderId = orderId;
+        sequence = lap();
+    }
+
+    public void userLookupDone() {
+        userLookup = lap();
+    }
+
+    public void insertDone() {
+        insert = lap();
+    }
+
+    public void lifecycleDone() {
+        lifecycle = lap();
+    }
+
+    public void publishDone() {
+        publish = lap();
+    }
+
+    /**
+     * Commits the event if it is enabled and slower than the threshold.
+     *
+     * @param failure the exception the placement ended with, or {@code null}
+     */
+    public void finish(Throwable failure) {
+        if (lapStart == 0) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            outcome = failure == null ? "OK" : failure.getClass().getSimpleName();
+            commit();
+        }
+    }
+
+    private long lap() {
+        if (lapStart == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long elapsed = now - lapStart;
+        lapStart = now;
+        return elapsed;
+    }
+}
@@ -0,0 +1,73 @@
+package com.codedecode.order.jfr;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One round trip to the sequence document in {@code SequenceGenerator}.
+ */
+@Name(SequenceAllocationEvent.NAME)
+@Label("Order Id Allocation")
+@Category({"Order Service", "Placement"})
+@StackTrace(false)
+@Threshold("10 ms")
+public class SequenceAllocationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.codedecode.order.SequenceAllocation";
+
+    @Label("First Id")
+    int firstId;
+
+    @Label("Block Size")
+    int blockSize;
+
+    @Label("Outcome")
+    String outcome;
+
+    private transient boolean started;
+
+    public static SequenceAllocationEvent start(int blockSize) {
+        SequenceAllocationEvent event = new SequenceAllocationEvent();
+        if (event.isEnabled()) {
+            event.blockSize = blockSize;
+            event.begin();
+            event.started = true;
+        }
+        return event;
+    }
+
+    public void finish(int firstId, Throwable failure) {
+        if (!started) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.firstId = firstId;
+            outcome = failure == null ? "OK" : failure.getClass().getSimpleName();
+            commit();
+        }
+    }
+}
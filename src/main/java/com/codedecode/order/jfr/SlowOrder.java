@@ -0,0 +1,28 @@
+package com.codedecode.order.jfr;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Instant;
+
+public record SlowOrder(int orderId, int itemCount, double totalMillis, double sequenceMillis,
+                        double userLookupMillis, double insertMillis, double lifecycleMillis, double publishMillis,
+                        String durabilityTier, String outcome, String thread, Instant at) {
+}
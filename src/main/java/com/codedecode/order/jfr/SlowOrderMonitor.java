@@ -0,0 +1,150 @@
+package com.codedecode.order.jfr;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.JfrProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Consumes {@link OrderPlacementEvent}s from an in-process JFR recording stream and keeps the slowest ones per
+ * minute, so the actuator can list the slowest placements of the last window without a recording file or an
+ * attached profiler.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.jfr", name = "streaming-enabled", matchIfMissing = true)
+public class SlowOrderMonitor {
+
+    private static final Comparator<SlowOrder> BY_DURATION = Comparator.comparingDouble(SlowOrder::totalMillis);
+    private static final long MINUTE_MILLIS = 60_000;
+
+    @Autowired
+    JfrProperties jfrProperties;
+
+    Clock clock = Clock.systemUTC();
+
+    private final Object lock = new Object();
+    private Minute[] minutes;
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        minutes = new Minute[(int) Math.max(1, jfrProperties.getWindow().toMinutes())];
+        stream = new RecordingStream();
+        stream.enable(OrderPlacementEvent.class).withThreshold(jfrProperties.getPlacementThreshold());
+        stream.enable(SequenceAllocationEvent.class).withThreshold(jfrProperties.getSequenceThreshold());
+        // events are handled as they arrive; no need to keep chunks around
+        stream.setMaxAge(Duration.ofMinutes(1));
+        stream.onEvent(OrderPlacementEvent.NAME, event -> offer(toSlowOrder(event)));
+        stream.onError(e -> log.warn("JFR order stream failed", e));
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * @return the slowest placements of the window, slowest first
+     */
+    public List<SlowOrder> slowest() {
+        long now = clock.millis() / MINUTE_MILLIS;
+        PriorityQueue<SlowOrder> merged = new PriorityQueue<>(BY_DURATION);
+        synchronized (lock) {
+            for (Minute minute : minutes) {
+                if (minute != null && now - minute.epochMinute < minutes.length) {
+                    for (SlowOrder order : minute.orders) {
+                        keep(merged, order);
+                    }
+                }
+            }
+        }
+        List<SlowOrder> result = new ArrayList<>(merged);
+        result.sort(BY_DURATION.reversed());
+        return result;
+    }
+
+    void offer(SlowOrder order) {
+        long epochMinute = order.at().toEpochMilli() / MINUTE_MILLIS;
+        int index = (int) Math.floorMod(epochMinute, (long) minutes.length);
+        synchronized (lock) {
+            Minute minute = minutes[index];
+            if (minute == null || minute.epochMinute != epochMinute) {
+                if (minute != null && minute.epochMinute > epochMinute) {
+                    return;
+                }
+                minute = new Minute(epochMinute);
+                minutes[index] = minute;
+            }
+            keep(minute.orders, order);
+        }
+    }
+
+    private void keep(PriorityQueue<SlowOrder> top, SlowOrder order) {
+        if (top.size() < jfrProperties.getSlowestOrders()) {
+            top.add(order);
+        } else if (BY_DURATION.compare(order, top.peek()) > 0) {
+            top.poll();
+            top.add(order);
+        }
+    }
+
+    private static SlowOrder toSlowOrder(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return new SlowOrder(event.getInt("orderId"), event.getInt("itemCount"), millis(event.getDuration()),
+                millis(event.getDuration("sequence")), millis(event.getDuration("userLookup")),
+                millis(event.getDuration("insert")), millis(event.getDuration("lifecycle")),
+                millis(event.getDuration("publish")), event.getString("durabilityTier"), event.getString("outcome"),
+                thread == null ? null : thread.getJavaName(), event.getStartTime());
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static final class Minute {
+        final long epochMinute;
+        final PriorityQueue<SlowOrder> orders = new PriorityQueue<>(BY_DURATION);
+
+        Minute(long epochMinute) {
+            this.epochMinute = epochMinute;
+        }
+    }
+}
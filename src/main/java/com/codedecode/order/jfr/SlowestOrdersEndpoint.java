@@ -0,0 +1,46 @@
+package com.codedecode.order.jfr;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowestorders}: the slowest order placements recently seen by {@link SlowOrderMonitor}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.jfr", name = "streaming-enabled", matchIfMissing = true)
+@Endpoint(id = "slowestorders")
+public class SlowestOrdersEndpoint {
+
+    @Autowired
+    SlowOrderMonitor slowOrderMonitor;
+
+    @ReadOperation
+    public List<SlowOrder> slowestOrders() {
+        return slowOrderMonitor.slowest();
+    }
+}
@@ -0,0 +1,79 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Sheds requests above the adaptive limit with {@code 429 Too Many Requests} and a {@code Retry-After}
+ * header before they reach Tomcat's worker queue behind the controller. 5xx responses and exceptions count
+ * as drops, 4xx responses are ignored, everything else is a latency sample.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final GradientConcurrencyLimiter limiter;
+    private final Counter rejected;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(GradientConcurrencyLimiter limiter, Counter rejected, Duration retryAfter) {
+        this.limiter = limiter;
+        this.rejected = rejected;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Optional<GradientConcurrencyLimiter.Listener> acquired = limiter.tryAcquire();
+        if (acquired.isEmpty()) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Concurrency limit exceeded");
+            return;
+        }
+        GradientConcurrencyLimiter.Listener listener = acquired.get();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            listener.onDropped();
+            throw e;
+        }
+        int status = response.getStatus();
+        if (status >= 500) {
+            listener.onDropped();
+        } else if (status >= 400) {
+            listener.onIgnore();
+        } else {
+            listener.onSuccess();
+        }
+    }
+}
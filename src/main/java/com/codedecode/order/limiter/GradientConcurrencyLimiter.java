@@ -0,0 +1,151 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to measured latency, after the gradient algorithm from Netflix
+ * concurrency-limits. Every sample compares the short-term RTT with an exponentially averaged long-term RTT;
+ * while they agree the limit grows by a queue allowance of {@code sqrt(limit)}, and once latency climbs the
+ * gradient {@code longRtt / shortRtt} pulls the limit down. Failed requests apply a multiplicative backoff.
+ * <p>
+ * Admission is a CAS on the in-flight counter; limit updates are rare enough to be synchronized.
+ */
+public class GradientConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private final double longWindowFactor;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                      int longWindow, double rttTolerance, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= maxLimit");
+        }
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+    }
+
+    /**
+     * Admits the caller if fewer than {@link #getLimit()} requests are in flight. Exactly one method of the
+     * returned listener must be called when the request ends.
+     */
+    public Optional<Listener> tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= (int) limit) {
+                return Optional.empty();
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return Optional.of(new Listener(current + 1, System.nanoTime()));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * longWindowFactor;
+        }
+        // Recover quickly when the long-term average is stuck above a faster new normal
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        double current = limit;
+        // Not saturated: the sample says nothing about how much more the backend could take
+        if (inflightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.clamp(rttTolerance * longRttNanos / rttNanos, 0.5, 1.0);
+        double estimate = current * gradient + Math.sqrt(current);
+        update(current * (1 - smoothing) + estimate * smoothing);
+    }
+
+    synchronized void onDropped() {
+        update(limit * backoffRatio);
+    }
+
+    private void update(double newLimit) {
+        limit = Math.clamp(newLimit, minLimit, maxLimit);
+    }
+
+    public final class Listener {
+
+        private final int inflightAtStart;
+        private final long startNanos;
+        private boolean released;
+
+        private Listener(int inflightAtStart, long startNanos) {
+            this.inflightAtStart = inflightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /** The request completed normally; its latency feeds the limit. */
+        public void onSuccess() {
+            if (release()) {
+                onSample(Math.max(1, System.nanoTime() - startNanos), inflightAtStart);
+            }
+        }
+
+        /** The request failed or timed out because of overload; the limit backs off. */
+        public void onDropped() {
+            if (release()) {
+                GradientConcurrencyLimiter.this.onDropped();
+            }
+        }
+
+        /** The request ended for reasons unrelated to load (e.g. a client error); no sample is taken. */
+        public void onIgnore() {
+            release();
+        }
+
+        private boolean release() {
+            if (released) {
+                return false;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            return true;
+        }
+    }
+}
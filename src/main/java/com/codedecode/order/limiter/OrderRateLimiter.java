@@ -0,0 +1,78 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RateLimitProperties;
+import com.codedecode.order.dto.OrderDTOFromFE;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Checks the per-user and per-restaurant buckets for an incoming order. A user token is spent even when the
+ * restaurant bucket then rejects the order; that keeps the check a single pass with no rollback.
+ */
+@Component
+public class OrderRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketTable userBuckets;
+    private final TokenBucketTable restaurantBuckets;
+    private final Counter userRejected;
+    private final Counter restaurantRejected;
+
+    public OrderRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        long origin = System.nanoTime();
+        this.userBuckets = buckets(properties.getUser(), origin);
+        this.restaurantBuckets = buckets(properties.getRestaurant(), origin);
+        this.userRejected = Counter.builder("order.ratelimit.rejected").tag("key", "user").register(meterRegistry);
+        this.restaurantRejected = Counter.builder("order.ratelimit.rejected").tag("key", "restaurant").register(meterRegistry);
+    }
+
+    public void check(OrderDTOFromFE orderDetails) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (orderDetails.getUserId() != null) {
+            long waitNanos = userBuckets.tryAcquire(orderDetails.getUserId(), now);
+            if (waitNanos > 0) {
+                userRejected.increment();
+                throw new RateLimitExceededException("user", orderDetails.getUserId(), Duration.ofNanos(waitNanos));
+            }
+        }
+        if (orderDetails.getRestaurant() != null) {
+            int restaurantId = orderDetails.getRestaurant().getId();
+            long waitNanos = restaurantBuckets.tryAcquire(restaurantId, now);
+            if (waitNanos > 0) {
+                restaurantRejected.increment();
+                throw new RateLimitExceededException("restaurant", restaurantId, Duration.ofNanos(waitNanos));
+            }
+        }
+    }
+
+    private static TokenBucketTable buckets(RateLimitProperties.KeyClass keyClass, long origin) {
+        return new TokenBucketTable(keyClass.getPermitsPerSecond(), keyClass.getBurst(), keyClass.getMaxKeys(), origin);
+    }
+}
@@ -0,0 +1,43 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String keyClass;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String keyClass, int key, Duration retryAfter) {
+        super("Rate limit exceeded for " + keyClass + " " + key);
+        this.keyClass = keyClass;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getKeyClass() {
+        return keyClass;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
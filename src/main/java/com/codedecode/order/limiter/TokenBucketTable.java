@@ -0,0 +1,147 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of lock-free token buckets keyed by int, for per-user and per-restaurant limits.
+ * <p>
+ * Each bucket is kept in its virtual-scheduling form (GCRA): only the theoretical arrival time (TAT) of
+ * the next conforming request is stored, which is equivalent to {@code burst} tokens refilled at
+ * {@code permitsPerSecond}. Key and TAT are packed into one {@code long} slot, so a check is a handful of
+ * probes plus a single CAS with no allocation.
+ * <p>
+ * The table is bounded: a key probes at most {@value #MAX_PROBES} slots, and when all of them hold other
+ * keys the most idle one is overwritten. A bucket whose TAT is in the past is full anyway, so evicting it
+ * loses nothing; evicting a busy bucket only gives that key a fresh full bucket.
+ */
+public class TokenBucketTable {
+
+    static final int MAX_PROBES = 4;
+
+    /** Resolution of the stored TAT relative to the emission interval. */
+    private static final int TICKS_PER_INTERVAL = 64;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long tickNanos;
+    private final int intervalTicks;
+    private final int toleranceTicks;
+    private final long originNanos;
+
+    public TokenBucketTable(double permitsPerSecond, int burst, int maxKeys, long originNanos) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("Require permitsPerSecond > 0, burst >= 1 and maxKeys >= 1");
+        }
+        long intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.tickNanos = Math.max(1, intervalNanos / TICKS_PER_INTERVAL);
+        this.intervalTicks = (int) Math.max(1, intervalNanos / tickNanos);
+        if ((long) intervalTicks * burst > Integer.MAX_VALUE / 4) {
+            throw new IllegalArgumentException("burst too large for the configured rate");
+        }
+        this.toleranceTicks = intervalTicks * burst;
+        // Power of two at least twice maxKeys, keeping probe sequences short at full occupancy
+        int capacity = Integer.highestOneBit(Math.max(MAX_PROBES, 2 * maxKeys - 1)) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.originNanos = originNanos;
+    }
+
+    /**
+     * Takes one token from {@code key}'s bucket.
+     *
+     * @return {@code 0} when the request conforms, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(int key, long nowNanos) {
+        // Ticks wrap around; all comparisons below are on int differences
+        int now = (int) ((nowNanos - originNanos) / tickNanos);
+        int home = mix(key) & mask;
+        while (true) {
+            int slot = -1;
+            int victim = -1;
+            int victimAhead = Integer.MAX_VALUE;
+            long observed = 0;
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int index = (home + probe) & mask;
+                long value = slots.get(index);
+                if (value == 0 || keyOf(value) == key) {
+                    slot = index;
+                    observed = value;
+                    break;
+                }
+                int ahead = tatOf(value) - now;
+                if (ahead < victimAhead) {
+                    victim = index;
+                    victimAhead = ahead;
+                    observed = value;
+                }
+            }
+            boolean fresh;
+            if (slot < 0) {
+                slot = victim;
+                fresh = true;
+            } else {
+                fresh = observed == 0;
+            }
+
+            int tat = now;
+            if (!fresh) {
+                int ahead = tatOf(observed) - now;
+                // A TAT beyond now + tolerance can only be a wrapped, long-idle entry
+                if (ahead > 0 && ahead <= toleranceTicks) {
+                    tat = tatOf(observed);
+                }
+            }
+            int next = tat + intervalTicks;
+            int excess = next - now - toleranceTicks;
+            if (excess > 0) {
+                return excess * tickNanos;
+            }
+            if (slots.compareAndSet(slot, observed, pack(key, next))) {
+                return 0;
+            }
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    private static long pack(int key, int tat) {
+        long packed = ((long) key << 32) | (tat & 0xFFFF_FFFFL);
+        // 0 marks an empty slot; nudge the one (key 0, tat 0) combination that would collide with it
+        return packed == 0 ? 1 : packed;
+    }
+
+    private static int keyOf(long value) {
+        return (int) (value >>> 32);
+    }
+
+    private static int tatOf(long value) {
+        return (int) value;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,108 @@
+package com.codedecode.order.loadbalancer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Observed load of one service instance: requests in flight, a peak-sensitive moving average of latency
+ * and the ejection state.
+ */
+class InstanceStats {
+
+    /** Cost of an instance that has requests in flight but no latency sample yet. */
+    static final double UNMEASURED_PENALTY = 1e12;
+
+    final AtomicInteger inflight = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastUpdateNanos;
+    private int samples;
+    private int consecutiveFailures;
+    private long ejectedUntilNanos;
+
+    /**
+     * Peak EWMA: a sample above the average replaces it outright, lower samples pull it down with a weight
+     * that grows with the time since the previous sample.
+     */
+    synchronized void observe(long latencyNanos, long nowNanos, long decayNanos) {
+        if (samples == 0 || latencyNanos > ewmaNanos) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(double) (nowNanos - lastUpdateNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        lastUpdateNanos = nowNanos;
+        samples++;
+    }
+
+    /**
+     * @return the number of failures in a row, including this one; {@code 0} after a success
+     */
+    synchronized int recordOutcome(boolean failed) {
+        consecutiveFailures = failed ? consecutiveFailures + 1 : 0;
+        return consecutiveFailures;
+    }
+
+    synchronized double ewmaNanos() {
+        return ewmaNanos;
+    }
+
+    synchronized int samples() {
+        return samples;
+    }
+
+    /**
+     * The average is decayed to {@code nowNanos} as if a zero-latency sample arrived, so an instance that
+     * stopped getting traffic after a peak is eventually probed again.
+     */
+    double peakEwmaCost(long nowNanos, long decayNanos) {
+        int active = inflight.get();
+        synchronized (this) {
+            if (samples == 0) {
+                return active == 0 ? 0 : UNMEASURED_PENALTY;
+            }
+            double decayed = ewmaNanos * Math.exp(-(double) Math.max(0, nowNanos - lastUpdateNanos) / decayNanos);
+            return decayed * (active + 1);
+        }
+    }
+
+    /**
+     * Returning instances start over with a clean history so they get probe traffic again.
+     */
+    synchronized boolean isEjected(long nowNanos) {
+        if (ejectedUntilNanos == 0) {
+            return false;
+        }
+        if (nowNanos - ejectedUntilNanos < 0) {
+            return true;
+        }
+        ejectedUntilNanos = 0;
+        ewmaNanos = 0;
+        samples = 0;
+        consecutiveFailures = 0;
+        return false;
+    }
+
+    synchronized void eject(long untilNanos) {
+        ejectedUntilNanos = untilNanos == 0 ? 1 : untilNanos;
+    }
+}
@@ -0,0 +1,269 @@
+package com.codedecode.order.loadbalancer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.UserServiceLoadBalancerProperties;
+import com.codedecode.order.hedge.RequestHedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks the cheaper of two random instances (power of two choices), where cost is either the peak EWMA latency
+ * times outstanding requests or just the outstanding requests. It is also the load balancer lifecycle for its
+ * service, which is how it learns per-instance latency, in-flight counts and failures.
+ * <p>
+ * Instances are ejected for {@code ejectionTime} after {@code failureThreshold} consecutive failures, or when
+ * their average latency is an outlier against the median of their peers; at most {@code maxEjectedPercent}
+ * of known instances are out at once, and if every candidate is ejected all are used.
+ * <p>
+ * Requests carrying the same {@link RequestHedger#HEDGE_KEY_HEADER} are spread over different instances, so a
+ * hedge never lands on the instance its primary is waiting on. An attempt the hedger cancelled because the other
+ * one answered first ends as a failure in the lifecycle; it is counted as a latency observation instead, since its
+ * instance was slow rather than broken, and its elapsed time is a lower bound of that latency.
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> instances;
+    private final String serviceId;
+    private final UserServiceLoadBalancerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    /** Hedge key to the instance its first attempt went to, while that attempt is in flight. */
+    private final Map<String, String> hedgeAssignments = new ConcurrentHashMap<>();
+
+    LongSupplier nanoClock = System::nanoTime;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> instances, String serviceId,
+                                    UserServiceLoadBalancerProperties properties, MeterRegistry meterRegistry) {
+        this.instances = instances;
+        this.serviceId = serviceId;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = instances.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        String hedgeKey = hedgeKey(request);
+        return supplier.get(request).next().map(available -> choose(available, hedgeKey));
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> available) {
+        return choose(available, null);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> available, String hedgeKey) {
+        if (available.isEmpty()) {
+            return new EmptyResponse();
+        }
+        String hedgedInstance = hedgeKey == null ? null : hedgeAssignments.remove(hedgeKey);
+        long now = nanoClock.getAsLong();
+        List<ServiceInstance> candidates = new ArrayList<>(available.size());
+        for (ServiceInstance instance : available) {
+            if (!stats(instance).isEjected(now) && !key(instance).equals(hedgedInstance)) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = available;
+        }
+        ServiceInstance chosen = candidates.size() == 1 ? candidates.get(0) : powerOfTwoChoices(candidates, now);
+        if (hedgeKey != null && hedgedInstance == null) {
+            hedgeAssignments.put(hedgeKey, key(chosen));
+        }
+        return new DefaultResponse(chosen);
+    }
+
+    private ServiceInstance powerOfTwoChoices(List<ServiceInstance> candidates, long now) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return cost(b, now) < cost(a, now) ? b : a;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || lbResponse.getServer() == null) {
+            return;
+        }
+        stats(lbResponse.getServer()).inflight.incrementAndGet();
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(nanoClock.getAsLong());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completion) {
+        Response<ServiceInstance> lbResponse = completion.getLoadBalancerResponse();
+        if (completion.status() == CompletionContext.Status.DISCARD || lbResponse == null || lbResponse.getServer() == null) {
+            return;
+        }
+        ServiceInstance instance = lbResponse.getServer();
+        String hedgeKey = hedgeKey(completion.getLoadBalancerRequest());
+        if (hedgeKey != null) {
+            hedgeAssignments.remove(hedgeKey, key(instance));
+        }
+        InstanceStats instanceStats = stats(instance);
+        instanceStats.inflight.decrementAndGet();
+        long now = nanoClock.getAsLong();
+        boolean cancelled = hedgeKey != null && isCancelled(completion);
+        boolean failed = !cancelled && (completion.status() == CompletionContext.Status.FAILED
+                || completion.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+        if (!failed && completion.getLoadBalancerRequest().getContext() instanceof TimedRequestContext timed
+                && timed.getRequestStartTime() != 0) {
+            instanceStats.observe(now - timed.getRequestStartTime(), now, properties.getDecayTime().toNanos());
+        }
+        if (cancelled) {
+            // neither a success nor a failure, so the consecutive failure count is left as it was
+            if (isLatencyOutlier(instanceStats, now)) {
+                eject(instance, instanceStats, now, "latency outlier");
+            }
+        } else if (instanceStats.recordOutcome(failed) >= properties.getFailureThreshold()) {
+            eject(instance, instanceStats, now, "consecutive failures");
+        } else if (!failed && isLatencyOutlier(instanceStats, now)) {
+            eject(instance, instanceStats, now, "latency outlier");
+        }
+    }
+
+    /**
+     * A hedge attempt is cancelled by interrupting its thread; the blocked socket is closed and the lifecycle runs
+     * on that same thread with the interrupt status still set.
+     */
+    private static boolean isCancelled(CompletionContext<Object, ServiceInstance, Object> completion) {
+        if (completion.status() != CompletionContext.Status.FAILED) {
+            return false;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = completion.getThrowable(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException || cause instanceof ClosedByInterruptException
+                    || cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double cost(ServiceInstance instance, long now) {
+        InstanceStats instanceStats = stats(instance);
+        return properties.getStrategy() == UserServiceLoadBalancerProperties.Strategy.LEAST_OUTSTANDING
+                ? instanceStats.inflight.get()
+                : instanceStats.peakEwmaCost(now, properties.getDecayTime().toNanos());
+    }
+
+    private boolean isLatencyOutlier(InstanceStats candidate, long now) {
+        double factor = properties.getLatencyOutlierFactor();
+        double ewma = candidate.ewmaNanos();
+        if (factor <= 0 || candidate.samples() < properties.getMinOutlierSamples()
+                || ewma < properties.getMinOutlierLatency().toNanos()) {
+            return false;
+        }
+        double[] peers = stats.values().stream()
+                .filter(peer -> peer != candidate && !peer.isEjected(now) && peer.samples() > 0)
+                .mapToDouble(InstanceStats::ewmaNanos)
+                .sorted()
+                .toArray();
+        if (peers.length == 0) {
+            return false;
+        }
+        return ewma > factor * median(peers);
+    }
+
+    private void eject(ServiceInstance instance, InstanceStats instanceStats, long now, String reason) {
+        synchronized (stats) {
+            if (instanceStats.isEjected(now)) {
+                return;
+            }
+            long ejected = stats.values().stream().filter(other -> other.isEjected(now)).count();
+            if ((ejected + 1) * 100 > (long) properties.getMaxEjectedPercent() * stats.size()) {
+                return;
+            }
+            instanceStats.eject(now + properties.getEjectionTime().toNanos());
+        }
+        meterRegistry.counter("order.loadbalancer.ejections", "service", serviceId, "reason", reason).increment();
+        log.warn("Ejecting {} instance {} for {} ({})", serviceId, key(instance), properties.getEjectionTime(), reason);
+    }
+
+    private static String hedgeKey(Request<?> request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null && context.getClientRequest().getHeaders() != null) {
+            return context.getClientRequest().getHeaders().getFirst(RequestHedger.HEDGE_KEY_HEADER);
+        }
+        return null;
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> new InstanceStats());
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static double median(double[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
@@ -0,0 +1,101 @@
+package com.codedecode.order.mongo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.mongodb.client.MongoClient;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@code explain} for slow queries on a single background thread, at most {@code perMinute} times a
+ * minute. Explains that do not fit are skipped rather than queued, and a failed explain only leaves the plan
+ * empty.
+ */
+@Slf4j
+public class CommandExplainer implements AutoCloseable {
+
+    private static final int MAX_PLAN_CHARS = 16 * 1024;
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Supplier<MongoClient> mongoClient;
+    private final int perMinute;
+    private final ThreadPoolExecutor executor;
+
+    private long windowStart = System.nanoTime();
+    private int inWindow;
+
+    public CommandExplainer(Supplier<MongoClient> mongoClient, int perMinute) {
+        this.mongoClient = mongoClient;
+        this.perMinute = perMinute;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(perMinute),
+                Thread.ofPlatform().daemon().name("order-mongo-explain").factory());
+    }
+
+    public void explainLater(String database, BsonDocument command, SlowCommand slow) {
+        if (!tryAcquire()) {
+            return;
+        }
+        try {
+            executor.execute(() -> slow.setExplain(explain(database, command)));
+        } catch (RejectedExecutionException e) {
+            // queue full; this one goes without a plan
+        }
+    }
+
+    String explain(String database, BsonDocument command) {
+        try {
+            BsonDocument explain = new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner"));
+            Document plan = mongoClient.get().getDatabase(database).runCommand(explain);
+            Object queryPlanner = plan.get("queryPlanner");
+            String json = queryPlanner instanceof Document document ? document.toJson() : plan.toJson();
+            return json.length() > MAX_PLAN_CHARS ? json.substring(0, MAX_PLAN_CHARS) + "..." : json;
+        } catch (RuntimeException e) {
+            log.debug("explain failed for {}", command, e);
+            return "explain failed: " + e.getMessage();
+        }
+    }
+
+    private synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (now - windowStart >= MINUTE_NANOS) {
+            windowStart = now;
+            inWindow = 0;
+        }
+        if (inWindow >= perMinute) {
+            return false;
+        }
+        inWindow++;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
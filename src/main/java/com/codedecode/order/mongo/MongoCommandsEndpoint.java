@@ -0,0 +1,60 @@
+package com.codedecode.order.mongo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.MongoDiagnosticsProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/mongocommands}: the slow-command log, most recent first. {@code DELETE} clears it.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.mongo-diagnostics", name = "enabled", matchIfMissing = true)
+@Endpoint(id = "mongocommands")
+public class MongoCommandsEndpoint {
+
+    @Autowired
+    SlowCommandLog slowCommandLog;
+
+    @Autowired
+    MongoDiagnosticsProperties mongoDiagnosticsProperties;
+
+    @ReadOperation
+    public Map<String, Object> slowCommands() {
+        List<SlowCommand> entries = slowCommandLog.entries();
+        return Map.of("thresholdMillis", mongoDiagnosticsProperties.getSlowThreshold().toMillis(),
+                "explainEnabled", mongoDiagnosticsProperties.isExplainEnabled(),
+                "slowCommands", entries);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowCommandLog.clear();
+    }
+}
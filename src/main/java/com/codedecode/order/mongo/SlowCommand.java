@@ -0,0 +1,59 @@
+package com.codedecode.order.mongo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * One entry of the slow-command log. The command is kept without write payloads; {@code explain} is filled in
+ * later when explain capture is enabled.
+ */
+@Getter
+public class SlowCommand {
+
+    private final Instant at;
+    private final String database;
+    private final String collection;
+    private final String commandName;
+    private final double millis;
+    private final String outcome;
+    private final int statements;
+    private final String command;
+    private volatile String explain;
+
+    public SlowCommand(Instant at, String database, String collection, String commandName, double millis,
+                       String outcome, int statements, String command) {
+        this.at = at;
+        this.database = database;
+        this.collection = collection;
+        this.commandName = commandName;
+        this.millis = millis;
+        this.outcome = outcome;
+        this.statements = statements;
+        this.command = command;
+    }
+
+    void setExplain(String explain) {
+        this.explain = explain;
+    }
+}
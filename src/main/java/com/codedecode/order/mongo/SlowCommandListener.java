@@ -0,0 +1,173 @@
+package com.codedecode.order.mongo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts driver commands slower than the threshold into a {@link SlowCommandLog} and hands eligible queries to
+ * the {@link CommandExplainer}. Latency histograms come from Spring Boot's {@code mongodb.driver.commands}
+ * timer; this listener only keeps what a histogram cannot, the command itself.
+ * <p>
+ * The command document is only valid inside the started callback, and every command passes through it, so only
+ * what a slow entry needs is read there, by key: the collection, the statement count and, for the commands that
+ * can be explained, the query shape ({@code filter}, {@code sort}, the first statement's {@code q}, ...).
+ * Inserted documents and update payloads are never read, which keeps order contents (and user passwords) out of
+ * the log and keeps large inserts from being decoded. The logged command is only assembled once a command turns
+ * out to be slow.
+ */
+public class SlowCommandListener implements CommandListener {
+
+    static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+
+    private static final List<String> QUERY_FIELDS = List.of("query", "filter", "key", "pipeline", "sort", "projection",
+            "fields", "hint", "skip", "limit", "collation", "new", "upsert", "remove");
+    private static final List<String> STATEMENT_FIELDS = List.of("q", "multi", "limit", "upsert", "hint", "collation");
+    private static final Set<String> UNWATCHED = Set.of("hello", "isMaster", "ping", "buildInfo", "saslStart",
+            "saslContinue", "endSessions", "killCursors", "explain");
+
+    private final long thresholdNanos;
+    private final SlowCommandLog slowCommandLog;
+    private final CommandExplainer explainer;
+    private final Counter slowCommands;
+    private final Map<Integer, Started> inflight = new ConcurrentHashMap<>();
+
+    Clock clock = Clock.systemUTC();
+
+    public SlowCommandListener(Duration threshold, SlowCommandLog slowCommandLog, CommandExplainer explainer,
+                               MeterRegistry meterRegistry) {
+        this.thresholdNanos = threshold.toNanos();
+        this.slowCommandLog = slowCommandLog;
+        this.explainer = explainer;
+        this.slowCommands = meterRegistry.counter("order.mongo.slow-commands");
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        if (UNWATCHED.contains(commandName)) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        int statements = 1;
+        BsonDocument shape = new BsonDocument();
+        switch (commandName) {
+            case "insert" -> statements = size(command.get("documents"));
+            case "update", "delete" -> {
+                BsonValue list = command.get(commandName.equals("update") ? "updates" : "deletes");
+                statements = size(list);
+                shape.put(commandName + "s", statements == 0 ? new BsonArray()
+                        : new BsonArray(List.of(statementShape(list.asArray().get(0), commandName.equals("update")))));
+            }
+            default -> {
+                if (EXPLAINABLE.contains(commandName)) {
+                    copyFields(command, QUERY_FIELDS, shape);
+                    if (command.containsKey("update")) {
+                        shape.put("update", new BsonDocument());
+                    }
+                }
+            }
+        }
+        inflight.put(event.getRequestId(), new Started(event.getDatabaseName(), collectionOf(commandName, command),
+                statements, shape));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS),
+                event.getThrowable().getClass().getSimpleName());
+    }
+
+    private void completed(int requestId, String commandName, long elapsedNanos, String outcome) {
+        Started started = inflight.remove(requestId);
+        if (started == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+        slowCommands.increment();
+        BsonDocument command = new BsonDocument(commandName, new BsonString(started.collection()));
+        if (commandName.equals("insert")) {
+            command.put("documents", new BsonInt32(started.statements()));
+        }
+        command.putAll(started.shape());
+        SlowCommand slow = new SlowCommand(clock.instant(), started.database(), started.collection(), commandName,
+                elapsedNanos / 1_000_000.0, outcome, started.statements(), command.toJson());
+        slowCommandLog.add(slow);
+        if (explainer != null && EXPLAINABLE.contains(commandName)) {
+            explainer.explainLater(started.database(), command, slow);
+        }
+    }
+
+    private static int size(BsonValue value) {
+        return value != null && value.isArray() ? value.asArray().size() : 1;
+    }
+
+    private static void copyFields(BsonDocument source, List<String> keys, BsonDocument target) {
+        for (String key : keys) {
+            BsonValue value = source.get(key);
+            if (value != null) {
+                target.put(key, value.isDocument() ? value.asDocument().clone() : value.isArray() ? value.asArray().clone() : value);
+            }
+        }
+    }
+
+    private static BsonValue statementShape(BsonValue statement, boolean update) {
+        if (!statement.isDocument()) {
+            return new BsonDocument();
+        }
+        BsonDocument shape = new BsonDocument();
+        copyFields(statement.asDocument(), STATEMENT_FIELDS, shape);
+        if (update) {
+            shape.put("u", new BsonDocument());
+        }
+        return shape;
+    }
+
+    private static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue value = commandName.equals("getMore") ? command.get("collection") : command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : "";
+    }
+
+    private record Started(String database, String collection, int statements, BsonDocument shape) {
+    }
+}
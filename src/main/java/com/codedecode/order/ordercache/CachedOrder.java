@@ -0,0 +1,73 @@
+package com.codedecode.order.ordercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * An order copied out of the {@link OffHeapOrderStore} but not yet decoded. Each part is decoded only when asked
+ * for, so a caller that needs the restaurant or the item count never builds the item list.
+ */
+public final class CachedOrder {
+
+    private final int orderId;
+    private final ByteBuffer payload;
+
+    CachedOrder(int orderId, byte[] payload) {
+        this.orderId = orderId;
+        this.payload = ByteBuffer.wrap(payload);
+    }
+
+    public int orderId() {
+        return orderId;
+    }
+
+    public int itemCount() {
+        return Math.max(0, CompactOrderCodec.itemCount(payload));
+    }
+
+    public Restaurant restaurant() {
+        return CompactOrderCodec.readRestaurant(payload);
+    }
+
+    public UserDTO user() {
+        return CompactOrderCodec.readUser(payload);
+    }
+
+    public List<FoodItemsDTO> items() {
+        return CompactOrderCodec.readItems(payload);
+    }
+
+    /** Encoded size, without the store's record header. */
+    public int sizeInBytes() {
+        return payload.capacity();
+    }
+
+    public Order toOrder() {
+        return new Order(orderId, items(), restaurant(), user());
+    }
+}
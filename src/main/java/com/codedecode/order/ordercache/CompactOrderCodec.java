@@ -0,0 +1,237 @@
+package com.codedecode.order.ordercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of an {@link Order} without its id, laid out so {@link CachedOrder} can jump to each part:
+ * <pre>
+ * int itemCount (-1 for a null list), int userOffset, int itemsOffset,
+ * restaurant, user, item*
+ * </pre>
+ * Integers are zigzag varints and strings are a varint of {@code length + 1} (0 for null) followed by UTF-8.
+ * Nullable objects and integers start with a presence byte; prices keep their Java type through a tag byte.
+ */
+final class CompactOrderCodec {
+
+    static final int PREFIX_BYTES = 12;
+
+    private static final byte PRICE_NULL = 0;
+    private static final byte PRICE_INT = 1;
+    private static final byte PRICE_LONG = 2;
+    private static final byte PRICE_DOUBLE = 3;
+    private static final byte PRICE_DECIMAL = 4;
+
+    private CompactOrderCodec() {
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException if the order does not fit in {@code out}
+     */
+    static void encode(Order order, ByteBuffer out) {
+        int start = out.position();
+        List<FoodItemsDTO> items = order.getFoodItemsList();
+        out.putInt(items == null ? -1 : items.size()).putInt(0).putInt(0);
+        writeRestaurant(out, order.getRestaurant());
+        out.putInt(start + 4, out.position() - start);
+        writeUser(out, order.getUserDTO());
+        out.putInt(start + 8, out.position() - start);
+        if (items != null) {
+            for (FoodItemsDTO item : items) {
+                writeItem(out, item);
+            }
+        }
+    }
+
+    static int itemCount(ByteBuffer payload) {
+        return payload.getInt(0);
+    }
+
+    static Restaurant readRestaurant(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate().position(PREFIX_BYTES);
+        if (in.get() == 0) {
+            return null;
+        }
+        return new Restaurant(readInt(in), readString(in), readString(in), readString(in), readString(in));
+    }
+
+    static UserDTO readUser(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate().position(payload.getInt(4));
+        if (in.get() == 0) {
+            return null;
+        }
+        return new UserDTO(readInt(in), readString(in), readString(in), readString(in), readString(in));
+    }
+
+    static List<FoodItemsDTO> readItems(ByteBuffer payload) {
+        int count = itemCount(payload);
+        if (count < 0) {
+            return null;
+        }
+        ByteBuffer in = payload.duplicate().position(payload.getInt(8));
+        List<FoodItemsDTO> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(readItem(in));
+        }
+        return items;
+    }
+
+    private static void writeRestaurant(ByteBuffer out, Restaurant restaurant) {
+        out.put((byte) (restaurant == null ? 0 : 1));
+        if (restaurant != null) {
+            writeInt(out, restaurant.getId());
+            writeString(out, restaurant.getName());
+            writeString(out, restaurant.getAddress());
+            writeString(out, restaurant.getCity());
+            writeString(out, restaurant.getRestaurantDescription());
+        }
+    }
+
+    private static void writeUser(ByteBuffer out, UserDTO user) {
+        out.put((byte) (user == null ? 0 : 1));
+        if (user != null) {
+            writeInt(out, user.getUserId());
+            writeString(out, user.getUserName());
+            writeString(out, user.getUserPassword());
+            writeString(out, user.getAddress());
+            writeString(out, user.getCity());
+        }
+    }
+
+    private static void writeItem(ByteBuffer out, FoodItemsDTO item) {
+        out.put((byte) (item == null ? 0 : 1));
+        if (item == null) {
+            return;
+        }
+        writeInt(out, item.getId());
+        writeString(out, item.getItemName());
+        writeString(out, item.getItemDescription());
+        out.put((byte) (item.isVeg() ? 1 : 0));
+        writePrice(out, item.getPrice());
+        writeNullableInt(out, item.getRestaurantId());
+        writeNullableInt(out, item.getQuantity());
+    }
+
+    private static FoodItemsDTO readItem(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        return new FoodItemsDTO(readInt(in), readString(in), readString(in), in.get() != 0, readPrice(in),
+                readNullableInt(in), readNullableInt(in));
+    }
+
+    private static void writePrice(ByteBuffer out, Number price) {
+        if (price == null) {
+            out.put(PRICE_NULL);
+        } else if (price instanceof Integer) {
+            out.put(PRICE_INT);
+            writeLong(out, price.intValue());
+        } else if (price instanceof Long) {
+            out.put(PRICE_LONG);
+            writeLong(out, price.longValue());
+        } else if (price instanceof Double || price instanceof Float) {
+            out.put(PRICE_DOUBLE).putDouble(price.doubleValue());
+        } else {
+            out.put(PRICE_DECIMAL);
+            writeString(out, price.toString());
+        }
+    }
+
+    private static Number readPrice(ByteBuffer in) {
+        return switch (in.get()) {
+            case PRICE_NULL -> null;
+            case PRICE_INT -> (int) readLong(in);
+            case PRICE_LONG -> readLong(in);
+            case PRICE_DOUBLE -> in.getDouble();
+            default -> new BigDecimal(readString(in));
+        };
+    }
+
+    private static void writeNullableInt(ByteBuffer out, Integer value) {
+        out.put((byte) (value == null ? 0 : 1));
+        if (value != null) {
+            writeInt(out, value);
+        }
+    }
+
+    private static Integer readNullableInt(ByteBuffer in) {
+        return in.get() == 0 ? null : readInt(in);
+    }
+
+    private static void writeInt(ByteBuffer out, int value) {
+        writeLong(out, value);
+    }
+
+    private static int readInt(ByteBuffer in) {
+        return (int) readLong(in);
+    }
+
+    private static void writeLong(ByteBuffer out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.put((byte) zigzag);
+    }
+
+    private static long readLong(ByteBuffer in) {
+        long zigzag = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static void writeString(ByteBuffer out, String value) {
+        if (value == null) {
+            writeLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeLong(out, bytes.length + 1L);
+        out.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
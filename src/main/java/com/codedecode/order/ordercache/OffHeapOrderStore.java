@@ -0,0 +1,359 @@
+package com.codedecode.order.ordercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.Order;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Recent orders in {@link CompactOrderCodec} form, kept in direct buffers outside the Java heap. The GC sees a
+ * handful of objects however many orders are held: the data chunks and the three primitive arrays of the index.
+ * <p>
+ * The data area is a circular log over fixed-size chunks. Records are {@code int orderId, int length, payload},
+ * 8-byte aligned, and never straddle a chunk; the unused end of a chunk is covered by a padding record. New orders
+ * are appended at the head. Room is made at the tail with CLOCK (second chance): a record read since it was
+ * written is copied back to the head with its bit cleared, any other is evicted. Records whose order was written
+ * again later are skipped as garbage.
+ * <p>
+ * The index maps {@code orderId} to the record's log address with linear probing and backward-shift deletion,
+ * at a load factor of at most one half. Reads share a read lock and copy the record out, so a returned
+ * {@link CachedOrder} stays valid after its record is overwritten. Writers encode before taking the write lock;
+ * only making room, the append and the index update run under it.
+ */
+public class OffHeapOrderStore {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final int PADDING = 1 << 31;
+    private static final long EMPTY = -1;
+    private static final int INITIAL_ENCODE_BYTES = 1024;
+
+    private final ByteBuffer[] chunks;
+    private final int chunkBytes;
+    private final long arenaBytes;
+    private final int maxEntries;
+    private final int maxOrderBytes;
+    private final int[] keys;
+    private final long[] addresses;
+    private final byte[] referenced;
+    private final int indexMask;
+    private final int indexShift;
+    private final ByteBuffer moveBuffer;
+    private final StampedLock lock = new StampedLock();
+
+    private long head;
+    private long tail;
+    private int size;
+    private volatile long evictions;
+    private volatile long secondChances;
+
+    /**
+     * @param dataBytes     size of the data area, rounded up to whole chunks
+     * @param chunkBytes    power of two; also the upper bound for one record
+     * @param maxEntries    orders indexed at most, whatever their size
+     * @param maxOrderBytes encoded orders larger than this are not stored
+     */
+    public OffHeapOrderStore(long dataBytes, int chunkBytes, int maxEntries, int maxOrderBytes) {
+        if (Integer.bitCount(chunkBytes) != 1 || chunkBytes < align(HEADER_BYTES + maxOrderBytes)) {
+            throw new IllegalArgumentException("chunkBytes must be a power of two holding a " + maxOrderBytes + "-byte order");
+        }
+        if (maxEntries < 1 || maxEntries > 1 << 29) {
+            throw new IllegalArgumentException("maxEntries must be between 1 and 2^29");
+        }
+        int chunkCount = (int) Math.max(1, (dataBytes + chunkBytes - 1) / chunkBytes);
+        this.chunks = new ByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = ByteBuffer.allocateDirect(chunkBytes);
+        }
+        this.chunkBytes = chunkBytes;
+        this.arenaBytes = (long) chunkCount * chunkBytes;
+        this.maxEntries = maxEntries;
+        this.maxOrderBytes = maxOrderBytes;
+        int indexBits = 32 - Integer.numberOfLeadingZeros(2 * maxEntries - 1);
+        this.keys = new int[1 << indexBits];
+        this.addresses = new long[1 << indexBits];
+        this.referenced = new byte[1 << indexBits];
+        Arrays.fill(addresses, EMPTY);
+        this.indexMask = (1 << indexBits) - 1;
+        this.indexShift = 32 - indexBits;
+        this.moveBuffer = ByteBuffer.allocate(maxOrderBytes);
+    }
+
+    /**
+     * Stores {@code order}, replacing an earlier copy with the same id.
+     *
+     * @return {@code false} if the order has no id or its encoding exceeds {@code maxOrderBytes}
+     */
+    public boolean put(Order order) {
+        if (order.getOrderId() == null) {
+            return false;
+        }
+        int orderId = order.getOrderId();
+        ByteBuffer payload = encode(order);
+        if (payload == null) {
+            return false;
+        }
+        int payloadLength = payload.position();
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(orderId);
+            if (slot >= 0) {
+                removeAt(slot);
+            }
+            makeRoom(align(HEADER_BYTES + payloadLength));
+            insert(orderId, append(orderId, payload, payloadLength));
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return a copy of the stored order, or {@code null}
+     */
+    public CachedOrder get(int orderId) {
+        long stamp = lock.readLock();
+        try {
+            int slot = find(orderId);
+            if (slot < 0) {
+                return null;
+            }
+            // racing readers all write 1; the writer sees it once it takes the write lock
+            referenced[slot] = 1;
+            long address = addresses[slot];
+            ByteBuffer chunk = chunk(address);
+            int offset = offset(address);
+            byte[] payload = new byte[chunk.getInt(offset + 4)];
+            chunk.get(offset + HEADER_BYTES, payload);
+            return new CachedOrder(orderId, payload);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Index-only lookup; unlike {@link #get} it neither copies the order nor counts as a use for eviction.
+     */
+    public boolean contains(int orderId) {
+        long stamp = lock.readLock();
+        try {
+            return find(orderId) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Log bytes between tail and head, including garbage and padding. */
+    public long usedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return head - tail;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long dataBytes() {
+        return arenaBytes;
+    }
+
+    /** Heap taken by the index arrays. */
+    public long indexBytes() {
+        return (long) keys.length * (Integer.BYTES + Long.BYTES + 1);
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long secondChances() {
+        return secondChances;
+    }
+
+    /**
+     * Encodes into a buffer of the calling {@code put}, starting small and doubling up to {@code maxOrderBytes}.
+     *
+     * @return the buffer with the payload before its position, or {@code null} if the order does not fit
+     */
+    private ByteBuffer encode(Order order) {
+        int capacity = Math.min(INITIAL_ENCODE_BYTES, maxOrderBytes);
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(capacity);
+            try {
+                CompactOrderCodec.encode(order, buffer);
+                return buffer;
+            } catch (BufferOverflowException e) {
+                if (capacity == maxOrderBytes) {
+                    return null;
+                }
+                capacity = (int) Math.min(2L * capacity, maxOrderBytes);
+            }
+        }
+    }
+
+    private void makeRoom(int recordBytes) {
+        long swept = 0;
+        while (true) {
+            if (head == tail) {
+                // empty: restart at a chunk boundary so any record fits without padding
+                head = tail = (head + chunkBytes - 1) & -chunkBytes;
+            }
+            if (size < maxEntries && fits(recordBytes)) {
+                return;
+            }
+            // after a full lap every survivor had its bit cleared, so stop handing out second chances
+            swept += advanceTail(swept < arenaBytes);
+        }
+    }
+
+    /**
+     * Moves the tail past one record, evicting it or giving it a second chance.
+     *
+     * @return bytes the tail advanced
+     */
+    private int advanceTail(boolean secondChance) {
+        long address = tail;
+        ByteBuffer chunk = chunk(address);
+        int offset = offset(address);
+        int orderId = chunk.getInt(offset);
+        int meta = chunk.getInt(offset + 4);
+        if ((meta & PADDING) != 0) {
+            int paddingBytes = meta & ~PADDING;
+            tail += paddingBytes;
+            return paddingBytes;
+        }
+        int recordBytes = align(HEADER_BYTES + meta);
+        tail += recordBytes;
+        int slot = find(orderId);
+        if (slot < 0 || addresses[slot] != address) {
+            return recordBytes;
+        }
+        if (secondChance && referenced[slot] != 0 && fits(recordBytes)) {
+            referenced[slot] = 0;
+            moveBuffer.clear().put(0, chunk, offset + HEADER_BYTES, meta);
+            addresses[slot] = append(orderId, moveBuffer, meta);
+            secondChances++;
+        } else {
+            removeAt(slot);
+            evictions++;
+        }
+        return recordBytes;
+    }
+
+    private boolean fits(int recordBytes) {
+        return head + padding(head, recordBytes) + recordBytes - tail <= arenaBytes;
+    }
+
+    private int padding(long address, int recordBytes) {
+        int offset = offset(address);
+        return offset + recordBytes > chunkBytes ? chunkBytes - offset : 0;
+    }
+
+    /**
+     * Writes a record at the head, after a padding record if it would otherwise straddle a chunk.
+     *
+     * @return the record's address
+     */
+    private long append(int orderId, ByteBuffer payload, int payloadLength) {
+        int recordBytes = align(HEADER_BYTES + payloadLength);
+        int paddingBytes = padding(head, recordBytes);
+        if (paddingBytes > 0) {
+            chunk(head).putInt(offset(head), 0).putInt(offset(head) + 4, PADDING | paddingBytes);
+            head += paddingBytes;
+        }
+        long address = head;
+        ByteBuffer chunk = chunk(address);
+        int offset = offset(address);
+        chunk.putInt(offset, orderId).putInt(offset + 4, payloadLength);
+        chunk.put(offset + HEADER_BYTES, payload, 0, payloadLength);
+        head += recordBytes;
+        return address;
+    }
+
+    private ByteBuffer chunk(long address) {
+        return chunks[(int) ((address / chunkBytes) % chunks.length)];
+    }
+
+    private int offset(long address) {
+        return (int) (address & (chunkBytes - 1));
+    }
+
+    private int home(int orderId) {
+        return (orderId * 0x9E3779B9) >>> indexShift;
+    }
+
+    private int find(int orderId) {
+        for (int i = home(orderId); addresses[i] != EMPTY; i = (i + 1) & indexMask) {
+            if (keys[i] == orderId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int orderId, long address) {
+        int i = home(orderId);
+        while (addresses[i] != EMPTY) {
+            i = (i + 1) & indexMask;
+        }
+        keys[i] = orderId;
+        addresses[i] = address;
+        referenced[i] = 0;
+        size++;
+    }
+
+    /**
+     * Backward-shift deletion: later entries of the probe run move up, so lookups never need tombstones.
+     */
+    private void removeAt(int slot) {
+        int gap = slot;
+        for (int i = (gap + 1) & indexMask; addresses[i] != EMPTY; i = (i + 1) & indexMask) {
+            int home = home(keys[i]);
+            // the entry may fill the gap unless its home lies cyclically in (gap, i]
+            boolean homeAfterGap = gap <= i ? home > gap && home <= i : home > gap || home <= i;
+            if (!homeAfterGap) {
+                keys[gap] = keys[i];
+                addresses[gap] = addresses[i];
+                referenced[gap] = referenced[i];
+                gap = i;
+            }
+        }
+        addresses[gap] = EMPTY;
+        size--;
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & -8;
+    }
+}
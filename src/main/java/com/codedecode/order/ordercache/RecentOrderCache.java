@@ -0,0 +1,102 @@
+package com.codedecode.order.ordercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RecentOrderCacheProperties;
+import com.codedecode.order.service.OrderPlacedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Every placed order, kept in an {@link OffHeapOrderStore} until CLOCK evicts it. Order reads check it before
+ * Mongo. If the direct memory cannot be allocated the service runs without it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.recent-order-cache", name = "enabled", matchIfMissing = true)
+public class RecentOrderCache {
+
+    static final int CHUNK_BYTES = 64 << 20;
+
+    @Autowired
+    RecentOrderCacheProperties recentOrderCacheProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private OffHeapOrderStore store;
+    private Counter hits;
+    private Counter misses;
+    private Counter rejected;
+
+    @PostConstruct
+    void open() {
+        hits = meterRegistry.counter("order.recent-order-cache.requests", "result", "hit");
+        misses = meterRegistry.counter("order.recent-order-cache.requests", "result", "miss");
+        rejected = meterRegistry.counter("order.recent-order-cache.rejected");
+        long dataBytes = recentOrderCacheProperties.getDataSize().toBytes();
+        try {
+            store = new OffHeapOrderStore(dataBytes, CHUNK_BYTES, recentOrderCacheProperties.getMaxEntries(),
+                    (int) recentOrderCacheProperties.getMaxOrderSize().toBytes());
+        } catch (OutOfMemoryError e) {
+            // direct memory limit, not heap exhaustion: nothing was retained
+            log.warn("Could not allocate {} bytes of direct memory for recent orders, running without the cache: {}",
+                    dataBytes, e.getMessage());
+            return;
+        }
+        Gauge.builder("order.recent-order-cache.entries", store, OffHeapOrderStore::size).register(meterRegistry);
+        Gauge.builder("order.recent-order-cache.used", store, OffHeapOrderStore::usedBytes).baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.recent-order-cache.evictions", store, OffHeapOrderStore::evictions)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        if (store != null && !store.put(event.order())) {
+            rejected.increment();
+        }
+    }
+
+    /**
+     * @return the order, still encoded, or {@code null} if it is not cached
+     */
+    public CachedOrder get(int orderId) {
+        CachedOrder order = store == null ? null : store.get(orderId);
+        (order == null ? misses : hits).increment();
+        return order;
+    }
+
+    /**
+     * Whether {@code orderId} was placed recently, without copying or decoding the order.
+     */
+    public boolean contains(int orderId) {
+        return store != null && store.contains(orderId);
+    }
+}
@@ -0,0 +1,111 @@
+package com.codedecode.order.payload;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.OrderPayloadProperties;
+import com.codedecode.order.dto.OrderDTOFromFE;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Binds {@code @RequestBody OrderDTOFromFE} through the {@link StreamingOrderReader}. Boot puts converter beans
+ * ahead of its defaults, so order bodies never reach the generic Jackson converter; it is read-only, so responses
+ * are still written by Jackson.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.payload", name = "streaming", matchIfMissing = true)
+public class OrderPayloadConverter extends AbstractHttpMessageConverter<OrderDTOFromFE> {
+
+    @Autowired
+    OrderPayloadProperties orderPayloadProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private StreamingOrderReader reader;
+    private DistributionSummary items;
+    private DistributionSummary bytes;
+    private Counter tooLarge;
+    private Counter invalid;
+
+    public OrderPayloadConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @PostConstruct
+    void init() {
+        reader = new StreamingOrderReader(orderPayloadProperties.getMaxBytes().toBytes(),
+                orderPayloadProperties.getMaxItems(), orderPayloadProperties.getMaxQuantityPerItem(),
+                orderPayloadProperties.getMaxTextLength());
+        items = DistributionSummary.builder("order.payload.items").register(meterRegistry);
+        bytes = DistributionSummary.builder("order.payload.size").baseUnit("bytes").register(meterRegistry);
+        tooLarge = meterRegistry.counter("order.payload.rejected", "reason", "too_large");
+        invalid = meterRegistry.counter("order.payload.rejected", "reason", "invalid");
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OrderDTOFromFE.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected OrderDTOFromFE readInternal(Class<? extends OrderDTOFromFE> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        ParsedOrder parsed;
+        try {
+            parsed = reader.read(inputMessage.getBody(), inputMessage.getHeaders().getContentLength());
+        } catch (OrderPayloadTooLargeException e) {
+            tooLarge.increment();
+            throw e;
+        } catch (InvalidOrderPayloadException e) {
+            invalid.increment();
+            throw e;
+        }
+        items.record(parsed.itemCount());
+        bytes.record(parsed.bytesRead());
+        log.debug("Order from user {}: {} items, quantity {}, amount {}, {} bytes", parsed.order().getUserId(),
+                parsed.itemCount(), parsed.totalQuantity(), parsed.totalAmount(), parsed.bytesRead());
+        return parsed.order();
+    }
+
+    @Override
+    protected void writeInternal(OrderDTOFromFE order, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("OrderPayloadConverter only reads");
+    }
+}
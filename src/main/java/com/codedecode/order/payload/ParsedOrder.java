@@ -0,0 +1,33 @@
+package com.codedecode.order.payload;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.OrderDTOFromFE;
+
+import java.math.BigDecimal;
+
+/**
+ * @param totalAmount sum of price × quantity over the priced items
+ * @param bytesRead   size of the body as read off the wire
+ */
+public record ParsedOrder(OrderDTOFromFE order, int itemCount, long totalQuantity, BigDecimal totalAmount,
+                          long bytesRead) {
+}
@@ -0,0 +1,224 @@
+package com.codedecode.order.payload;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.OrderDTOFromFE;
+import com.codedecode.order.dto.Restaurant;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an {@link OrderDTOFromFE} token by token. Each item is validated, normalized and added to the running
+ * totals as soon as it is complete, and the first violated limit ends the read without consuming the rest of the
+ * body. Only the resulting items are kept, never the raw body or a JSON tree, so memory per request is bounded by
+ * {@code maxItems} rather than by what the client sends. Unknown fields are skipped, as the Jackson binding did.
+ * <p>
+ * Normalization: text is trimmed and blank text becomes {@code null}, a missing quantity becomes 1, and a missing
+ * item {@code restaurantId} is taken from the order's restaurant.
+ */
+public final class StreamingOrderReader {
+
+    private final JsonFactory jsonFactory;
+    private final long maxBytes;
+    private final int maxItems;
+    private final int maxQuantityPerItem;
+    private final int maxTextLength;
+
+    public StreamingOrderReader(long maxBytes, int maxItems, int maxQuantityPerItem, int maxTextLength) {
+        this.jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder().maxNestingDepth(8).maxNumberLength(32).build())
+                .build();
+        this.maxBytes = maxBytes;
+        this.maxItems = maxItems;
+        this.maxQuantityPerItem = maxQuantityPerItem;
+        this.maxTextLength = maxTextLength;
+    }
+
+    /**
+     * @param contentLength the declared body length, or -1 if unknown
+     */
+    public ParsedOrder read(InputStream body, long contentLength) throws IOException {
+        if (contentLength > maxBytes) {
+            throw new OrderPayloadTooLargeException("Order payload of " + contentLength + " bytes exceeds " + maxBytes);
+        }
+        BoundedInputStream in = new BoundedInputStream(body, maxBytes);
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            return readOrder(parser, in);
+        } catch (JsonProcessingException e) {
+            throw new InvalidOrderPayloadException("Malformed order payload: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private ParsedOrder readOrder(JsonParser parser, BoundedInputStream in) throws IOException {
+        expect(parser.nextToken() == JsonToken.START_OBJECT, "Order payload must be a JSON object");
+        OrderDTOFromFE order = new OrderDTOFromFE();
+        Totals totals = new Totals();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "userId" -> order.setUserId(readInteger(parser, "userId"));
+                case "restaurant" -> order.setRestaurant(value == JsonToken.VALUE_NULL ? null : readRestaurant(parser));
+                case "foodItemsList" -> order.setFoodItemsList(value == JsonToken.VALUE_NULL ? null : readItems(parser, totals));
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser.currentToken() == JsonToken.END_OBJECT && parser.nextToken() == null,
+                "Unexpected content after the order object");
+        if (order.getRestaurant() != null && order.getFoodItemsList() != null) {
+            for (FoodItemsDTO item : order.getFoodItemsList()) {
+                if (item.getRestaurantId() == null) {
+                    item.setRestaurantId(order.getRestaurant().getId());
+                }
+            }
+        }
+        return new ParsedOrder(order, totals.items, totals.quantity, totals.amount, in.count());
+    }
+
+    private List<FoodItemsDTO> readItems(JsonParser parser, Totals totals) throws IOException {
+        expect(parser.currentToken() == JsonToken.START_ARRAY, "foodItemsList must be an array");
+        List<FoodItemsDTO> items = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (items.size() == maxItems) {
+                throw new OrderPayloadTooLargeException("Order has more than " + maxItems + " items");
+            }
+            FoodItemsDTO item = readItem(parser, items.size());
+            totals.add(item);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private FoodItemsDTO readItem(JsonParser parser, int index) throws IOException {
+        expect(parser.currentToken() == JsonToken.START_OBJECT, "Item " + index + " must be an object");
+        FoodItemsDTO item = new FoodItemsDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> item.setId(readInt(parser, "item " + index + " id"));
+                case "itemName" -> item.setItemName(readText(parser, "item " + index + " itemName"));
+                case "itemDescription" -> item.setItemDescription(readText(parser, "item " + index + " itemDescription"));
+                case "veg", "isVeg" -> item.setVeg(readBoolean(parser, "item " + index + " veg"));
+                case "price" -> item.setPrice(readPrice(parser, index));
+                case "restaurantId" -> item.setRestaurantId(readInteger(parser, "item " + index + " restaurantId"));
+                case "quantity" -> item.setQuantity(readInteger(parser, "item " + index + " quantity"));
+                default -> parser.skipChildren();
+            }
+        }
+        if (item.getQuantity() == null) {
+            item.setQuantity(1);
+        }
+        if (item.getQuantity() < 1 || item.getQuantity() > maxQuantityPerItem) {
+            throw new InvalidOrderPayloadException("Item " + index + " quantity must be between 1 and " + maxQuantityPerItem);
+        }
+        return item;
+    }
+
+    private Restaurant readRestaurant(JsonParser parser) throws IOException {
+        expect(parser.currentToken() == JsonToken.START_OBJECT, "restaurant must be an object");
+        Restaurant restaurant = new Restaurant();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> restaurant.setId(readInt(parser, "restaurant id"));
+                case "name" -> restaurant.setName(readText(parser, "restaurant name"));
+                case "address" -> restaurant.setAddress(readText(parser, "restaurant address"));
+                case "city" -> restaurant.setCity(readText(parser, "restaurant city"));
+                case "restaurantDescription" -> restaurant.setRestaurantDescription(readText(parser, "restaurant description"));
+                default -> parser.skipChildren();
+            }
+        }
+        return restaurant;
+    }
+
+    private Number readPrice(JsonParser parser, int index) throws IOException {
+        Number price = switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            // same Integer/Long/Double a Number property gets from Jackson
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            default -> throw new InvalidOrderPayloadException("Item " + index + " price must be a number");
+        };
+        if (price != null && price.doubleValue() < 0) {
+            throw new InvalidOrderPayloadException("Item " + index + " price must not be negative");
+        }
+        return price;
+    }
+
+    private String readText(JsonParser parser, String what) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser.currentToken() == JsonToken.VALUE_STRING, what + " must be a string");
+        // checked before the String is built
+        if (parser.getTextLength() > maxTextLength) {
+            throw new InvalidOrderPayloadException(what + " is longer than " + maxTextLength + " characters");
+        }
+        String text = parser.getText().strip();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static Integer readInteger(JsonParser parser, String what) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : readInt(parser, what);
+    }
+
+    private static int readInt(JsonParser parser, String what) throws IOException {
+        expect(parser.currentToken() == JsonToken.VALUE_NUMBER_INT, what + " must be an integer");
+        return parser.getIntValue();
+    }
+
+    private static boolean readBoolean(JsonParser parser, String what) {
+        expect(parser.currentToken().isBoolean(), what + " must be a boolean");
+        return parser.currentToken() == JsonToken.VALUE_TRUE;
+    }
+
+    private static void expect(boolean condition, String message) {
+        if (!condition) {
+            throw new InvalidOrderPayloadException(message);
+        }
+    }
+
+    private static final class Totals {
+
+        int items;
+        long quantity;
+        BigDecimal amount = BigDecimal.ZERO;
+
+        void add(FoodItemsDTO item) {
+            items++;
+            quantity += item.getQuantity();
+            if (item.getPrice() != null) {
+                amount = amount.add(new BigDecimal(item.getPrice().toString()).multiply(BigDecimal.valueOf(item.getQuantity())));
+            }
+        }
+    }
+}
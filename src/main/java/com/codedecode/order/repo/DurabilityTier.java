@@ -0,0 +1,48 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.mongodb.WriteConcern;
+
+/**
+ * Write concern used for an order insert, from cheapest to safest.
+ */
+public enum DurabilityTier {
+
+    /** Acknowledged by the primary from memory; lost if the primary crashes before the next journal flush. */
+    W1_UNJOURNALED(WriteConcern.W1.withJournal(false)),
+
+    /** Acknowledged once written to the primary's on-disk journal. */
+    JOURNALED(WriteConcern.JOURNALED),
+
+    /** Acknowledged once a majority of the replica set has it; survives failover. */
+    MAJORITY(WriteConcern.MAJORITY);
+
+    private final WriteConcern writeConcern;
+
+    DurabilityTier(WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+    }
+
+    public WriteConcern getWriteConcern() {
+        return writeConcern;
+    }
+}
@@ -0,0 +1,63 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.ImportCheckpoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+public class ImportCheckpointRepository {
+
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    public Optional<ImportCheckpoint> findById(String id) {
+        return Optional.ofNullable(mongoOperations.findById(id, ImportCheckpoint.class));
+    }
+
+    public void markStarted(String id, String file, long chunkBytes, int chunk, int firstOrderId) {
+        mongoOperations.upsert(query(where("_id").is(id)), new Update()
+                .setOnInsert("file", file)
+                .setOnInsert("chunkBytes", chunkBytes)
+                .set("startedChunks." + chunk, firstOrderId)
+                .set("updatedAt", Instant.now()), ImportCheckpoint.class);
+    }
+
+    public void markDone(String id, String file, long chunkBytes, int chunk, int imported, int rejected) {
+        mongoOperations.upsert(query(where("_id").is(id)), new Update()
+                .setOnInsert("file", file)
+                .setOnInsert("chunkBytes", chunkBytes)
+                .addToSet("doneChunks", chunk)
+                .unset("startedChunks." + chunk)
+                .inc("imported", imported)
+                .inc("rejected", rejected)
+                .set("updatedAt", Instant.now()), ImportCheckpoint.class);
+    }
+}
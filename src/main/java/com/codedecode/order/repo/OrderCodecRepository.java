@@ -0,0 +1,198 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.codec.OrderCodecProvider;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.resilience.Deadline;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.InsertManyOptions;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Sorts.ascending;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * Order persistence through the hand-written BSON codecs. The codecs are registered on this collection
+ * handle only, so the Spring Data mapping used by {@link OrderRepo} is left untouched.
+ */
+@Slf4j
+@Repository
+public class OrderCodecRepository {
+
+    public static final CodecRegistry ORDER_CODEC_REGISTRY = fromRegistries(
+            fromProviders(new OrderCodecProvider()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private MongoCollection<Order> collection;
+
+    private Map<DurabilityTier, MongoCollection<Order>> tieredCollections;
+
+    /**
+     * Collection handles are immutable, so one per write concern is built here and inserts never synchronize.
+     */
+    @PostConstruct
+    void init() {
+        collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Order.class))
+                .withDocumentClass(Order.class)
+                .withCodecRegistry(ORDER_CODEC_REGISTRY);
+        Map<DurabilityTier, MongoCollection<Order>> tiers = new EnumMap<>(DurabilityTier.class);
+        for (DurabilityTier tier : DurabilityTier.values()) {
+            tiers.put(tier, collection.withWriteConcern(tier.getWriteConcern()));
+        }
+        tieredCollections = tiers;
+    }
+
+    /**
+     * Creates {@code orderId_1} once the application is up. Every lookup, range delete and export filters on
+     * {@code orderId}; the build runs in the background so a large collection cannot hold up startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void ensureIndexesOnStartup() {
+        Thread.ofPlatform().daemon().name("order-index-init").start(() -> {
+            try {
+                ensureOrderIdIndex();
+            } catch (RuntimeException e) {
+                log.warn("Could not create the orderId index; order lookups scan the collection until it exists", e);
+            }
+        });
+    }
+
+    /**
+     * Plain insert with the client's default write concern. Never an upsert or replace.
+     */
+    public Order insert(Order order) {
+        withinDeadline(collection()).insertOne(order);
+        return order;
+    }
+
+    /**
+     * Insert acknowledged according to {@code tier}.
+     */
+    public Order insert(Order order, DurabilityTier tier) {
+        withinDeadline(collection(tier)).insertOne(order);
+        return order;
+    }
+
+    /**
+     * Unordered bulk insert: the server may apply the batch in any order and keeps going past failed documents.
+     */
+    public void insertMany(List<Order> orders) {
+        collection().insertMany(orders, new InsertManyOptions().ordered(false));
+    }
+
+    public long deleteByOrderIdRange(int fromInclusive, int toExclusive) {
+        return collection().deleteMany(and(gte("orderId", fromInclusive), lt("orderId", toExclusive))).getDeletedCount();
+    }
+
+    public Optional<Order> findByOrderId(int orderId) {
+        return Optional.ofNullable(withinDeadline(collection()).find(eq("orderId", orderId)).first());
+    }
+
+    public List<Order> findByOrderIds(Collection<Integer> orderIds) {
+        return withinDeadline(collection()).find(in("orderId", orderIds)).into(new ArrayList<>(orderIds.size()));
+    }
+
+    /**
+     * Oldest orders created before {@code cutoff}, undecoded, in {@code _id} order.
+     *
+     * @param after only return orders with a greater {@code _id}; {@code null} starts from the oldest
+     */
+    public List<RawBsonDocument> findRawOlderThan(ObjectId cutoff, BsonValue after, int limit) {
+        return collection().withDocumentClass(RawBsonDocument.class)
+                .find(after == null ? lt("_id", cutoff) : and(gt("_id", after), lt("_id", cutoff)))
+                .sort(ascending("_id")).limit(limit)
+                .into(new ArrayList<>(Math.min(limit, 10_000)));
+    }
+
+    public long deleteByIds(List<BsonValue> ids) {
+        return collection().deleteMany(in("_id", ids)).getDeletedCount();
+    }
+
+    public void ensureOrderIdIndex() {
+        collection().createIndex(Indexes.ascending("orderId"), new IndexOptions().name("orderId_1"));
+    }
+
+    /**
+     * Cursor over undecoded orders with {@code _id} after {@code afterId} and before {@code createdBefore}, in
+     * {@code _id} (insert) order. The caller must close it.
+     *
+     * @param afterId       {@code null} to start from the oldest order
+     * @param afterOrderId  only used without {@code afterId}, to resume a checkpoint that predates it
+     */
+    public MongoCursor<RawBsonDocument> streamAfterId(ObjectId afterId, int afterOrderId, ObjectId createdBefore, int batchSize) {
+        return collection().withDocumentClass(RawBsonDocument.class)
+                .find(and(afterId != null ? gt("_id", afterId) : gt("orderId", afterOrderId), lt("_id", createdBefore)))
+                .sort(ascending("_id")).batchSize(batchSize).cursor();
+    }
+
+    MongoCollection<Order> collection() {
+        return collection;
+    }
+
+    /**
+     * Bounds the operation by what is left of the request {@link Deadline}, using the driver's client-side
+     * operation timeout.
+     */
+    static <T> MongoCollection<T> withinDeadline(MongoCollection<T> collection) {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return collection;
+        }
+        return collection.withTimeout(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline.remainingNanosOrThrow())), TimeUnit.MILLISECONDS);
+    }
+
+    MongoCollection<Order> collection(DurabilityTier tier) {
+        return tieredCollections.get(tier);
+    }
+}
@@ -0,0 +1,110 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.OrderEvent;
+import com.codedecode.order.entity.OrderState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Append-only {@code order_event} log plus the {@code order_state} projection and {@code order_snapshot}
+ * documents derived from it. Projections and snapshots are only ever moved forward by version.
+ */
+@Repository
+public class OrderEventStore {
+
+    public static final String SNAPSHOT_COLLECTION = "order_snapshot";
+
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    private volatile boolean indexed;
+
+    /**
+     * @throws OptimisticLockingFailureException if the order already has an event with this {@code seq}
+     */
+    public void append(OrderEvent event) {
+        ensureIndexed();
+        try {
+            mongoOperations.insert(event);
+        } catch (DuplicateKeyException e) {
+            throw new OptimisticLockingFailureException(
+                    "Order " + event.getOrderId() + " already has event " + event.getSeq(), e);
+        }
+    }
+
+    public List<OrderEvent> readStream(int orderId, int afterSeq) {
+        return mongoOperations.find(
+                query(where("orderId").is(orderId).and("seq").gt(afterSeq)).with(Sort.by("seq")),
+                OrderEvent.class);
+    }
+
+    public Optional<OrderState> findState(int orderId) {
+        return Optional.ofNullable(mongoOperations.findById(orderId, OrderState.class));
+    }
+
+    public Optional<OrderState> findSnapshot(int orderId) {
+        return Optional.ofNullable(mongoOperations.findById(orderId, OrderState.class, SNAPSHOT_COLLECTION));
+    }
+
+    public void saveState(OrderState state) {
+        upsertIfNewer(state, mongoOperations.getCollectionName(OrderState.class));
+    }
+
+    public void saveSnapshot(OrderState state) {
+        upsertIfNewer(state, SNAPSHOT_COLLECTION);
+    }
+
+    private void upsertIfNewer(OrderState state, String collectionName) {
+        Update update = new Update()
+                .set("status", state.getStatus())
+                .set("version", state.getVersion())
+                .set("placedAt", state.getPlacedAt())
+                .set("updatedAt", state.getUpdatedAt());
+        try {
+            mongoOperations.upsert(query(where("_id").is(state.getOrderId()).and("version").lt(state.getVersion())),
+                    update, OrderState.class, collectionName);
+        } catch (DuplicateKeyException e) {
+            // a document at this version or later is already stored
+        }
+    }
+
+    private void ensureIndexed() {
+        if (!indexed) {
+            mongoOperations.indexOps(OrderEvent.class)
+                    .ensureIndex(new Index().on("orderId", Sort.Direction.ASC).on("seq", Sort.Direction.ASC).unique());
+            indexed = true;
+        }
+    }
+}
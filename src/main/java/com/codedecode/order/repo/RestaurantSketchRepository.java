@@ -0,0 +1,71 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.RestaurantSketch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+public class RestaurantSketchRepository {
+
+    @Autowired
+    private MongoOperations mongoOperations;
+
+    /** Buckets expire {@code retention} after their last write. */
+    public void ensureIndexes(Duration retention) {
+        mongoOperations.indexOps(RestaurantSketch.class)
+                .ensureIndex(new Index().on("updatedAt", Sort.Direction.ASC).expire(retention));
+        mongoOperations.indexOps(RestaurantSketch.class)
+                .ensureIndex(new Index().on("epoch", Sort.Direction.ASC).on("instanceId", Sort.Direction.ASC));
+    }
+
+    public void saveAll(List<RestaurantSketch> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RestaurantSketch.class);
+        sketches.forEach(sketch -> bulk.replaceOne(query(where("_id").is(sketch.getId())), sketch,
+                FindAndReplaceOptions.options().upsert()));
+        bulk.execute();
+    }
+
+    public List<RestaurantSketch> findOwn(String instanceId, long fromEpoch) {
+        return mongoOperations.find(query(where("epoch").gte(fromEpoch).and("instanceId").is(instanceId)),
+                RestaurantSketch.class);
+    }
+
+    public List<RestaurantSketch> findOthers(String instanceId, long fromEpoch) {
+        return mongoOperations.find(query(where("epoch").gte(fromEpoch).and("instanceId").ne(instanceId)),
+                RestaurantSketch.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.OrderSummaryEntry;
+import com.codedecode.order.entity.UserOrderSummary;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+public class UserOrderSummaryRepository {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    public Optional<UserOrderSummary> findByUserId(int userId) {
+        return Optional.ofNullable(mongoTemplate.findById(userId, UserOrderSummary.class));
+    }
+
+    /**
+     * Pushes each user's new entries in one unordered bulk write, keeping the newest {@code keep} per user.
+     */
+    public void appendRecent(Map<Integer, List<OrderSummaryEntry>> entriesByUser, int keep) {
+        if (entriesByUser.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserOrderSummary.class);
+        entriesByUser.forEach((userId, entries) -> {
+            Update update = new Update().inc("orderCount", entries.size());
+            update.push("recentOrders").sort(Sort.by(Sort.Direction.DESC, "orderId")).slice(keep).each(entries.toArray());
+            bulk.upsert(query(where("_id").is(userId)), update);
+        });
+        bulk.execute();
+    }
+
+    /**
+     * Recomputes summaries from {@code order} on the server and replaces the stored documents. Archived orders are
+     * no longer in {@code order} and drop out of the rebuilt counts.
+     *
+     * @param userId a single user to rebuild, or {@code null} for everyone
+     */
+    public void rebuild(Integer userId, int keep) {
+        List<Document> pipeline = new ArrayList<>();
+        if (userId != null) {
+            pipeline.add(new Document("$match", new Document("userDTO.userId", userId)));
+        }
+        Document quantity = new Document("$ifNull", List.of("$$item.quantity", 1));
+        Document output = new Document("orderId", "$orderId")
+                .append("restaurantName", "$restaurant.name")
+                .append("itemCount", new Document("$sum", new Document("$map", new Document("input", "$foodItemsList")
+                        .append("as", "item").append("in", quantity))))
+                .append("total", new Document("$sum", new Document("$map", new Document("input", "$foodItemsList")
+                        .append("as", "item").append("in", new Document("$multiply",
+                                List.of(new Document("$ifNull", List.of("$$item.price", 0)), quantity))))));
+        pipeline.add(new Document("$group", new Document("_id", "$userDTO.userId")
+                .append("recentOrders", new Document("$topN", new Document("n", keep)
+                        .append("sortBy", new Document("orderId", -1)).append("output", output)))
+                .append("orderCount", new Document("$sum", 1))));
+        pipeline.add(new Document("$set", new Document("_class", UserOrderSummary.class.getName())));
+        pipeline.add(new Document("$merge", new Document("into", mongoTemplate.getCollectionName(UserOrderSummary.class))
+                .append("whenMatched", "replace").append("whenNotMatched", "insert")));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Order.class)).aggregate(pipeline).toCollection();
+    }
+}
@@ -0,0 +1,77 @@
+package com.codedecode.order.resilience;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Binds a {@link Deadline} for the request from the remaining budget in {@code header}, in milliseconds. A
+ * request whose budget is already spent is answered with 504 without running.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final String header;
+    private final Duration max;
+    private final Duration defaultBudget;
+
+    public DeadlineFilter(String header, Duration max, Duration defaultBudget) {
+        this.header = header;
+        this.max = max;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration budget = budget(request.getHeader(header));
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (budget.isNegative() || budget.isZero()) {
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value(), "Request deadline exceeded");
+            return;
+        }
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(budget))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private Duration budget(String value) {
+        if (value == null || value.isBlank()) {
+            return defaultBudget;
+        }
+        try {
+            Duration budget = Duration.ofMillis(Long.parseLong(value.trim()));
+            return budget.compareTo(max) > 0 ? max : budget;
+        } catch (NumberFormatException e) {
+            return defaultBudget;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.codedecode.order.resilience;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Forwards what is left of the current {@link Deadline} on outbound calls, so downstream services can give up
+ * when this service has. Calls made after the deadline fail without being sent.
+ */
+public class DeadlinePropagatingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String header;
+
+    public DeadlinePropagatingInterceptor(String header) {
+        this.header = header;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            long remainingNanos = deadline.remainingNanosOrThrow();
+            request.getHeaders().set(header, String.valueOf(Math.max(1, remainingNanos / 1_000_000)));
+        }
+        return execution.execute(request, body);
+    }
+}
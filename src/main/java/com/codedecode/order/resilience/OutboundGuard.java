@@ -0,0 +1,182 @@
+package com.codedecode.order.resilience;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Wraps one kind of outbound call in a circuit breaker, a semaphore bulkhead and a timeout capped by the request
+ * {@link Deadline}. The call runs on a virtual thread so the caller can stop waiting; a call that times out is
+ * interrupted but keeps its bulkhead permit until it has actually returned.
+ * <p>
+ * Rejections, timeouts and failures go to the fallback. Exceptions matched by {@code ignored} (say, a 404 from
+ * a healthy service) count as successes for the breaker and are rethrown as they are. Running out of request
+ * deadline is not held against the service.
+ * <p>
+ * Metrics, tagged with {@code name}: {@code order.circuitbreaker.state} (0 closed, 1 open, 2 half-open),
+ * {@code order.circuitbreaker.calls} by outcome, {@code order.bulkhead.available} and
+ * {@code order.bulkhead.rejected}.
+ */
+@Slf4j
+public class OutboundGuard implements AutoCloseable {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long maxWaitNanos;
+    private final long timeoutNanos;
+    private final Predicate<Throwable> ignored;
+    private final ExecutorService executor;
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter timeouts;
+    private final Counter notPermitted;
+    private final Counter bulkheadRejected;
+
+    public OutboundGuard(String name, CircuitBreaker circuitBreaker, int maxConcurrentCalls, long maxWaitNanos,
+                         long timeoutNanos, Predicate<Throwable> ignored, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWaitNanos;
+        this.timeoutNanos = timeoutNanos;
+        this.ignored = ignored;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-call-", 0).factory());
+        Gauge.builder("order.circuitbreaker.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("order.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("name", name).register(meterRegistry);
+        this.successes = callCounter(meterRegistry, "success");
+        this.failures = callCounter(meterRegistry, "failure");
+        this.timeouts = callCounter(meterRegistry, "timeout");
+        this.notPermitted = callCounter(meterRegistry, "not_permitted");
+        this.bulkheadRejected = Counter.builder("order.bulkhead.rejected").tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * @throws DeadlineExceededException if the request deadline runs out before or during the call; the fallback
+     *                                   is not used then, since the request cannot complete anyway
+     */
+    public <T> T call(Supplier<T> call, Function<RuntimeException, T> fallback) {
+        long budgetNanos = Deadline.capNanos(timeoutNanos);
+        boolean deadlineBound = budgetNanos < timeoutNanos;
+        if (!circuitBreaker.tryAcquirePermission()) {
+            notPermitted.increment();
+            return fallback.apply(new CallNotPermittedException("Circuit breaker for " + name + " is open"));
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.releasePermission();
+            bulkheadRejected.increment();
+            return fallback.apply(new CallNotPermittedException("Bulkhead for " + name + " is full"));
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(snapshotFactory.captureAll().wrap(() -> {
+                try {
+                    return call.get();
+                } finally {
+                    bulkhead.release();
+                }
+            }));
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+        try {
+            T result = future.get(budgetNanos, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            successes.increment();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            if (deadlineBound) {
+                // the caller ran out of time, which says nothing about the health of the service
+                circuitBreaker.releasePermission();
+                throw new DeadlineExceededException();
+            }
+            circuitBreaker.onFailure();
+            return fallback.apply(new OutboundTimeoutException(name + " call timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms"));
+        } catch (ExecutionException e) {
+            RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+            if (cause instanceof DeadlineExceededException) {
+                circuitBreaker.releasePermission();
+                throw cause;
+            }
+            if (ignored.test(cause)) {
+                circuitBreaker.onSuccess();
+                successes.increment();
+                throw cause;
+            }
+            circuitBreaker.onFailure();
+            failures.increment();
+            log.debug("{} call failed: {}", name, cause.toString());
+            return fallback.apply(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.releasePermission();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for " + name);
+        }
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.state();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return maxWaitNanos <= 0 ? bulkhead.tryAcquire() : bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("order.circuitbreaker.calls").tag("name", name).tag("outcome", outcome).register(meterRegistry);
+    }
+}
@@ -0,0 +1,125 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.LifecycleProperties;
+import com.codedecode.order.entity.OrderEvent;
+import com.codedecode.order.entity.OrderState;
+import com.codedecode.order.entity.OrderStatus;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.OrderEventStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Order status as an event stream. A transition reads the small {@code order_state} projection, appends one
+ * event and moves the projection forward; the {@code order} document itself is never rewritten.
+ */
+@Slf4j
+@Service
+public class OrderLifecycleService {
+
+    @Autowired
+    OrderEventStore orderEventStore;
+
+    @Autowired
+    LifecycleProperties lifecycleProperties;
+
+    @Autowired
+    OrderCodecRepository orderCodecRepository;
+
+    /**
+     * Idempotent: if the order already has its PLACED event the stored stream is returned instead.
+     */
+    public OrderState place(int orderId) {
+        try {
+            return append(OrderState.initial(orderId), OrderStatus.PLACED);
+        } catch (OptimisticLockingFailureException e) {
+            return rebuild(orderId);
+        }
+    }
+
+    /**
+     * @throws InvalidStatusTransitionException if {@code target} is not reachable from the current status
+     * @throws OptimisticLockingFailureException if another transition of the same order won the race
+     */
+    public OrderState transition(int orderId, OrderStatus target) {
+        OrderState current = currentState(orderId);
+        if (!current.getStatus().canTransitionTo(target)) {
+            throw new InvalidStatusTransitionException(orderId, current.getStatus(), target);
+        }
+        try {
+            return append(current, target);
+        } catch (OptimisticLockingFailureException e) {
+            // the projection may be behind the log after a crash between append and saveState
+            rebuild(orderId);
+            throw e;
+        }
+    }
+
+    public OrderState currentState(int orderId) {
+        return orderEventStore.findState(orderId).orElseGet(() -> rebuild(orderId));
+    }
+
+    /**
+     * Folds the events after the latest snapshot onto it and stores the result as the projection. An order that
+     * was saved without its PLACED event (the write after the insert failed, or it was imported) is placed here.
+     */
+    public OrderState rebuild(int orderId) {
+        OrderState state = orderEventStore.findSnapshot(orderId).orElseGet(() -> OrderState.initial(orderId));
+        List<OrderEvent> events = orderEventStore.readStream(orderId, state.getVersion());
+        if (state.getVersion() == 0 && events.isEmpty()) {
+            if (orderCodecRepository.findByOrderId(orderId).isEmpty()) {
+                throw new OrderNotFoundException(orderId);
+            }
+            log.info("Order {} had no lifecycle events, placing it now", orderId);
+            return place(orderId);
+        }
+        events.forEach(state::apply);
+        orderEventStore.saveState(state);
+        log.debug("Rebuilt order {} at version {} from {} events", orderId, state.getVersion(), events.size());
+        return state;
+    }
+
+    public List<OrderEvent> history(int orderId) {
+        List<OrderEvent> events = orderEventStore.readStream(orderId, 0);
+        if (events.isEmpty()) {
+            throw new OrderNotFoundException(orderId);
+        }
+        return events;
+    }
+
+    private OrderState append(OrderState current, OrderStatus target) {
+        OrderEvent event = new OrderEvent(null, current.getOrderId(), current.getVersion() + 1, target, Instant.now());
+        orderEventStore.append(event);
+        current.apply(event);
+        orderEventStore.saveState(current);
+        if (current.getVersion() % lifecycleProperties.getSnapshotEvery() == 0) {
+            orderEventStore.saveSnapshot(current);
+        }
+        return current;
+    }
+}
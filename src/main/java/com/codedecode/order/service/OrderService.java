@@ -21,23 +21,45 @@ package com.codedecode.order.service;
  */
 
 import com.codedecode.order.OrderMapper;
+import com.codedecode.order.archive.OrderArchive;
 import com.codedecode.order.dto.FoodItemsDTO;
 import com.codedecode.order.dto.OrderDTO;
 import com.codedecode.order.dto.OrderDTOFromFE;
 import com.codedecode.order.dto.UserDTO;
 import com.codedecode.order.entity.Order;
-import com.codedecode.order.repo.OrderRepo;
+import com.codedecode.order.hedge.RequestHedger;
+import com.codedecode.order.jfr.OrderPlacementEvent;
+import com.codedecode.order.ordercache.CachedOrder;
+import com.codedecode.order.ordercache.RecentOrderCache;
+import com.codedecode.order.repo.DurabilityTier;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.tieredcache.TwoTierCache;
+import com.codedecode.order.usercache.UserProfileCache;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+@Slf4j
 @Service
 public class OrderService {
 
     @Autowired
-    OrderRepo orderRepo;
+    OrderCodecRepository orderCodecRepository;
 
     @Autowired
     SequenceGenerator sequenceGenerator;
@@ -45,22 +67,209 @@ public class OrderService {
     @Autowired
     RestTemplate restTemplate;
 
+    @Autowired
+    OrderLifecycleService orderLifecycleService;
+
+    @Autowired
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    OrderArchive orderArchive;
+
+    @Autowired
+    ObservationRegistry observationRegistry;
+
+    @Autowired(required = false)
+    RequestHedger requestHedger;
+
+    @Autowired(required = false)
+    UserLookupGuard userLookupGuard;
+
+    @Autowired(required = false)
+    UserProfileCache userProfileCache;
+
+    @Autowired(required = false)
+    TwoTierCache<Integer, UserDTO> userTwoTierCache;
+
+    @Autowired(required = false)
+    TwoTierCache<Integer, Order> orderTwoTierCache;
+
+    @Autowired(required = false)
+    RecentOrderCache recentOrderCache;
+
+    /** Off for the warm-up copy, whose synthetic placements would otherwise fill the slowest-orders view. */
+    boolean recordPlacementEvents = true;
+
     public OrderDTO saveOrderInDb(OrderDTOFromFE orderDetails) {
-        Integer newOrderID = sequenceGenerator.generateNextOrderId();
-        System.out.println("newOrderID --"+newOrderID);
-        System.out.println(orderDetails);
-        UserDTO userDTO = fetchUserDetailsFromOrderId(orderDetails.getUserId());
+        return saveOrderInDb(orderDetails, null);
+    }
+
+    /**
+     * @param durabilityTier write concern for the insert; {@code null} uses the client default
+     */
+    public OrderDTO saveOrderInDb(OrderDTOFromFE orderDetails, DurabilityTier durabilityTier) {
         List<FoodItemsDTO> orderFoodItemsList =orderDetails.getFoodItemsList();
-        orderFoodItemsList.stream().forEach(System.out::println);
+        OrderPlacementEvent event = recordPlacementEvents
+                ? OrderPlacementEvent.start(orderFoodItemsList == null ? 0 : orderFoodItemsList.size(), durabilityTier)
+                : OrderPlacementEvent.none();
+        Throwable failure = null;
+        try {
+            Integer newOrderID = Observation.createNotStarted("order.sequence", observationRegistry)
+                    .observe(sequenceGenerator::generateNextOrderId);
+            event.sequenceDone(newOrderID);
+            log.debug("newOrderID -- {} : user {}, {} items", newOrderID, orderDetails.getUserId(),
+                    orderFoodItemsList == null ? 0 : orderFoodItemsList.size());
+            UserDTO userDTO = fetchUserDetailsFromOrderId(orderDetails.getUserId());
+            event.userLookupDone();
+
+            Order orderToBeSaved =new Order(newOrderID, orderFoodItemsList,orderDetails.getRestaurant(),userDTO);
+            Observation.createNotStarted("order.insert", observationRegistry)
+                    .lowCardinalityKeyValue("durability.tier", durabilityTier == null ? "default" : durabilityTier.name())
+                    .observe(() -> {
+                        if (durabilityTier == null) {
+                            orderCodecRepository.insert(orderToBeSaved);
+                        } else {
+                            orderCodecRepository.insert(orderToBeSaved, durabilityTier);
+                        }
+                    });
+            event.insertDone();
+            try {
+                orderLifecycleService.place(newOrderID);
+            } catch (RuntimeException e) {
+                // the order is committed; its state is repaired on the first status read
+                log.warn("Order {} saved without its PLACED event", newOrderID, e);
+            }
+            event.lifecycleDone();
+            applicationEventPublisher.publishEvent(new OrderPlacedEvent(orderToBeSaved));
+            event.publishDone();
+            return OrderMapper.INSTANCE.mapOrderToOrderDTO(orderToBeSaved);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.finish(failure);
+        }
+    }
+
+    /**
+     * Looks in the recent-order and two-tier caches, then Mongo, and falls back to the cold-tier archive. Orders
+     * never change once saved, so a cached copy cannot go stale. The user's password is dropped whichever tier
+     * answered.
+     */
+    public OrderDTO findOrder(int orderId) {
+        CachedOrder recent = recentOrderCache == null ? null : recentOrderCache.get(orderId);
+        if (recent != null) {
+            return OrderMapper.INSTANCE.mapOrderToOrderDTO(withoutPassword(recent.toOrder()));
+        }
+        Order order = orderTwoTierCache == null ? loadOrder(orderId) : orderTwoTierCache.get(orderId, () -> loadOrder(orderId));
+        if (order == null) {
+            throw new OrderNotFoundException(orderId);
+        }
+        return OrderMapper.INSTANCE.mapOrderToOrderDTO(withoutPassword(order));
+    }
 
-        Order orderToBeSaved =new Order(newOrderID, orderFoodItemsList,orderDetails.getRestaurant(),userDTO);
-        orderRepo.save(orderToBeSaved);
-        return OrderMapper.INSTANCE.mapOrderToOrderDTO(orderToBeSaved);
+    /**
+     * Batch form of {@link #findOrder}; unknown ids are left out rather than failing the whole lookup.
+     */
+    public List<OrderDTO> findOrders(List<Integer> orderIds) {
+        Map<Integer, Order> orders = new HashMap<>();
+        List<Integer> notRecent = orderIds;
+        if (recentOrderCache != null) {
+            notRecent = new ArrayList<>();
+            for (Integer orderId : orderIds) {
+                CachedOrder recent = recentOrderCache.get(orderId);
+                if (recent != null) {
+                    orders.put(orderId, withoutPassword(recent.toOrder()));
+                } else {
+                    notRecent.add(orderId);
+                }
+            }
+        }
+        if (!notRecent.isEmpty()) {
+            orders.putAll(orderTwoTierCache == null ? loadOrders(notRecent) : orderTwoTierCache.getAll(notRecent, this::loadOrders));
+        }
+        return orderIds.stream().distinct().map(orders::get).filter(Objects::nonNull)
+                .map(OrderService::withoutPassword)
+                .map(OrderMapper.INSTANCE::mapOrderToOrderDTO).toList();
+    }
+
+    private Order loadOrder(int orderId) {
+        return orderCodecRepository.findByOrderId(orderId)
+                .or(() -> orderArchive.find(orderId))
+                .map(OrderService::withoutPassword)
+                .orElse(null);
+    }
+
+    /**
+     * Orders saved before {@link #lookupUser} dropped the password, and archived or imported ones, may still carry
+     * it; nothing read back may return it.
+     */
+    private static Order withoutPassword(Order order) {
+        if (order.getUserDTO() != null) {
+            order.getUserDTO().setUserPassword(null);
+        }
+        return order;
+    }
+
+    private Map<Integer, Order> loadOrders(Collection<Integer> orderIds) {
+        Map<Integer, Order> orders = new LinkedHashMap<>();
+        for (Order order : orderCodecRepository.findByOrderIds(orderIds)) {
+            orders.put(order.getOrderId(), withoutPassword(order));
+        }
+        for (Integer orderId : orderIds) {
+            if (!orders.containsKey(orderId)) {
+                orderArchive.find(orderId).ifPresent(order -> orders.put(orderId, withoutPassword(order)));
+            }
+        }
+        return orders;
     }
 
     private UserDTO fetchUserDetailsFromOrderId(Integer userId) {
+        if (userProfileCache != null && userId != null) {
+            UserDTO cached = userProfileCache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        if (userTwoTierCache != null && userId != null) {
+            UserDTO shared = userTwoTierCache.get(userId);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        if (userLookupGuard == null) {
+            return lookupUser(userId);
+        }
+        return userLookupGuard.fetch(userId, () -> lookupUser(userId));
+    }
 
-        return restTemplate.getForObject("http://USER-SERVICE/user/fetchUserById/"+userId,UserDTO.class);
+    /**
+     * The remote lookup itself; only its results are written through to the profile cache, never fallbacks. The
+     * password is dropped right here, before either cache tier or the order sees the user, so a fetched user is
+     * stored exactly like a cached one.
+     */
+    private UserDTO lookupUser(Integer userId) {
+        String url = "http://USER-SERVICE/user/fetchUserById/" + userId;
+        UserDTO user;
+        if (requestHedger == null) {
+            user = restTemplate.getForObject(url, UserDTO.class);
+        } else {
+            user = requestHedger.call(hedgeKey -> {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(RequestHedger.HEDGE_KEY_HEADER, hedgeKey);
+                return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), UserDTO.class).getBody();
+            });
+        }
+        if (user != null) {
+            user = new UserDTO(user.getUserId(), user.getUserName(), null, user.getAddress(), user.getCity());
+        }
+        if (userProfileCache != null) {
+            userProfileCache.put(user);
+        }
+        if (userTwoTierCache != null && user != null) {
+            userTwoTierCache.fill(userId, user);
+        }
+        return user;
     }
 
 
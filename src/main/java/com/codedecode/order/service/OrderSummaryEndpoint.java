@@ -0,0 +1,79 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.OrderSummaryProperties;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code POST /actuator/ordersummary}: recomputes {@code user_order_summary} from {@code order}, for one
+ * {@code userId} or everyone. Only one rebuild runs at a time and a full rebuild at most once per
+ * {@code order.summary.rebuild-interval}; anything else gets 429. Orders already moved to the cold-tier archive
+ * are not in {@code order}, so a rebuilt summary counts only the hot orders.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "ordersummary")
+public class OrderSummaryEndpoint {
+
+    @Autowired
+    UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @Autowired
+    OrderSummaryProperties orderSummaryProperties;
+
+    Clock clock = Clock.systemUTC();
+
+    private final ReentrantLock running = new ReentrantLock();
+    private Instant lastFullRebuild = Instant.MIN;
+
+    @WriteOperation
+    public WebEndpointResponse<Void> rebuild(@Nullable Integer userId) {
+        if (!running.tryLock()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            Instant now = clock.instant();
+            if (userId == null) {
+                if (now.isBefore(lastFullRebuild.plus(orderSummaryProperties.getRebuildInterval()))) {
+                    return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+                }
+                lastFullRebuild = now;
+            }
+            log.info("Rebuilding order summaries for {}", userId == null ? "all users" : "user " + userId);
+            userOrderSummaryRepository.rebuild(userId, orderSummaryProperties.getRecentOrders());
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+        } finally {
+            running.unlock();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.OrderSummaryProperties;
+import com.codedecode.order.entity.OrderSummaryEntry;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds {@link OrderPlacedEvent}s through a bounded in-memory queue into {@code user_order_summary}. A single
+ * worker drains the queue in batches so a burst of orders costs one bulk write rather than one per order.
+ */
+@Slf4j
+@Component
+public class OrderSummaryProjector {
+
+    @Autowired
+    UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @Autowired
+    OrderSummaryProperties orderSummaryProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private BlockingQueue<Pending> queue;
+    private Counter dropped;
+    private Counter failed;
+    private Thread worker;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(orderSummaryProperties.getQueueCapacity());
+        dropped = meterRegistry.counter("order.summary.dropped");
+        failed = meterRegistry.counter("order.summary.failed");
+        meterRegistry.gauge("order.summary.queue", queue, BlockingQueue::size);
+        worker = Thread.ofPlatform().daemon().name("order-summary-projector").start(this::run);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        Integer userId = event.order().getUserDTO() == null ? null : event.order().getUserDTO().getUserId();
+        if (userId == null) {
+            return;
+        }
+        if (!queue.offer(new Pending(userId, OrderSummaryEntry.of(event.order())))) {
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(orderSummaryProperties.getBatchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Pending first = queue.take();
+                batch.add(first);
+                queue.drainTo(batch, orderSummaryProperties.getBatchSize() - 1);
+                apply(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        queue.drainTo(batch);
+        apply(batch);
+    }
+
+    void apply(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<OrderSummaryEntry>> byUser = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byUser.computeIfAbsent(pending.userId(), k -> new ArrayList<>()).add(pending.entry());
+        }
+        try {
+            userOrderSummaryRepository.appendRecent(byUser, orderSummaryProperties.getRecentOrders());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.warn("Could not update order summaries for {} users; rebuild to repair", byUser.size(), e);
+        }
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    record Pending(int userId, OrderSummaryEntry entry) {
+    }
+}
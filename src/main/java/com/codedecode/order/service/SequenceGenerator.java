@@ -21,6 +21,7 @@ package com.codedecode.order.service;
  */
 
 import com.codedecode.order.entity.Sequence;
+import com.codedecode.order.jfr.SequenceAllocationEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Update;
@@ -40,12 +41,33 @@ public class SequenceGenerator {
 
     public int generateNextOrderId()
     {
-        Sequence counter = mongoOperations.findAndModify(
-                query(where("_id").is("sequence")),
-                new Update().inc("sequence",1),
-                options().returnNew(true).upsert(true),
-                Sequence.class
-        );
-        return Objects.requireNonNull(counter).getSequence();
+        return allocateBlock(1);
+    }
+
+    /**
+     * Reserves {@code size} consecutive order ids in one round trip.
+     *
+     * @return the first id of the block
+     */
+    public int allocateBlock(int size)
+    {
+        SequenceAllocationEvent event = SequenceAllocationEvent.start(size);
+        int firstId = 0;
+        Throwable failure = null;
+        try {
+            Sequence counter = mongoOperations.findAndModify(
+                    query(where("_id").is("sequence")),
+                    new Update().inc("sequence",size),
+                    options().returnNew(true).upsert(true),
+                    Sequence.class
+            );
+            firstId = Objects.requireNonNull(counter).getSequence() - size + 1;
+            return firstId;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.finish(firstId, failure);
+        }
     }
 }
@@ -0,0 +1,89 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.UserServiceResilienceProperties;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.resilience.OutboundGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs the USER-SERVICE lookup of {@code saveOrder} through an {@link OutboundGuard} and answers rejected or
+ * failed lookups with the configured fallback. The CACHED fallback serves the last successful lookup of the user,
+ * kept in a small LRU map; {@code lookupUser} has already dropped the password.
+ */
+public class UserLookupGuard {
+
+    private final OutboundGuard guard;
+    private final UserServiceResilienceProperties.Fallback fallback;
+    private final Map<Integer, UserDTO> lastKnown;
+    private final MeterRegistry meterRegistry;
+
+    public UserLookupGuard(OutboundGuard guard, UserServiceResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.guard = guard;
+        this.fallback = properties.getFallback();
+        this.meterRegistry = meterRegistry;
+        int cacheSize = properties.getCacheSize();
+        this.lastKnown = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, UserDTO> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public UserDTO fetch(Integer userId, Supplier<UserDTO> lookup) {
+        return guard.call(() -> remember(lookup.get()), failure -> fallback(userId, failure));
+    }
+
+    private UserDTO remember(UserDTO user) {
+        if (fallback == UserServiceResilienceProperties.Fallback.CACHED && user != null) {
+            synchronized (lastKnown) {
+                lastKnown.put(user.getUserId(), user);
+            }
+        }
+        return user;
+    }
+
+    private UserDTO fallback(Integer userId, RuntimeException failure) {
+        if (fallback == UserServiceResilienceProperties.Fallback.NONE) {
+            throw new UserServiceUnavailableException(failure);
+        }
+        if (fallback == UserServiceResilienceProperties.Fallback.CACHED) {
+            UserDTO cached;
+            synchronized (lastKnown) {
+                cached = lastKnown.get(userId);
+            }
+            if (cached != null) {
+                meterRegistry.counter("order.user-service.fallbacks", "type", "cached").increment();
+                return cached;
+            }
+        }
+        meterRegistry.counter("order.user-service.fallbacks", "type", "partial").increment();
+        UserDTO partial = new UserDTO();
+        partial.setUserId(userId);
+        return partial;
+    }
+}
@@ -0,0 +1,150 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.WarmupProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.OrderDTO;
+import com.codedecode.order.dto.OrderDTOFromFE;
+import com.codedecode.order.dto.Restaurant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs synthetic orders through Jackson, {@link OrderService}, the mapper and the BSON codec against
+ * non-persisting stubs so the JIT has compiled the hot paths before real traffic arrives.
+ * <p>
+ * It is an {@link ApplicationRunner}, so Spring Boot only reports the readiness probe as ACCEPTING_TRAFFIC
+ * after it returns. The Eureka registration starts as STARTING ({@code eureka.instance.initial-status})
+ * and is switched to UP here.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    @Autowired
+    WarmupProperties warmupProperties;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    private final AtomicInteger iterations = new AtomicInteger();
+    private final AtomicInteger complete = new AtomicInteger();
+    private final AtomicLong lastBatchP99Nanos = new AtomicLong();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Gauge.builder("order.warmup.iterations", iterations, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("order.warmup.complete", complete, AtomicInteger::get).register(meterRegistry);
+        TimeGauge.builder("order.warmup.batch.p99", lastBatchP99Nanos, TimeUnit.NANOSECONDS, AtomicLong::get).register(meterRegistry);
+        try {
+            if (warmupProperties.isEnabled()) {
+                warmUp();
+            }
+        } catch (Exception e) {
+            log.warn("Warm-up aborted after {} iterations, going UP anyway", iterations.get(), e);
+        } finally {
+            complete.set(1);
+            ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+            if (manager != null) {
+                manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+            }
+        }
+    }
+
+    void warmUp() throws IOException {
+        OrderService service = WarmupStubs.orderService(WarmupStubs.userServiceRestTemplate());
+        Timer timer = Timer.builder("order.warmup.iteration").register(meterRegistry);
+        long started = System.nanoTime();
+        long deadline = started + warmupProperties.getTimeout().toNanos();
+        long[] batch = new long[Math.max(1, warmupProperties.getBatchSize())];
+
+        while (iterations.get() < warmupProperties.getMaxIterations() && System.nanoTime() < deadline) {
+            for (int i = 0; i < batch.length; i++) {
+                long start = System.nanoTime();
+                runOnce(service, iterations.get());
+                batch[i] = System.nanoTime() - start;
+                timer.record(batch[i], TimeUnit.NANOSECONDS);
+                iterations.incrementAndGet();
+            }
+            Arrays.sort(batch);
+            long p99 = batch[(int) Math.ceil(batch.length * 0.99) - 1];
+            lastBatchP99Nanos.set(p99);
+            if (latencyTargetReached(p99)) {
+                break;
+            }
+        }
+        log.info("Warm-up finished: {} iterations in {} ms, last batch p99 {} us", iterations.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), TimeUnit.NANOSECONDS.toMicros(lastBatchP99Nanos.get()));
+    }
+
+    private boolean latencyTargetReached(long p99Nanos) {
+        return warmupProperties.getTargetP99Latency() != null
+                && iterations.get() >= warmupProperties.getMinIterations()
+                && p99Nanos <= warmupProperties.getTargetP99Latency().toNanos();
+    }
+
+    private void runOnce(OrderService service, int iteration) throws IOException {
+        byte[] requestBody = objectMapper.writeValueAsBytes(syntheticOrder(iteration));
+        OrderDTOFromFE request = objectMapper.readValue(requestBody, OrderDTOFromFE.class);
+        OrderDTO saved = service.saveOrderInDb(request);
+        objectMapper.writeValueAsBytes(saved);
+    }
+
+    private OrderDTOFromFE syntheticOrder(int iteration) {
+        int restaurantId = iteration % 97;
+        List<FoodItemsDTO> items = new ArrayList<>(warmupProperties.getItemsPerOrder());
+        for (int i = 0; i < warmupProperties.getItemsPerOrder(); i++) {
+            items.add(new FoodItemsDTO(i, "Item " + i, "Warm-up item", i % 2 == 0, 100 + i, restaurantId, 1 + i % 3));
+        }
+        Restaurant restaurant = new Restaurant(restaurantId, "Warm-up " + restaurantId, "Main St", "Warmup", "synthetic");
+        return new OrderDTOFromFE(items, iteration % 1000, restaurant);
+    }
+
+    int getIterations() {
+        return iterations.get();
+    }
+}
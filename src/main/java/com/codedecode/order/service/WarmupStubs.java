@@ -0,0 +1,188 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.codec.OrderCodec;
+import com.codedecode.order.config.LifecycleProperties;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.OrderEvent;
+import com.codedecode.order.entity.OrderState;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.OrderEventStore;
+import io.micrometer.observation.ObservationRegistry;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-persisting collaborators for the warm-up copy of {@link OrderService}. They run the same codec and
+ * HTTP message-converter code as production but never touch Mongo or the network.
+ */
+final class WarmupStubs {
+
+    private WarmupStubs() {
+    }
+
+    static OrderService orderService(RestTemplate restTemplate) {
+        OrderService service = new OrderService();
+        service.sequenceGenerator = new SequenceStub();
+        service.orderCodecRepository = new EncodingOrderRepository();
+        service.restTemplate = restTemplate;
+        service.orderLifecycleService = new OrderLifecycleService();
+        service.orderLifecycleService.orderEventStore = new DiscardingEventStore();
+        service.orderLifecycleService.lifecycleProperties = new LifecycleProperties();
+        service.applicationEventPublisher = event -> {
+        };
+        service.observationRegistry = ObservationRegistry.NOOP;
+        service.recordPlacementEvents = false;
+        return service;
+    }
+
+    static RestTemplate userServiceRestTemplate() {
+        return new RestTemplate(new UserServiceRequestFactory());
+    }
+
+    static class SequenceStub extends SequenceGenerator {
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public int generateNextOrderId() {
+            return next.incrementAndGet();
+        }
+    }
+
+    /** Encodes with {@link OrderCodec} into a throw-away buffer instead of inserting. */
+    static class EncodingOrderRepository extends OrderCodecRepository {
+
+        private final OrderCodec codec = new OrderCodec();
+
+        @Override
+        public Order insert(Order order) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer(512);
+            codec.encode(new BsonBinaryWriter(buffer), order, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+            return order;
+        }
+    }
+
+    static class DiscardingEventStore extends OrderEventStore {
+
+        @Override
+        public void append(OrderEvent event) {
+        }
+
+        @Override
+        public void saveState(OrderState state) {
+        }
+
+        @Override
+        public void saveSnapshot(OrderState state) {
+        }
+    }
+
+    /** Answers every USER-SERVICE call with a canned user so the response goes through Jackson as usual. */
+    static class UserServiceRequestFactory implements ClientHttpRequestFactory {
+
+        @Override
+        public AbstractClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+            return new AbstractClientHttpRequest() {
+
+                private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+                @Override
+                public HttpMethod getMethod() {
+                    return httpMethod;
+                }
+
+                @Override
+                public URI getURI() {
+                    return uri;
+                }
+
+                @Override
+                protected OutputStream getBodyInternal(HttpHeaders headers) {
+                    return body;
+                }
+
+                @Override
+                protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+                    String path = uri.getPath();
+                    String userId = path.substring(path.lastIndexOf('/') + 1);
+                    return new UserResponse(("{\"userId\":" + userId + ",\"userName\":\"warmup\",\"userPassword\":\"\","
+                            + "\"address\":\"1 Warmup St\",\"city\":\"Warmup\"}").getBytes(StandardCharsets.UTF_8));
+                }
+            };
+        }
+    }
+
+    static class UserResponse implements ClientHttpResponse {
+
+        private final byte[] body;
+
+        UserResponse(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return "OK";
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+/**
+ * DDSketch (Masson et al.) with 1% relative accuracy: every quantile is within 1% of a value actually seen.
+ * Bins are log-spaced and held in one dense array; past {@link #MAX_BINS} the lowest bins are collapsed, which
+ * only costs accuracy at the bottom of the distribution. Merging adds bin counts.
+ */
+final class DDSketch {
+
+    static final int MAX_BINS = 2048;
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final double MIN_INDEXABLE = 1e-9;
+
+    private long[] bins = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    void add(double value) {
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (value <= MIN_INDEXABLE) {
+            zeroCount++;
+        } else {
+            increment((int) Math.ceil(Math.log(value) / LOG_GAMMA), 1);
+        }
+    }
+
+    void merge(DDSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        count += other.count;
+        zeroCount += other.zeroCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        if (other.bins.length == 0) {
+            return;
+        }
+        int otherHigh = other.offset + other.bins.length - 1;
+        if (bins.length == 0) {
+            bins = new long[other.bins.length];
+            offset = other.offset;
+        } else if (other.offset < offset || otherHigh >= offset + bins.length) {
+            resize(Math.min(other.offset, offset), Math.max(otherHigh, offset + bins.length - 1));
+        }
+        for (int i = 0; i < other.bins.length; i++) {
+            if (other.bins[i] != 0) {
+                increment(other.offset + i, other.bins[i]);
+            }
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return the {@code q}-quantile, or {@code NaN} when empty
+     */
+    double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        long cumulative = zeroCount;
+        if (rank < cumulative) {
+            return min;
+        }
+        for (int i = 0; i < bins.length; i++) {
+            cumulative += bins[i];
+            if (cumulative > rank) {
+                double value = 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+                return Math.max(min, Math.min(max, value));
+            }
+        }
+        return max;
+    }
+
+    byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(40 + 8 * bins.length);
+        buffer.putLong(count).putLong(zeroCount).putDouble(min).putDouble(max).putInt(offset).putInt(bins.length);
+        for (long bin : bins) {
+            buffer.putLong(bin);
+        }
+        return buffer.array();
+    }
+
+    static DDSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        DDSketch sketch = new DDSketch();
+        sketch.count = buffer.getLong();
+        sketch.zeroCount = buffer.getLong();
+        sketch.min = buffer.getDouble();
+        sketch.max = buffer.getDouble();
+        sketch.offset = buffer.getInt();
+        int length = buffer.getInt();
+        if (length < 0 || length > MAX_BINS) {
+            throw new IllegalArgumentException("Invalid bin count " + length);
+        }
+        sketch.bins = new long[length];
+        for (int i = 0; i < length; i++) {
+            sketch.bins[i] = buffer.getLong();
+        }
+        return sketch;
+    }
+
+    private void increment(int index, long n) {
+        if (bins.length == 0) {
+            bins = new long[1];
+            offset = index;
+        } else if (index < offset || index >= offset + bins.length) {
+            resize(Math.min(index, offset), Math.max(index, offset + bins.length - 1));
+        }
+        bins[Math.max(index, offset) - offset] += n;
+    }
+
+    private void resize(int low, int high) {
+        int newOffset = Math.max(low, high - MAX_BINS + 1);
+        long[] resized = new long[high - newOffset + 1];
+        for (int i = 0; i < bins.length; i++) {
+            resized[Math.max(offset + i, newOffset) - newOffset] += bins[i];
+        }
+        bins = resized;
+        offset = newOffset;
+    }
+}
@@ -0,0 +1,310 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RestaurantStatsProperties;
+import com.codedecode.order.dto.RestaurantStatsDTO;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.OrderSummaryEntry;
+import com.codedecode.order.entity.RestaurantSketch;
+import com.codedecode.order.repo.RestaurantSketchRepository;
+import com.codedecode.order.service.OrderPlacedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distinct customers and order-value percentiles per restaurant over the last few buckets. Own buckets are
+ * updated on every order and written to {@code restaurant_sketch} in the background; other instances' buckets
+ * are read back on the same schedule and pre-merged, so a query only merges in-memory sketches.
+ */
+@Slf4j
+@Component
+public class RestaurantStatsTracker {
+
+    @Autowired
+    RestaurantStatsProperties restaurantStatsProperties;
+
+    @Autowired
+    RestaurantSketchRepository restaurantSketchRepository;
+
+    Clock clock = Clock.systemUTC();
+
+    private final Map<Integer, OwnBuckets> own = new ConcurrentHashMap<>();
+    private volatile Map<Integer, List<SketchBucket>> peers = Map.of();
+    private volatile long lastEviction = Long.MIN_VALUE;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        if (!restaurantStatsProperties.isPersistenceEnabled()) {
+            return;
+        }
+        long interval = restaurantStatsProperties.getSyncInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("restaurant-stats-sync").factory());
+        scheduler.execute(this::load);
+        scheduler.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            persist();
+        }
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        Order order = event.order();
+        if (order.getRestaurant() == null) {
+            return;
+        }
+        long customerId = order.getUserDTO() == null ? Long.MIN_VALUE : order.getUserDTO().getUserId();
+        double value = OrderSummaryEntry.of(order).getTotal();
+        long epoch = currentEpoch();
+        OwnBuckets buckets = ownBuckets(order.getRestaurant().getId(), epoch);
+        if (buckets == null) {
+            log.debug("Not tracking stats for restaurant {}: {} restaurants already tracked", order.getRestaurant().getId(), own.size());
+            return;
+        }
+        buckets.add(epoch, customerId, value);
+    }
+
+    /**
+     * @param window rounded up to whole buckets and capped at {@code bucket * buckets}
+     */
+    public RestaurantStatsDTO stats(int restaurantId, Duration window) {
+        long bucketMillis = restaurantStatsProperties.getBucket().toMillis();
+        int bucketCount = (int) Math.min(restaurantStatsProperties.getBuckets(),
+                Math.max(1, (window.toMillis() + bucketMillis - 1) / bucketMillis));
+        long oldest = currentEpoch() - bucketCount + 1;
+
+        SketchBucket merged = new SketchBucket(oldest);
+        OwnBuckets ownBuckets = own.get(restaurantId);
+        if (ownBuckets != null) {
+            ownBuckets.mergeInto(merged, oldest);
+        }
+        for (SketchBucket peer : peers.getOrDefault(restaurantId, List.of())) {
+            if (peer.epoch >= oldest) {
+                merged.merge(peer);
+            }
+        }
+        return new RestaurantStatsDTO(restaurantId, bucketCount * bucketMillis / 1000,
+                merged.orderValues.count(), merged.customers.estimate(),
+                merged.orderValues.quantile(0.5), merged.orderValues.quantile(0.95), merged.orderValues.quantile(0.99));
+    }
+
+    void sync() {
+        persist();
+        refreshPeers();
+    }
+
+    void persist() {
+        List<RestaurantSketch> dirty = new ArrayList<>();
+        own.forEach((restaurantId, buckets) -> buckets.drainDirty(restaurantId, dirty));
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            restaurantSketchRepository.saveAll(dirty);
+        } catch (RuntimeException e) {
+            for (RestaurantSketch sketch : dirty) {
+                OwnBuckets buckets = own.get(sketch.getRestaurantId());
+                if (buckets != null) {
+                    buckets.markDirty(sketch.getEpoch());
+                }
+            }
+            log.warn("Could not persist {} restaurant sketches", dirty.size(), e);
+        }
+    }
+
+    void refreshPeers() {
+        try {
+            Map<Integer, Map<Long, SketchBucket>> byRestaurant = new HashMap<>();
+            for (RestaurantSketch doc : restaurantSketchRepository.findOthers(restaurantStatsProperties.getInstanceId(), oldestEpoch())) {
+                if (doc.getBucketMillis() != restaurantStatsProperties.getBucket().toMillis()) {
+                    continue;
+                }
+                SketchBucket bucket = decode(doc);
+                byRestaurant.computeIfAbsent(doc.getRestaurantId(), id -> new HashMap<>())
+                        .merge(doc.getEpoch(), bucket, (a, b) -> {
+                            a.merge(b);
+                            return a;
+                        });
+            }
+            Map<Integer, List<SketchBucket>> refreshed = new HashMap<>();
+            byRestaurant.forEach((restaurantId, buckets) -> refreshed.put(restaurantId, List.copyOf(buckets.values())));
+            peers = refreshed;
+        } catch (RuntimeException e) {
+            log.warn("Could not read peer restaurant sketches; keeping the previous view", e);
+        }
+    }
+
+    void load() {
+        try {
+            restaurantSketchRepository.ensureIndexes(restaurantStatsProperties.getBucket()
+                    .multipliedBy(restaurantStatsProperties.getBuckets() + 1L));
+            for (RestaurantSketch doc : restaurantSketchRepository.findOwn(restaurantStatsProperties.getInstanceId(), oldestEpoch())) {
+                OwnBuckets buckets = doc.getBucketMillis() == restaurantStatsProperties.getBucket().toMillis()
+                        ? ownBuckets(doc.getRestaurantId(), currentEpoch()) : null;
+                if (buckets != null) {
+                    buckets.restore(decode(doc));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not load restaurant sketches; starting empty", e);
+        }
+        refreshPeers();
+    }
+
+    /**
+     * @return the restaurant's buckets, or {@code null} if it is new and {@code maxRestaurants} active restaurants
+     * are already tracked
+     */
+    private OwnBuckets ownBuckets(int restaurantId, long epoch) {
+        OwnBuckets buckets = own.get(restaurantId);
+        if (buckets != null) {
+            return buckets;
+        }
+        if (own.size() >= restaurantStatsProperties.getMaxRestaurants() && !evictIdle(epoch)) {
+            return null;
+        }
+        return own.computeIfAbsent(restaurantId, id -> new OwnBuckets(restaurantStatsProperties.getBuckets()));
+    }
+
+    /**
+     * Drops restaurants whose buckets have all left the window, at most once per bucket.
+     */
+    private boolean evictIdle(long epoch) {
+        if (epoch != lastEviction) {
+            lastEviction = epoch;
+            long oldest = epoch - restaurantStatsProperties.getBuckets() + 1;
+            own.values().removeIf(buckets -> buckets.isIdle(oldest));
+        }
+        return own.size() < restaurantStatsProperties.getMaxRestaurants();
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / restaurantStatsProperties.getBucket().toMillis();
+    }
+
+    private long oldestEpoch() {
+        return currentEpoch() - restaurantStatsProperties.getBuckets() + 1;
+    }
+
+    private static SketchBucket decode(RestaurantSketch doc) {
+        return new SketchBucket(doc.getEpoch(), HyperLogLog.fromBytes(doc.getCustomers()), DDSketch.fromBytes(doc.getOrderValues()));
+    }
+
+    /** Ring of this instance's buckets for one restaurant. */
+    private final class OwnBuckets {
+
+        private final SketchBucket[] ring;
+        private final boolean[] dirty;
+
+        OwnBuckets(int size) {
+            ring = new SketchBucket[size];
+            dirty = new boolean[size];
+        }
+
+        synchronized void add(long epoch, long customerId, double value) {
+            SketchBucket bucket = bucket(epoch);
+            bucket.customers.add(customerId);
+            bucket.orderValues.add(value);
+            dirty[slot(epoch)] = true;
+        }
+
+        synchronized void restore(SketchBucket saved) {
+            if (saved.epoch > currentEpoch() - ring.length) {
+                bucket(saved.epoch).merge(saved);
+            }
+        }
+
+        synchronized void mergeInto(SketchBucket target, long oldest) {
+            for (SketchBucket bucket : ring) {
+                if (bucket != null && bucket.epoch >= oldest) {
+                    target.merge(bucket);
+                }
+            }
+        }
+
+        synchronized boolean isIdle(long oldest) {
+            for (SketchBucket bucket : ring) {
+                if (bucket != null && bucket.epoch >= oldest) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Re-flags a bucket whose write failed, unless the slot has since moved on to a newer epoch.
+         */
+        synchronized void markDirty(long epoch) {
+            int slot = slot(epoch);
+            if (ring[slot] != null && ring[slot].epoch == epoch) {
+                dirty[slot] = true;
+            }
+        }
+
+        synchronized void drainDirty(int restaurantId, List<RestaurantSketch> out) {
+            for (int i = 0; i < ring.length; i++) {
+                if (dirty[i]) {
+                    SketchBucket bucket = ring[i];
+                    String instanceId = restaurantStatsProperties.getInstanceId();
+                    out.add(new RestaurantSketch(RestaurantSketch.id(restaurantId, instanceId, bucket.epoch), restaurantId,
+                            instanceId, bucket.epoch, restaurantStatsProperties.getBucket().toMillis(),
+                            bucket.customers.toBytes(), bucket.orderValues.toBytes(), clock.instant()));
+                    dirty[i] = false;
+                }
+            }
+        }
+
+        private SketchBucket bucket(long epoch) {
+            int slot = slot(epoch);
+            if (ring[slot] == null || ring[slot].epoch != epoch) {
+                ring[slot] = new SketchBucket(epoch);
+                dirty[slot] = false;
+            }
+            return ring[slot];
+        }
+
+        private int slot(long epoch) {
+            return (int) Math.floorMod(epoch, (long) ring.length);
+        }
+    }
+}
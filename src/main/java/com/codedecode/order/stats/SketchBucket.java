@@ -0,0 +1,46 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Customers and order values seen by one restaurant during one bucket.
+ */
+final class SketchBucket {
+
+    final long epoch;
+    final HyperLogLog customers;
+    final DDSketch orderValues;
+
+    SketchBucket(long epoch) {
+        this(epoch, new HyperLogLog(), new DDSketch());
+    }
+
+    SketchBucket(long epoch, HyperLogLog customers, DDSketch orderValues) {
+        this.epoch = epoch;
+        this.customers = customers;
+        this.orderValues = orderValues;
+    }
+
+    void merge(SketchBucket other) {
+        customers.merge(other.customers);
+        orderValues.merge(other.orderValues);
+    }
+}
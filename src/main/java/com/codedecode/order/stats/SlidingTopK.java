@@ -0,0 +1,141 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.TopItem;
+import com.codedecode.order.entity.RestaurantTopItems;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ring of {@link SpaceSaving} summaries, one per time bucket. Writes go to the current bucket; reads merge the
+ * buckets still inside the window. Memory is bounded by {@code buckets * capacity} counters.
+ */
+final class SlidingTopK {
+
+    private final long bucketMillis;
+    private final SpaceSaving[] buckets;
+    private final long[] epochs;
+
+    SlidingTopK(int capacity, long windowMillis, int bucketCount) {
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+        this.buckets = new SpaceSaving[bucketCount];
+        this.epochs = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new SpaceSaving(capacity);
+            epochs[i] = -1;
+        }
+    }
+
+    synchronized void offer(long nowMillis, int itemId, String itemName, long weight) {
+        bucket(nowMillis / bucketMillis).offer(itemId, itemName, weight);
+    }
+
+    /**
+     * Top items over the window, merged so that {@code count} stays an upper bound: an item missing from a
+     * bucket is charged that bucket's {@link SpaceSaving#minCount()}.
+     */
+    synchronized List<TopItem> top(long nowMillis, int limit) {
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        long missingCharge = 0;
+        Map<Integer, TopItem> merged = new HashMap<>();
+        Map<Integer, Long> guaranteed = new HashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            if (epochs[i] < oldest) {
+                continue;
+            }
+            long minCount = buckets[i].minCount();
+            missingCharge += minCount;
+            for (TopItem counter : buckets[i].counters()) {
+                TopItem total = merged.computeIfAbsent(counter.getItemId(), id -> new TopItem(id, counter.getItemName(), 0, 0));
+                total.setCount(total.getCount() + counter.getCount() - minCount);
+                guaranteed.merge(counter.getItemId(), counter.getCount() - counter.getError(), Long::sum);
+            }
+        }
+        List<TopItem> result = new ArrayList<>(merged.size());
+        for (TopItem item : merged.values()) {
+            long upper = item.getCount() + missingCharge;
+            result.add(new TopItem(item.getItemId(), item.getItemName(), upper, upper - guaranteed.get(item.getItemId())));
+        }
+        result.sort(Comparator.comparingLong(TopItem::getCount).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * True once every bucket has fallen out of the window, i.e. nothing has been offered for a whole window.
+     */
+    synchronized boolean isIdle(long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        for (long epoch : epochs) {
+            if (epoch >= oldest) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized RestaurantTopItems snapshot(int restaurantId, long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        List<RestaurantTopItems.Bucket> saved = new ArrayList<>();
+        for (int i = 0; i < buckets.length; i++) {
+            if (epochs[i] >= oldest) {
+                List<TopItem> items = new ArrayList<>();
+                for (TopItem counter : buckets[i].counters()) {
+                    items.add(new TopItem(counter.getItemId(), counter.getItemName(), counter.getCount(), counter.getError()));
+                }
+                saved.add(new RestaurantTopItems.Bucket(epochs[i], items));
+            }
+        }
+        return new RestaurantTopItems(restaurantId, bucketMillis, saved);
+    }
+
+    /**
+     * Merges persisted buckets that are still inside the window into the live ones.
+     */
+    synchronized void restore(RestaurantTopItems saved, long nowMillis) {
+        if (saved.getBucketMillis() != bucketMillis || saved.getBuckets() == null) {
+            return;
+        }
+        long oldest = nowMillis / bucketMillis - buckets.length + 1;
+        for (RestaurantTopItems.Bucket bucket : saved.getBuckets()) {
+            if (bucket.getEpoch() < oldest || bucket.getEpoch() > nowMillis / bucketMillis) {
+                continue;
+            }
+            SpaceSaving live = bucket(bucket.getEpoch());
+            for (TopItem item : bucket.getItems()) {
+                live.merge(item.getItemId(), item.getItemName(), item.getCount(), item.getError());
+            }
+        }
+    }
+
+    private SpaceSaving bucket(long epoch) {
+        int index = (int) Math.floorMod(epoch, (long) buckets.length);
+        if (epochs[index] != epoch) {
+            buckets[index].clear();
+            epochs[index] = epoch;
+        }
+        return buckets[index];
+    }
+}
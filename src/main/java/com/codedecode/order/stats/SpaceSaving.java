@@ -0,0 +1,88 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.TopItem;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Weighted Space-Saving (Metwally et al.) over a fixed number of counters. Any item whose true weight exceeds
+ * total / capacity is guaranteed to be held. Not thread-safe.
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<Integer, TopItem> counters;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void offer(int itemId, String itemName, long weight) {
+        merge(itemId, itemName, weight, 0);
+    }
+
+    /**
+     * Adds a counter from another summary; {@code error} is carried over as is.
+     */
+    void merge(int itemId, String itemName, long count, long error) {
+        TopItem counter = counters.get(itemId);
+        if (counter != null) {
+            counter.setCount(counter.getCount() + count);
+            counter.setError(counter.getError() + error);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(itemId, new TopItem(itemId, itemName, count, error));
+            return;
+        }
+        TopItem min = min();
+        counters.remove(min.getItemId());
+        counters.put(itemId, new TopItem(itemId, itemName, min.getCount() + count, min.getCount() + error));
+    }
+
+    /** Upper bound on the weight of any item not held. */
+    long minCount() {
+        return counters.size() < capacity ? 0 : min().getCount();
+    }
+
+    Collection<TopItem> counters() {
+        return counters.values();
+    }
+
+    void clear() {
+        counters.clear();
+    }
+
+    private TopItem min() {
+        TopItem min = null;
+        for (TopItem counter : counters.values()) {
+            if (min == null || counter.getCount() < min.getCount()) {
+                min = counter;
+            }
+        }
+        return min;
+    }
+}
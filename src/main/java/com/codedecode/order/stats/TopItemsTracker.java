@@ -0,0 +1,185 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.TopItemsProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.TopItem;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.RestaurantTopItems;
+import com.codedecode.order.repo.RestaurantTopItemsRepo;
+import com.codedecode.order.service.OrderPlacedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Top items right now" per restaurant, weighted by quantity. Sketches live in memory and are written to
+ * {@code restaurant_top_items} in the background, then merged back in after a restart.
+ */
+@Slf4j
+@Component
+public class TopItemsTracker {
+
+    @Autowired
+    TopItemsProperties topItemsProperties;
+
+    @Autowired
+    RestaurantTopItemsRepo restaurantTopItemsRepo;
+
+    Clock clock = Clock.systemUTC();
+
+    private final Map<Integer, SlidingTopK> windows = new ConcurrentHashMap<>();
+    private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+    private volatile long lastEviction;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        if (!topItemsProperties.isPersistenceEnabled()) {
+            return;
+        }
+        long interval = topItemsProperties.getPersistInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("top-items-persist").factory());
+        scheduler.execute(this::load);
+        scheduler.scheduleWithFixedDelay(this::persist, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            persist();
+        }
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        Order order = event.order();
+        if (order.getFoodItemsList() == null) {
+            return;
+        }
+        long now = clock.millis();
+        for (FoodItemsDTO item : order.getFoodItemsList()) {
+            Integer restaurantId = item.getRestaurantId() != null ? item.getRestaurantId()
+                    : order.getRestaurant() != null ? order.getRestaurant().getId() : null;
+            if (restaurantId == null) {
+                continue;
+            }
+            SlidingTopK window = window(restaurantId, now);
+            if (window == null) {
+                log.debug("Not tracking top items for restaurant {}: {} restaurants already tracked", restaurantId, windows.size());
+                continue;
+            }
+            int quantity = item.getQuantity() == null ? 1 : item.getQuantity();
+            window.offer(now, item.getId(), item.getItemName(), quantity);
+            dirty.add(restaurantId);
+        }
+    }
+
+    public List<TopItem> topItems(int restaurantId, int limit) {
+        SlidingTopK window = windows.get(restaurantId);
+        return window == null ? List.of() : window.top(clock.millis(), limit);
+    }
+
+    void persist() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        long now = clock.millis();
+        List<RestaurantTopItems> snapshots = new ArrayList<>();
+        for (Integer restaurantId : List.copyOf(dirty)) {
+            dirty.remove(restaurantId);
+            SlidingTopK window = windows.get(restaurantId);
+            if (window != null) {
+                snapshots.add(window.snapshot(restaurantId, now));
+            }
+        }
+        try {
+            restaurantTopItemsRepo.saveAll(snapshots);
+        } catch (RuntimeException e) {
+            snapshots.forEach(s -> dirty.add(s.getRestaurantId()));
+            log.warn("Could not persist top items for {} restaurants", snapshots.size(), e);
+        }
+    }
+
+    void load() {
+        try {
+            long now = clock.millis();
+            for (RestaurantTopItems saved : restaurantTopItemsRepo.findAll()) {
+                SlidingTopK window = window(saved.getRestaurantId(), now);
+                if (window != null) {
+                    window.restore(saved, now);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not load persisted top items; starting empty", e);
+        }
+    }
+
+    /**
+     * @return the restaurant's window, or {@code null} if it is new and the tracker is full of active restaurants
+     */
+    private SlidingTopK window(int restaurantId, long now) {
+        SlidingTopK window = windows.get(restaurantId);
+        if (window != null) {
+            return window;
+        }
+        if (windows.size() >= topItemsProperties.getMaxRestaurants() && !evictIdle(now)) {
+            return null;
+        }
+        return windows.computeIfAbsent(restaurantId, id -> new SlidingTopK(topItemsProperties.getCapacity(),
+                topItemsProperties.getWindow().toMillis(), topItemsProperties.getBuckets()));
+    }
+
+    /**
+     * Drops restaurants with nothing left in their window. Sweeps at most once per bucket so a flood of unknown
+     * ids cannot turn every order into a full scan.
+     */
+    private boolean evictIdle(long now) {
+        long bucketMillis = topItemsProperties.getWindow().toMillis() / topItemsProperties.getBuckets();
+        if (now - lastEviction >= bucketMillis) {
+            lastEviction = now;
+            windows.entrySet().removeIf(e -> {
+                if (!e.getValue().isIdle(now)) {
+                    return false;
+                }
+                dirty.remove(e.getKey());
+                return true;
+            });
+        }
+        return windows.size() < topItemsProperties.getMaxRestaurants();
+    }
+}
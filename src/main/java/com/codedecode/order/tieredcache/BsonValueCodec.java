@@ -0,0 +1,89 @@
+package com.codedecode.order.tieredcache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.codec.OrderCodec;
+import com.codedecode.order.codec.UserDTOCodec;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores values as BSON documents with the same hand-written codecs Mongo uses. A user profile is wrapped in a
+ * one-field document, since {@link UserDTOCodec} writes an embedded document.
+ */
+public class BsonValueCodec<V> implements ValueCodec<V> {
+
+    private final Codec<V> codec;
+    private final String wrapperField;
+
+    private BsonValueCodec(Codec<V> codec, String wrapperField) {
+        this.codec = codec;
+        this.wrapperField = wrapperField;
+    }
+
+    public static BsonValueCodec<Order> orders() {
+        return new BsonValueCodec<>(new OrderCodec(), null);
+    }
+
+    public static BsonValueCodec<UserDTO> users() {
+        return new BsonValueCodec<>(new UserDTOCodec(), "user");
+    }
+
+    @Override
+    public byte[] encode(V value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(256);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            EncoderContext context = EncoderContext.builder().isEncodingCollectibleDocument(true).build();
+            if (wrapperField == null) {
+                codec.encode(writer, value, context);
+            } else {
+                writer.writeStartDocument();
+                writer.writeName(wrapperField);
+                codec.encode(writer, value, context);
+                writer.writeEndDocument();
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public V decode(byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            DecoderContext context = DecoderContext.builder().build();
+            if (wrapperField == null) {
+                return codec.decode(reader, context);
+            }
+            reader.readStartDocument();
+            reader.readName(wrapperField);
+            V value = codec.decode(reader, context);
+            reader.readEndDocument();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.codedecode.order.tieredcache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans L1 invalidations out to every instance over one Redis pub/sub channel. A message is
+ * {@code instanceId \n cacheName \n redisKey}; an instance ignores its own messages, since it already evicted.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener, SubscriptionListener {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final String channel;
+    private final RedisTemplate<String, byte[]> redis;
+    private final Map<String, TwoTierCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(String channel, RedisTemplate<String, byte[]> redis) {
+        this.channel = channel;
+        this.redis = redis;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void register(TwoTierCache<?, ?> cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    void publish(String cacheName, String redisKey) {
+        String message = instanceId + "\n" + cacheName + "\n" + redisKey;
+        try {
+            redis.convertAndSend(channel, message.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            // the other instances fall back to their L1 TTL
+            log.warn("Publishing invalidation of {} in cache {} failed: {}", redisKey, cacheName, e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache<?, ?> cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.onRemoteInvalidation(parts[2]);
+        }
+    }
+
+    /**
+     * Also fires when the listener container re-subscribes after a dropped connection. Messages published while
+     * the subscription was down are gone, so every L1 starts over.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        caches.values().forEach(TwoTierCache::clearLocal);
+    }
+}
@@ -0,0 +1,330 @@
+package com.codedecode.order.tieredcache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A per-instance LRU (L1) in front of Redis (L2). Reads go L1, then L2, then the loader; whatever the loader
+ * returns is written to both tiers. {@link #put} and {@link #invalidate} tell the other instances to drop their
+ * L1 copy over the {@link CacheInvalidationBus}; the L1 TTL bounds staleness if such a message is lost. A value
+ * read from elsewhere goes in through {@link #fill}, which publishes nothing.
+ * Redis failures are counted and treated as misses, so the cache degrades to the loader rather than failing reads.
+ */
+@Slf4j
+public class TwoTierCache<K, V> {
+
+    private final String name;
+    private final String keyPrefix;
+    private final LocalCache<V> local;
+    private final RedisTemplate<String, byte[]> redis;
+    private final ValueCodec<V> codec;
+    private final Expiration l2Expiration;
+    private final CacheInvalidationBus bus;
+    /**
+     * Bumped on every L1 eviction. A read that went to Redis only fills L1 if no eviction happened meanwhile,
+     * otherwise it could park a value in L1 that an invalidation had just removed.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+    private final Counter l2Errors;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    public TwoTierCache(String name, String keyPrefix, int l1MaxEntries, Duration l1Ttl, Duration l2Ttl,
+                        RedisTemplate<String, byte[]> redis, ValueCodec<V> codec, CacheInvalidationBus bus,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.keyPrefix = keyPrefix + name + ":";
+        this.local = new LocalCache<>(l1MaxEntries, l1Ttl.toNanos(), System::nanoTime);
+        this.redis = redis;
+        this.codec = codec;
+        this.l2Expiration = Expiration.from(l2Ttl);
+        this.bus = bus;
+        this.l1Hits = requests(meterRegistry, "l1_hit");
+        this.l2Hits = requests(meterRegistry, "l2_hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.l2Errors = Counter.builder("order.cache.l2.errors").tag("cache", name).register(meterRegistry);
+        this.localInvalidations = invalidations(meterRegistry, "local");
+        this.remoteInvalidations = invalidations(meterRegistry, "remote");
+        bus.register(this);
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.cache.requests").tag("cache", name).tag("result", result).register(meterRegistry);
+    }
+
+    private Counter invalidations(MeterRegistry meterRegistry, String origin) {
+        return Counter.builder("order.cache.invalidations").tag("cache", name).tag("origin", origin)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the cached value, or {@code null} if neither tier has it
+     */
+    public V get(K key) {
+        String redisKey = redisKey(key);
+        V value = local.get(redisKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        long evictionsBefore = evictions.get();
+        byte[] bytes = readL2(redisKey);
+        if (bytes == null) {
+            misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        value = codec.decode(bytes);
+        fillLocal(redisKey, value, evictionsBefore);
+        return value;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.get();
+        if (value != null) {
+            fill(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Looks up all keys with one L1 pass, one pipelined round trip to Redis and one loader call for the rest.
+     *
+     * @param loader receives the keys neither tier had; keys it leaves out are absent from the result
+     * @return the found values in the iteration order of {@code keys}
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> found = new LinkedHashMap<>();
+        List<K> l1Missed = new ArrayList<>();
+        for (K key : keys) {
+            V value = local.get(redisKey(key));
+            if (value != null) {
+                l1Hits.increment();
+                found.put(key, value);
+            } else if (!found.containsKey(key) && !l1Missed.contains(key)) {
+                l1Missed.add(key);
+            }
+        }
+        List<K> missed = new ArrayList<>();
+        if (!l1Missed.isEmpty()) {
+            long evictionsBefore = evictions.get();
+            List<byte[]> l2Values = readL2(l1Missed);
+            for (int i = 0; i < l1Missed.size(); i++) {
+                K key = l1Missed.get(i);
+                byte[] bytes = l2Values.get(i);
+                if (bytes == null) {
+                    misses.increment();
+                    missed.add(key);
+                } else {
+                    l2Hits.increment();
+                    V value = codec.decode(bytes);
+                    fillLocal(redisKey(key), value, evictionsBefore);
+                    found.put(key, value);
+                }
+            }
+        }
+        if (!missed.isEmpty()) {
+            Map<K, V> loaded = loader.apply(missed);
+            Map<String, byte[]> toWrite = new LinkedHashMap<>();
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    String redisKey = redisKey(key);
+                    toWrite.put(redisKey, codec.encode(value));
+                    local.put(redisKey, value);
+                    found.put(key, value);
+                }
+            });
+            writeL2(toWrite);
+        }
+        Map<K, V> ordered = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = found.get(key);
+            if (value != null) {
+                ordered.put(key, value);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Caches a value just read from the source of truth. Unlike {@link #put} it is not an update, so the other
+     * instances keep their L1 copy.
+     */
+    public void fill(K key, V value) {
+        String redisKey = redisKey(key);
+        writeL2(redisKey, codec.encode(value));
+        local.put(redisKey, value);
+    }
+
+    /**
+     * Stores a new value for {@code key} and makes the other instances drop their L1 copy.
+     */
+    public void put(K key, V value) {
+        String redisKey = redisKey(key);
+        evictLocal(redisKey);
+        writeL2(redisKey, codec.encode(value));
+        local.put(redisKey, value);
+        bus.publish(name, redisKey);
+    }
+
+    /**
+     * Removes {@code key} from Redis and from every instance's L1.
+     */
+    public void invalidate(K key) {
+        String redisKey = redisKey(key);
+        evictLocal(redisKey);
+        try {
+            redis.delete(redisKey);
+        } catch (RuntimeException e) {
+            l2Failed("delete", e);
+        }
+        bus.publish(name, redisKey);
+    }
+
+    /**
+     * Called by the bus for invalidations published by another instance.
+     */
+    void onRemoteInvalidation(String redisKey) {
+        remoteInvalidations.increment();
+        evictLocal(redisKey);
+    }
+
+    /**
+     * Drops the whole L1, e.g. after the invalidation subscription was lost and messages may have been missed.
+     */
+    void clearLocal() {
+        evictions.incrementAndGet();
+        local.clear();
+    }
+
+    int localSize() {
+        return local.size();
+    }
+
+    private void evictLocal(String redisKey) {
+        localInvalidations.increment();
+        evictions.incrementAndGet();
+        local.remove(redisKey);
+    }
+
+    private void fillLocal(String redisKey, V value, long evictionsBefore) {
+        if (evictions.get() == evictionsBefore) {
+            local.put(redisKey, value);
+        }
+    }
+
+    private String redisKey(K key) {
+        return keyPrefix + key;
+    }
+
+    private byte[] readL2(String redisKey) {
+        try {
+            return redis.opsForValue().get(redisKey);
+        } catch (RuntimeException e) {
+            l2Failed("get", e);
+            return null;
+        }
+    }
+
+    private List<byte[]> readL2(List<K> keys) {
+        try {
+            List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (K key : keys) {
+                    connection.stringCommands().get(rawKey(redisKey(key)));
+                }
+                return null;
+            });
+            List<byte[]> values = new ArrayList<>(results.size());
+            for (Object result : results) {
+                values.add((byte[]) result);
+            }
+            return values;
+        } catch (RuntimeException e) {
+            l2Failed("pipelined get", e);
+            List<byte[]> values = new ArrayList<>(keys.size());
+            keys.forEach(key -> values.add(null));
+            return values;
+        }
+    }
+
+    private void writeL2(String redisKey, byte[] bytes) {
+        try {
+            redis.execute((RedisCallback<Object>) connection ->
+                    connection.stringCommands().set(rawKey(redisKey), bytes, l2Expiration, SetOption.upsert()));
+        } catch (RuntimeException e) {
+            l2Failed("set", e);
+        }
+    }
+
+    private void writeL2(Map<String, byte[]> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((redisKey, bytes) ->
+                        connection.stringCommands().set(rawKey(redisKey), bytes, l2Expiration, SetOption.upsert()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            l2Failed("pipelined set", e);
+        }
+    }
+
+    private static byte[] rawKey(String redisKey) {
+        return redisKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void l2Failed(String operation, RuntimeException e) {
+        l2Errors.increment();
+        log.warn("Redis {} for cache {} failed, falling through: {}", operation, name, e.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package com.codedecode.order.tracing;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the most recent finished spans in memory, oldest dropped first.
+ */
+public class RecentSpansExporter implements SpanExporter {
+
+    private final int capacity;
+    private final ArrayDeque<SpanView> spans;
+
+    public RecentSpansExporter(int capacity) {
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() == capacity) {
+                spans.removeFirst();
+            }
+            spans.addLast(SpanView.of(span));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * @param traceId only spans of this trace, or every span if {@code null}
+     */
+    public synchronized List<SpanView> spans(String traceId) {
+        List<SpanView> result = new ArrayList<>();
+        for (SpanView span : spans) {
+            if (traceId == null || traceId.equals(span.traceId())) {
+                result.add(span);
+            }
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        spans.clear();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
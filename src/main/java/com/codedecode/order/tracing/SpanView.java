@@ -0,0 +1,44 @@
+package com.codedecode.order.tracing;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flat, serialisable form of a finished span.
+ */
+public record SpanView(String traceId, String spanId, String parentSpanId, String name, String kind,
+                       long startEpochMicros, long durationMicros, String status, Map<String, String> attributes) {
+
+    public static SpanView of(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        String parent = span.getParentSpanContext().isValid() ? span.getParentSpanId() : null;
+        return new SpanView(span.getTraceId(), span.getSpanId(), parent, span.getName(), span.getKind().name(),
+                TimeUnit.NANOSECONDS.toMicros(span.getStartEpochNanos()),
+                TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                span.getStatus().getStatusCode().name(), attributes);
+    }
+}
@@ -0,0 +1,53 @@
+package com.codedecode.order.tracing;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/spans[?traceId=]}: spans held by the in-memory exporter, in completion order.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.tracing", name = "exporter", havingValue = "memory", matchIfMissing = true)
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    @Autowired
+    RecentSpansExporter recentSpansExporter;
+
+    @ReadOperation
+    public List<SpanView> spans(@Nullable String traceId) {
+        return recentSpansExporter.spans(traceId);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recentSpansExporter.clear();
+    }
+}
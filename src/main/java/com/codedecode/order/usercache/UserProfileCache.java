@@ -0,0 +1,110 @@
+package com.codedecode.order.usercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.UserProfileCacheProperties;
+import com.codedecode.order.dto.UserDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * Near-cache of user profiles in front of USER-SERVICE, backed by a {@link UserProfileStore} file that outlives
+ * the process. Lookups read it first and write successful remote results through. If the file cannot be opened
+ * the service runs without it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.user-profile-cache", name = "enabled", matchIfMissing = true)
+public class UserProfileCache {
+
+    @Autowired
+    UserProfileCacheProperties userProfileCacheProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    Clock clock = Clock.systemUTC();
+
+    private UserProfileStore store;
+    private Counter hits;
+    private Counter misses;
+    private Counter writes;
+
+    @PostConstruct
+    void open() {
+        hits = meterRegistry.counter("order.user-profile-cache.requests", "result", "hit");
+        misses = meterRegistry.counter("order.user-profile-cache.requests", "result", "miss");
+        writes = meterRegistry.counter("order.user-profile-cache.writes");
+        Path file = Path.of(userProfileCacheProperties.getFile());
+        try {
+            store = UserProfileStore.open(file, userProfileCacheProperties.getCapacity(), userProfileCacheProperties.getSlotBytes());
+        } catch (IOException | RuntimeException e) {
+            log.warn("User profile cache {} unavailable, looking every user up remotely: {}", file, e.toString());
+            return;
+        }
+        Gauge.builder("order.user-profile-cache.capacity", store, UserProfileStore::capacity).register(meterRegistry);
+        log.info("User profile cache {} opened with {} live profiles", file, store.liveEntries(clock.millis()));
+    }
+
+    @PreDestroy
+    void close() {
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                log.warn("Failed to close user profile cache: {}", e.toString());
+            }
+        }
+    }
+
+    /**
+     * @return the cached profile, without password, or {@code null} if absent or expired
+     */
+    public UserDTO get(int userId) {
+        if (store == null) {
+            return null;
+        }
+        UserDTO user = store.get(userId, clock.millis());
+        (user == null ? misses : hits).increment();
+        return user;
+    }
+
+    public void put(UserDTO user) {
+        if (store == null || user == null) {
+            return;
+        }
+        long now = clock.millis();
+        if (store.put(user, now + userProfileCacheProperties.getTtl().toMillis(), now)) {
+            writes.increment();
+        }
+    }
+}
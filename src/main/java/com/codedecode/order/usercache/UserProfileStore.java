@@ -0,0 +1,291 @@
+package com.codedecode.order.usercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.UserDTO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed-size hash table of user profiles in a memory-mapped file. The table is 8-way set associative: a user
+ * hashes to one bucket of {@link #WAYS} slots, is looked for only there, and replaces an empty slot, its own older
+ * entry, an expired one or else the entry closest to expiry. Each bucket has its own lock.
+ * <p>
+ * Slot layout: {@code int userId, int used, long expiresAtMillis, int crc, short length, byte[length] payload},
+ * where the payload is the user name, address and city as length-prefixed UTF-8 (length {@code -1} for null). The
+ * CRC covers everything but itself, so a slot torn by a crash reads as a miss. The password is never stored.
+ * <p>
+ * The file is locked for the lifetime of the store, so two processes never write the same table.
+ */
+public class UserProfileStore implements AutoCloseable {
+
+    static final int WAYS = 8;
+    static final int HEADER_BYTES = 64;
+    static final int SLOT_HEADER_BYTES = 22;
+
+    private static final int MAGIC = 0x55504331;
+    private static final int VERSION = 1;
+
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final int buckets;
+    private final int slotBytes;
+    private final Object[] bucketLocks;
+
+    private UserProfileStore(FileChannel channel, FileLock lock, MappedByteBuffer buffer, int buckets, int slotBytes) {
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.buckets = buckets;
+        this.slotBytes = slotBytes;
+        this.bucketLocks = new Object[buckets];
+        for (int i = 0; i < buckets; i++) {
+            bucketLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Maps {@code file}, keeping its entries when it was written with the same geometry and starting empty
+     * otherwise.
+     *
+     * @throws IOException if the file cannot be mapped or another process holds it
+     */
+    public static UserProfileStore open(Path file, int capacity, int slotBytes) throws IOException {
+        if (slotBytes < SLOT_HEADER_BYTES + 6) {
+            throw new IllegalArgumentException("slotBytes must be at least " + (SLOT_HEADER_BYTES + 6));
+        }
+        int buckets = Math.max(1, (capacity + WAYS - 1) / WAYS);
+        long size = HEADER_BYTES + (long) buckets * WAYS * slotBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cache of " + size + " bytes does not fit one mapping");
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                throw new IOException(file + " is in use by another process");
+            }
+            boolean compatible = channel.size() == size && headerMatches(channel, buckets, slotBytes);
+            if (!compatible) {
+                channel.truncate(0);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (!compatible) {
+                buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, buckets).putInt(12, WAYS).putInt(16, slotBytes);
+            } else {
+                buffer.load();
+            }
+            return new UserProfileStore(channel, lock, buffer, buckets, slotBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the profile of {@code userId} if present and not expired at {@code nowMillis}, otherwise {@code null}
+     */
+    public UserDTO get(int userId, long nowMillis) {
+        int bucket = bucket(userId);
+        synchronized (bucketLocks[bucket]) {
+            for (int way = 0; way < WAYS; way++) {
+                int slot = slotOffset(bucket, way);
+                if (buffer.getInt(slot + 4) == 1 && buffer.getInt(slot) == userId) {
+                    if (buffer.getLong(slot + 8) <= nowMillis || !checksumMatches(slot)) {
+                        return null;
+                    }
+                    return decode(userId, slot);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores {@code user} until {@code expiresAtMillis}.
+     *
+     * @return {@code false} if the profile is too large for a slot
+     */
+    public boolean put(UserDTO user, long expiresAtMillis, long nowMillis) {
+        byte[] payload = encode(user);
+        if (payload == null || payload.length > slotBytes - SLOT_HEADER_BYTES) {
+            return false;
+        }
+        int bucket = bucket(user.getUserId());
+        synchronized (bucketLocks[bucket]) {
+            int slot = victim(bucket, user.getUserId(), nowMillis);
+            buffer.putInt(slot + 4, 0);
+            buffer.putInt(slot, user.getUserId());
+            buffer.putLong(slot + 8, expiresAtMillis);
+            buffer.putShort(slot + 20, (short) payload.length);
+            buffer.put(slot + SLOT_HEADER_BYTES, payload);
+            buffer.putInt(slot + 4, 1);
+            buffer.putInt(slot + 16, checksum(slot));
+        }
+        return true;
+    }
+
+    /**
+     * @return slots holding an unexpired profile, scanned without locking
+     */
+    public int liveEntries(long nowMillis) {
+        int live = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            for (int way = 0; way < WAYS; way++) {
+                int slot = slotOffset(bucket, way);
+                if (buffer.getInt(slot + 4) == 1 && buffer.getLong(slot + 8) > nowMillis) {
+                    live++;
+                }
+            }
+        }
+        return live;
+    }
+
+    public int capacity() {
+        return buckets * WAYS;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            buffer.force();
+            lock.release();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int victim(int bucket, int userId, long nowMillis) {
+        int victim = -1;
+        long earliestExpiry = Long.MAX_VALUE;
+        for (int way = 0; way < WAYS; way++) {
+            int slot = slotOffset(bucket, way);
+            if (buffer.getInt(slot + 4) != 1) {
+                return slot;
+            }
+            if (buffer.getInt(slot) == userId) {
+                return slot;
+            }
+            long expiresAt = buffer.getLong(slot + 8);
+            if (expiresAt <= nowMillis) {
+                expiresAt = Long.MIN_VALUE;
+            }
+            if (expiresAt < earliestExpiry) {
+                earliestExpiry = expiresAt;
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+
+    private int bucket(int userId) {
+        int h = userId * 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), buckets);
+    }
+
+    private int slotOffset(int bucket, int way) {
+        return HEADER_BYTES + (bucket * WAYS + way) * slotBytes;
+    }
+
+    private int checksum(int slot) {
+        CRC32C crc = new CRC32C();
+        int length = buffer.getShort(slot + 20);
+        crc.update(buffer.slice(slot, 16));
+        crc.update(buffer.slice(slot + 20, 2 + Math.clamp(length, 0, slotBytes - SLOT_HEADER_BYTES)));
+        return (int) crc.getValue();
+    }
+
+    private boolean checksumMatches(int slot) {
+        int length = buffer.getShort(slot + 20);
+        return length >= 0 && length <= slotBytes - SLOT_HEADER_BYTES && buffer.getInt(slot + 16) == checksum(slot);
+    }
+
+    private UserDTO decode(int userId, int slot) {
+        ByteBuffer payload = buffer.slice(slot + SLOT_HEADER_BYTES, buffer.getShort(slot + 20));
+        UserDTO user = new UserDTO();
+        user.setUserId(userId);
+        user.setUserName(readString(payload));
+        user.setAddress(readString(payload));
+        user.setCity(readString(payload));
+        return user;
+    }
+
+    private static byte[] encode(UserDTO user) {
+        byte[] name = utf8(user.getUserName());
+        byte[] address = utf8(user.getAddress());
+        byte[] city = utf8(user.getCity());
+        if (length(name) > Short.MAX_VALUE || length(address) > Short.MAX_VALUE || length(city) > Short.MAX_VALUE) {
+            return null;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(6 + length(name) + length(address) + length(city));
+        writeString(payload, name);
+        writeString(payload, address);
+        writeString(payload, city);
+        return payload.array();
+    }
+
+    private static boolean headerMatches(FileChannel channel, int buckets, int slotBytes) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(20);
+        channel.read(header, 0);
+        header.flip();
+        return header.remaining() == 20 && header.getInt() == MAGIC && header.getInt() == VERSION
+                && header.getInt() == buckets && header.getInt() == WAYS && header.getInt() == slotBytes;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void writeString(ByteBuffer payload, byte[] value) {
+        if (value == null) {
+            payload.putShort((short) -1);
+        } else {
+            payload.putShort((short) value.length).put(value);
+        }
+    }
+
+    private static String readString(ByteBuffer payload) {
+        short length = payload.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
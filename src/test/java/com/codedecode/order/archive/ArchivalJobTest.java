@@ -0,0 +1,142 @@
+package com.codedecode.order.archive;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ArchiveProperties;
+import com.codedecode.order.repo.OrderCodecRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivalJobTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private OrderCodecRepository orderCodecRepository;
+
+    private ArchivalJob job;
+    private OrderArchive archive;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setDirectory(directory.toString());
+        properties.setOrdersPerSegment(100);
+        properties.setDeleteBatchSize(40);
+        archive = spy(new OrderArchive());
+        archive.archiveProperties = properties;
+        archive.meterRegistry = new SimpleMeterRegistry();
+        archive.open();
+        job = new ArchivalJob();
+        job.archiveProperties = properties;
+        job.orderCodecRepository = orderCodecRepository;
+        job.orderArchive = archive;
+        job.meterRegistry = archive.meterRegistry;
+    }
+
+    @Test
+    void run_ShouldArchiveThenDeleteInBatches_WhenOldOrdersExist() {
+        // Given
+        List<RawBsonDocument> full = withIds(OrderArchiveTest.orders(1, 100));
+        List<RawBsonDocument> rest = withIds(OrderArchiveTest.orders(101, 130));
+        when(orderCodecRepository.findRawOlderThan(any(ObjectId.class), any(), eq(100))).thenReturn(full).thenReturn(rest);
+
+        // When
+        int archived = job.run();
+
+        // Then
+        assertEquals(130, archived);
+        assertEquals(2, archive.segmentCount());
+        assertTrue(archive.find(115).isPresent());
+        InOrder order = inOrder(archive, orderCodecRepository);
+        order.verify(archive).append(full);
+        order.verify(orderCodecRepository, times(3)).deleteByIds(anyList());
+        order.verify(archive).append(rest);
+        order.verify(orderCodecRepository).deleteByIds(anyList());
+    }
+
+    @Test
+    void run_ShouldKeepOrdersInMongo_WhenSegmentCannotBeWritten() {
+        // Given
+        when(orderCodecRepository.findRawOlderThan(any(ObjectId.class), any(), anyInt()))
+                .thenReturn(withIds(OrderArchiveTest.orders(1, 10)));
+        doThrow(new IllegalStateException("disk full")).when(archive).append(anyList());
+
+        // When
+        try {
+            job.run();
+        } catch (IllegalStateException expected) {
+            // surfaced to the scheduler, which retries next run
+        }
+
+        // Then
+        verify(orderCodecRepository, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void run_ShouldSkipAndCount_WhenDocumentHasNoIntOrderId() {
+        // Given
+        List<RawBsonDocument> batch = withIds(OrderArchiveTest.orders(1, 3));
+        BsonDocument broken = new BsonDocument("_id", new BsonObjectId()).append("orderId", new BsonString("x"));
+        batch.add(1, new RawBsonDocument(broken, new BsonDocumentCodec()));
+        when(orderCodecRepository.findRawOlderThan(any(ObjectId.class), any(), anyInt())).thenReturn(batch);
+
+        // When
+        int archived = job.run();
+
+        // Then
+        assertEquals(3, archived);
+        assertEquals(1, archive.meterRegistry.counter("order.archive.skipped").count());
+        assertTrue(archive.find(2).isPresent());
+    }
+
+    private static List<RawBsonDocument> withIds(List<RawBsonDocument> orders) {
+        List<RawBsonDocument> result = new ArrayList<>();
+        for (RawBsonDocument order : orders) {
+            assertTrue(order.get("_id").isObjectId());
+            result.add(order);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package com.codedecode.order.archive;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.codec.OrderCodec;
+import com.codedecode.order.config.ArchiveProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonBinaryWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void find_ShouldReturnArchivedOrder_WhenItIsInAnyBlock() throws Exception {
+        // Given
+        OrderArchive archive = open();
+        archive.append(orders(1, 500));
+
+        // When & Then
+        for (int orderId : new int[]{1, 137, 250, 500}) {
+            Optional<Order> found = archive.find(orderId);
+            assertTrue(found.isPresent(), "orderId " + orderId);
+            assertEquals(orderId, found.get().getOrderId());
+            assertEquals("Pizza " + orderId, found.get().getFoodItemsList().get(0).getItemName());
+            assertEquals(orderId % 50, found.get().getUserDTO().getUserId());
+        }
+        assertTrue(archive.find(501).isEmpty());
+        assertTrue(archive.find(0).isEmpty());
+    }
+
+    @Test
+    void open_ShouldLoadExistingSegments_WhenRestarted() throws Exception {
+        // Given
+        OrderArchive first = open();
+        first.append(orders(1, 100));
+        first.append(orders(101, 200));
+
+        // When
+        OrderArchive reopened = open();
+
+        // Then
+        assertEquals(2, reopened.segmentCount());
+        assertEquals(150, reopened.find(150).orElseThrow().getOrderId());
+        assertEquals(42, reopened.find(42).orElseThrow().getOrderId());
+        try (var files = Files.list(directory)) {
+            assertTrue(files.noneMatch(f -> f.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void append_ShouldCompressBelowRawSize_WhenOrdersAreSimilar() throws Exception {
+        // Given
+        OrderArchive archive = open();
+        List<RawBsonDocument> orders = orders(1, 2_000);
+        long rawBytes = orders.stream().mapToLong(o -> o.getByteBuffer().remaining()).sum();
+
+        // When
+        archive.append(orders);
+
+        // Then
+        long compressedBytes = Files.size(directory.resolve(SegmentWriter.dataFileName(1)));
+        assertTrue(compressedBytes * 3 < rawBytes, compressedBytes + " of " + rawBytes);
+    }
+
+    private OrderArchive open() throws Exception {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setDirectory(directory.toString());
+        properties.setBlockSize(DataSize.ofKilobytes(4));
+        OrderArchive archive = new OrderArchive();
+        archive.archiveProperties = properties;
+        archive.meterRegistry = new SimpleMeterRegistry();
+        archive.open();
+        return archive;
+    }
+
+    static List<RawBsonDocument> orders(int fromOrderId, int toOrderId) {
+        OrderCodec codec = new OrderCodec();
+        List<RawBsonDocument> orders = new ArrayList<>();
+        for (int orderId = toOrderId; orderId >= fromOrderId; orderId--) {
+            Restaurant restaurant = new Restaurant();
+            restaurant.setId(7);
+            restaurant.setName("Resto");
+            UserDTO user = new UserDTO();
+            user.setUserId(orderId % 50);
+            user.setUserName("user");
+            Order order = new Order(orderId, List.of(new FoodItemsDTO(1, "Pizza " + orderId, "Cheese", true, 250, 7, 2)),
+                    restaurant, user);
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            codec.encode(new BsonBinaryWriter(buffer), order, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+            orders.add(new RawBsonDocument(buffer.toByteArray()));
+        }
+        return orders;
+    }
+}
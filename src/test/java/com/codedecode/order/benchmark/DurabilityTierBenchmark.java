@@ -0,0 +1,92 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.repo.DurabilityTier;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Insert latency of each {@link DurabilityTier}. Uses {@code -Dbench.mongo.uri} when given, otherwise starts a
+ * single-node {@code mongo:7.0} replica set in Docker. On a single node {@code MAJORITY} costs the same as
+ * {@code JOURNALED}; point the URI at a real three-member replica set to see the replication round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurabilityTierBenchmark {
+
+    @Param({"W1_UNJOURNALED", "JOURNALED", "MAJORITY"})
+    DurabilityTier tier;
+
+    private final AtomicInteger orderIds = new AtomicInteger();
+    private MongoDBContainer container;
+    private MongoClient client;
+    private MongoCollection<Order> collection;
+    private Order template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String uri = System.getProperty("bench.mongo.uri");
+        if (uri == null) {
+            container = new MongoDBContainer(DockerImageName.parse("mongo:7.0"));
+            container.start();
+            uri = container.getReplicaSetUrl("bench");
+        }
+        client = MongoClients.create(uri);
+        collection = client.getDatabase("bench")
+                .getCollection("order-" + tier.name().toLowerCase(), Order.class)
+                .withCodecRegistry(OrderCodecRepository.ORDER_CODEC_REGISTRY)
+                .withWriteConcern(tier.getWriteConcern());
+        collection.drop();
+        template = OrderCodecBenchmark.sampleOrder(3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        collection.drop();
+        client.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Order insert() {
+        Order order = new Order(orderIds.incrementAndGet(), template.getFoodItemsList(),
+                template.getRestaurant(), template.getUserDTO());
+        collection.insertOne(order);
+        return order;
+    }
+}
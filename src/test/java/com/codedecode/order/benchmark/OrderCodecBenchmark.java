@@ -0,0 +1,120 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.codec.OrderCodec;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Spring Data {@link MappingMongoConverter} path (entity to {@link Document} to BSON and back)
+ * with {@link OrderCodec} writing and reading BSON directly. Run with {@code -prof gc} to get bytes allocated
+ * per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCodecBenchmark {
+
+    @Param({"3", "30"})
+    int itemCount;
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private final OrderCodec orderCodec = new OrderCodec();
+    private MappingMongoConverter converter;
+    private Order order;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        order = sampleOrder(itemCount);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        orderCodec.encode(new BsonBinaryWriter(buffer), order, EncoderContext.builder().build());
+        encoded = buffer.toByteArray();
+    }
+
+    @Benchmark
+    public int converterWrite() {
+        Document document = new Document();
+        converter.write(order, document);
+        BasicOutputBuffer buffer = new BasicOutputBuffer(512);
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return buffer.getPosition();
+    }
+
+    @Benchmark
+    public int codecWrite() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(512);
+        orderCodec.encode(new BsonBinaryWriter(buffer), order, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return buffer.getPosition();
+    }
+
+    @Benchmark
+    public Order converterRead() {
+        Document document = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(encoded)), DecoderContext.builder().build());
+        return converter.read(Order.class, document);
+    }
+
+    @Benchmark
+    public Order codecRead() {
+        return orderCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(encoded)), DecoderContext.builder().build());
+    }
+
+    static Order sampleOrder(int itemCount) {
+        List<FoodItemsDTO> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new FoodItemsDTO(i, "Item " + i, "Description of item " + i, i % 2 == 0, 199 + i, 101, 1 + i % 3));
+        }
+        Restaurant restaurant = new Restaurant(101, "Test Restaurant", "Test Address", "Test City", "Family restaurant");
+        UserDTO user = new UserDTO(1, "John Doe", "password", "123 Main St", "Test City");
+        return new Order(1001, items, restaurant, user);
+    }
+}
@@ -0,0 +1,74 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.jfr.OrderPlacementEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the placement event around one placement: with no recording, and with the event enabled in a
+ * recording stream whose threshold filters everything (the production steady state).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPlacementEventBenchmark {
+
+    @Param({"false", "true"})
+    boolean recording;
+
+    private RecordingStream stream;
+
+    @Setup
+    public void setUp() {
+        if (recording) {
+            stream = new RecordingStream();
+            stream.enable(OrderPlacementEvent.class).withThreshold(Duration.ofMillis(50));
+            stream.startAsync();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Benchmark
+    public OrderPlacementEvent placement() {
+        OrderPlacementEvent event = OrderPlacementEvent.start(2, null);
+        event.sequenceDone(1);
+        event.userLookupDone();
+        event.insertDone();
+        event.lifecycleDone();
+        event.publishDone();
+        event.finish(null);
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RateLimitProperties;
+import com.codedecode.order.dto.OrderDTOFromFE;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.limiter.OrderRateLimiter;
+import com.codedecode.order.limiter.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link OrderRateLimiter#check} on the hot path with {@code keyCount} users already tracked, against
+ * a baseline that only builds the request key. Limits are set high enough that nothing is rejected, so the
+ * numbers are the pure lookup-and-CAS overhead. Add {@code -t N} to measure contention on multi-core hosts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    @Param({"100000"})
+    int keyCount;
+
+    private OrderRateLimiter limiter;
+    private OrderDTOFromFE[] orders;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setUser(new RateLimitProperties.KeyClass(1_000_000, 1_000_000));
+        properties.setRestaurant(new RateLimitProperties.KeyClass(1_000_000, 1_000_000));
+        limiter = new OrderRateLimiter(properties, new SimpleMeterRegistry());
+        orders = new OrderDTOFromFE[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            Restaurant restaurant = new Restaurant();
+            restaurant.setId(i % 5_000);
+            orders[i] = new OrderDTOFromFE(List.of(), i, restaurant);
+            limiter.check(orders[i]);
+        }
+    }
+
+    @Benchmark
+    public OrderDTOFromFE baseline() {
+        return orders[ThreadLocalRandom.current().nextInt(keyCount)];
+    }
+
+    @Benchmark
+    public OrderDTOFromFE check() {
+        OrderDTOFromFE order = orders[ThreadLocalRandom.current().nextInt(keyCount)];
+        try {
+            limiter.check(order);
+        } catch (RateLimitExceededException e) {
+            throw new IllegalStateException("Benchmark limits must not reject", e);
+        }
+        return order;
+    }
+}
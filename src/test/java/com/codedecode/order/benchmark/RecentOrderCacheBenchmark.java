@@ -0,0 +1,200 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.ordercache.CachedOrder;
+import com.codedecode.order.ordercache.OffHeapOrderStore;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.openjdk.jmh.annotations.*;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GC cost of holding {@code orders} recent orders as heap objects (an LRU {@link LinkedHashMap}) versus encoded in
+ * an {@link OffHeapOrderStore}. Each operation places a new order, evicting the oldest once full, and reads a
+ * random cached one back as an {@link Order}. Setup prints the retained heap and direct memory after a full GC;
+ * each iteration prints the GC pauses it saw. Add {@code -prof gc} for allocation rates:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="RecentOrderCache -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g", "-XX:MaxDirectMemorySize=1g", "-XX:+UseG1GC"})
+public class RecentOrderCacheBenchmark {
+
+    private static final String[] DISHES = {"Masala Dosa", "Paneer Tikka", "Veg Biryani", "Butter Chicken",
+            "Gulab Jamun", "Mango Lassi", "Chole Bhature", "Idli Sambar"};
+
+    @Param({"heap", "off-heap"})
+    String cache;
+
+    @Param({"1000000"})
+    int orders;
+
+    private OrderCache orderCache;
+    private SplittableRandom random;
+    private int nextOrderId;
+    private final List<Long> pausesMillis = new ArrayList<>();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener pauseListener = (notification, handback) -> {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            synchronized (pausesMillis) {
+                pausesMillis.add(info.getGcInfo().getDuration());
+            }
+        }
+    };
+
+    interface OrderCache {
+
+        void put(Order order);
+
+        Order get(int orderId);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long heapBefore = retainedHeap();
+        orderCache = cache.equals("heap") ? heapCache(orders) : offHeapCache(orders);
+        random = new SplittableRandom(1);
+        for (; nextOrderId < orders; nextOrderId++) {
+            orderCache.put(order(nextOrderId));
+        }
+        long heap = retainedHeap() - heapBefore;
+        long direct = directMemory();
+        System.out.printf("%n%s footprint for %,d orders: heap %,d MB, direct %,d MB, %d bytes per order%n", cache,
+                orders, heap >> 20, direct >> 20, (heap + direct) / orders);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            NotificationEmitter emitter = (NotificationEmitter) gc;
+            emitter.addNotificationListener(pauseListener, null, null);
+            emitters.add(emitter);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPauses() {
+        synchronized (pausesMillis) {
+            pausesMillis.clear();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPauses() {
+        synchronized (pausesMillis) {
+            long total = pausesMillis.stream().mapToLong(Long::longValue).sum();
+            long max = pausesMillis.stream().mapToLong(Long::longValue).max().orElse(0);
+            System.out.printf("  GC pauses: %d, total %d ms, max %d ms%n", pausesMillis.size(), total, max);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        for (NotificationEmitter emitter : emitters) {
+            emitter.removeNotificationListener(pauseListener);
+        }
+    }
+
+    @Benchmark
+    public Order placeAndRead() {
+        orderCache.put(order(nextOrderId++));
+        return orderCache.get(nextOrderId - 1 - random.nextInt(orders));
+    }
+
+    private static OrderCache heapCache(int capacity) {
+        Map<Integer, Order> lru = new LinkedHashMap<>(capacity * 4 / 3, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Order> eldest) {
+                return size() > capacity;
+            }
+        };
+        return new OrderCache() {
+            @Override
+            public void put(Order order) {
+                lru.put(order.getOrderId(), order);
+            }
+
+            @Override
+            public Order get(int orderId) {
+                return lru.get(orderId);
+            }
+        };
+    }
+
+    private static OrderCache offHeapCache(int capacity) {
+        OffHeapOrderStore store = new OffHeapOrderStore(capacity * 320L, 64 << 20, capacity, 64 * 1024);
+        return new OrderCache() {
+            @Override
+            public void put(Order order) {
+                store.put(order);
+            }
+
+            @Override
+            public Order get(int orderId) {
+                CachedOrder cached = store.get(orderId);
+                return cached == null ? null : cached.toOrder();
+            }
+        };
+    }
+
+    /** A fresh object graph per order, as the JSON binding or the Mongo codec would build it. */
+    private Order order(int orderId) {
+        int restaurantId = random.nextInt(500);
+        List<FoodItemsDTO> items = new ArrayList<>();
+        for (int i = 1 + random.nextInt(6); i > 0; i--) {
+            int dish = random.nextInt(DISHES.length);
+            items.add(new FoodItemsDTO(dish, new String(DISHES[dish]), "Chef's special " + dish, dish % 2 == 0,
+                    80 + random.nextInt(400), restaurantId, 1 + random.nextInt(3)));
+        }
+        int userId = random.nextInt(100_000);
+        return new Order(orderId, items,
+                new Restaurant(restaurantId, "Restaurant " + restaurantId, restaurantId + " MG Road", "Pune", null),
+                new UserDTO(userId, "user" + userId, null, userId + " Park Street", "Pune"));
+    }
+
+    private static long retainedHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long directMemory() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed).sum();
+    }
+}
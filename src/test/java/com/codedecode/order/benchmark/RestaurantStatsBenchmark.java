@@ -0,0 +1,96 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RestaurantStatsProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.RestaurantStatsDTO;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.service.OrderPlacedEvent;
+import com.codedecode.order.stats.RestaurantStatsTracker;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a restaurant stats query with every bucket of the window populated, and of recording one order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantStatsBenchmark {
+
+    @Param({"1h", "24h"})
+    String window;
+
+    private RestaurantStatsTracker tracker;
+    private Duration windowDuration;
+    private OrderPlacedEvent event;
+
+    @Setup
+    public void setUp() {
+        RestaurantStatsProperties properties = new RestaurantStatsProperties();
+        properties.setPersistenceEnabled(false);
+        tracker = new RestaurantStatsTracker();
+        ReflectionTestUtils.setField(tracker, "restaurantStatsProperties", properties);
+        Instant now = Instant.parse("2024-05-01T12:00:00Z");
+        Random random = new Random(1);
+        for (int hour = properties.getBuckets() - 1; hour >= 0; hour--) {
+            ReflectionTestUtils.setField(tracker, "clock", Clock.fixed(now.minus(Duration.ofHours(hour)), ZoneOffset.UTC));
+            for (int i = 0; i < 2_000; i++) {
+                tracker.onOrderPlaced(order(random.nextInt(5_000), 50 + random.nextInt(2_000)));
+            }
+        }
+        windowDuration = Duration.ofHours(Long.parseLong(window.substring(0, window.length() - 1)));
+        event = order(42, 300);
+    }
+
+    @Benchmark
+    public RestaurantStatsDTO query() {
+        return tracker.stats(7, windowDuration);
+    }
+
+    @Benchmark
+    public RestaurantStatsTracker record() {
+        tracker.onOrderPlaced(event);
+        return tracker;
+    }
+
+    private static OrderPlacedEvent order(int userId, int price) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(7);
+        UserDTO user = new UserDTO();
+        user.setUserId(userId);
+        return new OrderPlacedEvent(new Order(1, List.of(new FoodItemsDTO(1, "Pizza", "", true, price, 7, 1)), restaurant, user));
+    }
+}
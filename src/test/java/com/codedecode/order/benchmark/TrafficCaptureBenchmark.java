@@ -0,0 +1,103 @@
+package com.codedecode.order.benchmark;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.capture.TrafficCaptureFilter;
+import com.codedecode.order.capture.TrafficRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of capture on the request thread: a saveOrder-sized body through
+ * {@link TrafficCaptureFilter} into a draining {@link TrafficRecorder}, against a pass-through baseline in
+ * which the downstream chain reads the body itself. Mock request setup dominates both, so
+ * {@link #record()} isolates the ring hand-off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrafficCaptureBenchmark {
+
+    private static final byte[] BODY = ("{\"userId\":42,\"restaurant\":{\"id\":7,\"name\":\"Restaurant 7\",\"address\":\"Main St\","
+            + "\"city\":\"Load City\",\"restaurantDescription\":\"load test\"},\"foodItemsList\":["
+            + "{\"id\":1,\"itemName\":\"Pizza\",\"itemDescription\":\"Cheese\",\"veg\":true,\"price\":299,\"restaurantId\":7,\"quantity\":2},"
+            + "{\"id\":2,\"itemName\":\"Pasta\",\"itemDescription\":\"Arrabbiata\",\"veg\":true,\"price\":199,\"restaurantId\":7,\"quantity\":1}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final FilterChain READ_BODY = (request, response) -> request.getInputStream().readAllBytes();
+
+    private Path directory;
+    private TrafficRecorder recorder;
+    private TrafficCaptureFilter filter;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("capture-bench");
+        recorder = new TrafficRecorder(directory.resolve("bench.cap"), 16_384, Long.MAX_VALUE, Duration.ofMillis(10),
+                new SimpleMeterRegistry());
+        recorder.start();
+        filter = new TrafficCaptureFilter(recorder, 64 * 1024);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        recorder.close();
+        Files.deleteIfExists(recorder.getFile());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void passThrough() throws Exception {
+        READ_BODY.doFilter(request(), new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public void captured() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), READ_BODY);
+    }
+
+    /**
+     * The part that runs on the request thread once the body is in memory: one slot claim in the ring.
+     */
+    @Benchmark
+    public boolean record() {
+        return recorder.record(System.nanoTime(), BODY);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/order/saveOrder");
+        request.setContent(BODY);
+        return request;
+    }
+}
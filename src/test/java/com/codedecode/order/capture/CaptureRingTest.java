@@ -0,0 +1,109 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaptureRingTest {
+
+    @Test
+    void offer_ShouldRejectWithoutBlocking_WhenRingIsFull() {
+        // Given
+        CaptureRing ring = new CaptureRing(3);
+
+        // When
+        List<Boolean> offered = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            offered.add(ring.offer(request(i)));
+        }
+
+        // Then
+        assertEquals(4, ring.capacity());
+        assertEquals(List.of(true, true, true, true, false), offered);
+        assertEquals(0, ring.poll().arrivalNanos());
+        assertTrue(ring.offer(request(5)));
+        for (long expected : new long[]{1, 2, 3, 5}) {
+            assertEquals(expected, ring.poll().arrivalNanos());
+        }
+        assertNull(ring.poll());
+    }
+
+    @Test
+    void poll_ShouldDeliverEveryRequestInProducerOrder_WhenProducersRaceTheConsumer() throws Exception {
+        // Given
+        int producers = 4;
+        int perProducer = 50_000;
+        CaptureRing ring = new CaptureRing(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p << 32;
+            futures.add(executor.submit(() -> {
+                go.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ring.offer(request(base | i))) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        go.countDown();
+        long[] nextExpected = new long[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            CapturedRequest request = ring.poll();
+            if (request == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) (request.arrivalNanos() >>> 32);
+            assertEquals(nextExpected[producer]++, request.arrivalNanos() & 0xFFFFFFFFL);
+            received++;
+        }
+
+        // Then
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertNull(ring.poll());
+        for (long count : nextExpected) {
+            assertEquals(perProducer, count);
+        }
+    }
+
+    private static CapturedRequest request(long arrivalNanos) {
+        return new CapturedRequest(arrivalNanos, new byte[0]);
+    }
+}
@@ -0,0 +1,155 @@
+package com.codedecode.order.capture;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TrafficRecorder recorder;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        recorder.close();
+    }
+
+    @Test
+    void drain_ShouldWriteArrivalOffsetsAndPayloads_WhenRequestsRecorded() throws Exception {
+        // Given
+        recorder = recorder(16, 1 << 20);
+        long now = System.nanoTime();
+
+        // When
+        recorder.record(now + 1_000_000, "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+        recorder.record(now + 5_000_000, "{\"b\":2}".getBytes(StandardCharsets.UTF_8));
+        recorder.close();
+
+        // Then
+        List<CapturedRequest> read = read(recorder.getFile());
+        assertEquals(2, read.size());
+        assertEquals(4_000_000, read.get(1).arrivalNanos() - read.get(0).arrivalNanos());
+        assertEquals("{\"b\":2}", new String(read.get(1).payload(), StandardCharsets.UTF_8));
+        assertEquals(2, meterRegistry.counter("order.capture.captured").count());
+    }
+
+    @Test
+    void record_ShouldDropAndCount_WhenRingOrFileIsFull() throws Exception {
+        // Given
+        recorder = recorder(2, 64);
+        byte[] payload = new byte[20];
+
+        // When
+        boolean[] accepted = {recorder.record(System.nanoTime(), payload), recorder.record(System.nanoTime(), payload),
+                recorder.record(System.nanoTime(), payload)};
+        recorder.drain();
+        recorder.record(System.nanoTime(), payload);
+        recorder.record(System.nanoTime(), payload);
+        recorder.drain();
+
+        // Then
+        assertArrayEquals(new boolean[]{true, true, false}, accepted);
+        assertEquals(2, read(recorder.getFile()).size());
+        assertEquals(3, meterRegistry.counter("order.capture.dropped").count());
+    }
+
+    @Test
+    void doFilter_ShouldCaptureBodyAndStillForwardIt_WhenSaveOrderPosted() throws Exception {
+        // Given
+        recorder = recorder(16, 1 << 20);
+        TrafficCaptureFilter filter = new TrafficCaptureFilter(recorder, 1024);
+        String body = "{\"userId\":7,\"foodItemsList\":[]}";
+        MockHttpServletRequest small = new MockHttpServletRequest("POST", "/order/saveOrder");
+        small.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletRequest large = new MockHttpServletRequest("POST", "/order/saveOrder");
+        large.setContent(new byte[2048]);
+        MockFilterChain smallChain = new MockFilterChain();
+        MockFilterChain largeChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(small, new MockHttpServletResponse(), smallChain);
+        filter.doFilter(large, new MockHttpServletResponse(), largeChain);
+        recorder.drain();
+
+        // Then
+        String forwarded = new String(smallChain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(body, forwarded);
+        assertEquals(2048, largeChain.getRequest().getInputStream().readAllBytes().length);
+        List<CapturedRequest> read = read(recorder.getFile());
+        assertEquals(1, read.size());
+        assertEquals(body, new String(read.get(0).payload(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void next_ShouldStopAtTruncatedRecord_WhenFileWasCutShort() throws Exception {
+        // Given
+        recorder = recorder(16, 1 << 20);
+        recorder.record(System.nanoTime(), new byte[100]);
+        recorder.record(System.nanoTime(), new byte[100]);
+        recorder.close();
+        Path file = recorder.getFile();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        // When
+        List<CapturedRequest> read = read(file);
+
+        // Then
+        assertEquals(1, read.size());
+    }
+
+    private TrafficRecorder recorder(int ringCapacity, long maxFileBytes) throws Exception {
+        TrafficRecorder created = new TrafficRecorder(directory.resolve("orders.cap"), ringCapacity, maxFileBytes,
+                Duration.ofHours(1), meterRegistry);
+        created.start();
+        return created;
+    }
+
+    private static List<CapturedRequest> read(Path file) throws Exception {
+        List<CapturedRequest> requests = new ArrayList<>();
+        try (CaptureFileReader reader = new CaptureFileReader(file)) {
+            CapturedRequest request;
+            while ((request = reader.next()) != null) {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+}
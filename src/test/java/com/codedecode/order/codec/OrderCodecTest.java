@@ -0,0 +1,157 @@
+package com.codedecode.order.codec;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCodecTest {
+
+    private final OrderCodec orderCodec = new OrderCodec();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void encodeDecode_ShouldRoundTripAllFields() {
+        // Given
+        Order order = createSampleOrder();
+
+        // When
+        Order decoded = decode(encode(order));
+
+        // Then
+        assertEquals(order, decoded);
+    }
+
+    @Test
+    void encode_ShouldProduceSameDocumentAsMappingMongoConverter() {
+        // Given
+        Order order = createSampleOrder();
+        Document converterDocument = new Document();
+        converter.write(order, converterDocument);
+
+        // When
+        Document codecDocument = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(encode(order))), DecoderContext.builder().build());
+
+        // Then
+        assertNotNull(codecDocument.getObjectId("_id"));
+        codecDocument.remove("_id");
+        assertEquals(converterDocument, codecDocument);
+    }
+
+    @Test
+    void decode_ShouldReadDocumentWrittenByMappingMongoConverter() {
+        // Given
+        Order order = createSampleOrder();
+        Document converterDocument = new Document();
+        converter.write(order, converterDocument);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), converterDocument, EncoderContext.builder().build());
+
+        // When
+        Order decoded = decode(buffer.toByteArray());
+
+        // Then
+        assertEquals(order, decoded);
+    }
+
+    @Test
+    void encodeDecode_ShouldOmitNullFields() {
+        // Given
+        Order order = new Order(1002, null, null, null);
+
+        // When
+        byte[] bytes = encode(order);
+        Document document = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DecoderContext.builder().build());
+
+        // Then
+        assertFalse(document.containsKey("foodItemsList"));
+        assertFalse(document.containsKey("restaurant"));
+        assertFalse(document.containsKey("userDTO"));
+        assertEquals(order, decode(bytes));
+    }
+
+    @Test
+    void encodeDecode_ShouldPreserveNumericPriceTypes() {
+        // Given
+        Order order = createSampleOrder();
+        order.getFoodItemsList().get(0).setPrice(12.5d);
+        order.getFoodItemsList().get(1).setPrice(new BigDecimal("99.99"));
+
+        // When
+        Order decoded = decode(encode(order));
+
+        // Then
+        assertEquals(12.5d, decoded.getFoodItemsList().get(0).getPrice());
+        assertEquals(new BigDecimal("99.99"), decoded.getFoodItemsList().get(1).getPrice());
+    }
+
+    private byte[] encode(Order order) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        orderCodec.encode(new BsonBinaryWriter(buffer), order, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private Order decode(byte[] bytes) {
+        return orderCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DecoderContext.builder().build());
+    }
+
+    private Order createSampleOrder() {
+        UserDTO userDTO = new UserDTO(1, "John Doe", "password", "123 Main St", "Test City");
+        Restaurant restaurant = new Restaurant(101, "Test Restaurant", "Test Address", "Test City", "Family restaurant");
+        FoodItemsDTO pizza = new FoodItemsDTO(1, "Pizza", "Delicious pizza", true, 299, 101, 2);
+        FoodItemsDTO pasta = new FoodItemsDTO(2, "Pasta", null, false, 199, 101, 1);
+        return new Order(1001, Arrays.asList(pizza, pasta), restaurant, userDTO);
+    }
+}
@@ -0,0 +1,111 @@
+package com.codedecode.order.controller;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.DurabilityProperties;
+import com.codedecode.order.repo.DurabilityTier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DurabilityTierResolverTest {
+
+    private DurabilityTierResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        DurabilityProperties properties = new DurabilityProperties();
+        properties.setDefaultTier(DurabilityTier.JOURNALED);
+        properties.getClientClasses().put("backfill", DurabilityTier.W1_UNJOURNALED);
+        properties.getEndpoints().put("/order/saveOrder", DurabilityTier.MAJORITY);
+        properties.setGatewayToken("gateway-secret");
+        resolver = new DurabilityTierResolver();
+        resolver.durabilityProperties = properties;
+    }
+
+    @Test
+    void resolve_ShouldUseClientClass_WhenHeaderIsMappedAndSetByGateway() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/order/saveOrder");
+        request.addHeader("X-Client-Class", "backfill");
+        request.addHeader("X-Gateway-Token", "gateway-secret");
+
+        // When
+        DurabilityTier tier = resolver.resolve(request);
+
+        // Then
+        assertEquals(DurabilityTier.W1_UNJOURNALED, tier);
+    }
+
+    @Test
+    void resolve_ShouldIgnoreClientClass_WhenGatewayTokenMissingOrWrong() {
+        // Given
+        MockHttpServletRequest unsigned = new MockHttpServletRequest("POST", "/order/saveOrder");
+        unsigned.addHeader("X-Client-Class", "backfill");
+        MockHttpServletRequest forged = new MockHttpServletRequest("POST", "/order/saveOrder");
+        forged.addHeader("X-Client-Class", "backfill");
+        forged.addHeader("X-Gateway-Token", "guess");
+
+        // When / Then
+        assertEquals(DurabilityTier.MAJORITY, resolver.resolve(unsigned));
+        assertEquals(DurabilityTier.MAJORITY, resolver.resolve(forged));
+    }
+
+    @Test
+    void resolve_ShouldIgnoreClientClass_WhenNoGatewayTokenConfigured() {
+        // Given
+        resolver.durabilityProperties.setGatewayToken("");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/order/saveOrder");
+        request.addHeader("X-Client-Class", "backfill");
+        request.addHeader("X-Gateway-Token", "");
+
+        // When / Then
+        assertEquals(DurabilityTier.MAJORITY, resolver.resolve(request));
+    }
+
+    @Test
+    void resolve_ShouldUseEndpointTier_WhenClientClassIsUnknown() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/order/saveOrder");
+        request.addHeader("X-Client-Class", "mobile");
+        request.addHeader("X-Gateway-Token", "gateway-secret");
+
+        // When
+        DurabilityTier tier = resolver.resolve(request);
+
+        // Then
+        assertEquals(DurabilityTier.MAJORITY, tier);
+    }
+
+    @Test
+    void resolve_ShouldUseDefaultTier_WhenNothingMatches() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/order/other");
+
+        // When
+        DurabilityTier tier = resolver.resolve(request);
+
+        // Then
+        assertEquals(DurabilityTier.JOURNALED, tier);
+    }
+}
@@ -21,6 +21,7 @@ package com.codedecode.order.controller;
  */
 
 import com.codedecode.order.dto.*;
+import com.codedecode.order.limiter.OrderRateLimiter;
 import com.codedecode.order.service.OrderService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +37,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +48,12 @@ class OrderControllerTestFixed {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderRateLimiter orderRateLimiter;
+
+    @Mock
+    private DurabilityTierResolver durabilityTierResolver;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -64,7 +72,7 @@ class OrderControllerTestFixed {
         OrderDTOFromFE orderFromFE = createSampleOrderFromFE();
         OrderDTO expectedOrderDTO = createSampleOrderDTO();
 
-        when(orderService.saveOrderInDb(any(OrderDTOFromFE.class))).thenReturn(expectedOrderDTO);
+        when(orderService.saveOrderInDb(any(OrderDTOFromFE.class), any())).thenReturn(expectedOrderDTO);
 
         // When & Then
         mockMvc.perform(post("/order/saveOrder")
@@ -75,6 +83,20 @@ class OrderControllerTestFixed {
                 .andExpect(jsonPath("$.orderId").value(expectedOrderDTO.getOrderId()));
     }
 
+    @Test
+    void saveOrder_ShouldReturnBadRequest_WhenUserIdMissing() throws Exception {
+        // Given
+        OrderDTOFromFE orderFromFE = createSampleOrderFromFE();
+        orderFromFE.setUserId(null);
+
+        // When & Then
+        mockMvc.perform(post("/order/saveOrder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(orderFromFE)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(orderService);
+    }
+
     private OrderDTOFromFE createSampleOrderFromFE() {
         OrderDTOFromFE orderFromFE = new OrderDTOFromFE();
         orderFromFE.setUserId(1);
@@ -0,0 +1,268 @@
+package com.codedecode.order.export;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ExportProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.ExportCheckpoint;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.repo.ExportCheckpointRepo;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.mongodb.client.MongoCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private OrderCodecRepository orderCodecRepository;
+
+    @Mock
+    private ExportCheckpointRepo exportCheckpointRepo;
+
+    private OrderExporter exporter;
+    private ExportProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExportProperties();
+        properties.setDirectory(directory.toString());
+        properties.setBatchRows(4);
+        meterRegistry = new SimpleMeterRegistry();
+        exporter = new OrderExporter();
+        exporter.exportProperties = properties;
+        exporter.orderCodecRepository = orderCodecRepository;
+        exporter.exportCheckpointRepo = exportCheckpointRepo;
+        exporter.meterRegistry = meterRegistry;
+    }
+
+    @Test
+    void export_ShouldWriteOneRowPerItemInFixedSizeBatches_WhenOrdersExist() throws Exception {
+        // Given
+        when(exportCheckpointRepo.findById(OrderExporter.CHECKPOINT_ID)).thenReturn(Optional.empty());
+        List<RawBsonDocument> orders = stream(null, 0, orders(1, 10));
+
+        // When
+        ExportResult result = exporter.export();
+
+        // Then
+        assertEquals(10, result.orders());
+        assertEquals(30, result.rows());
+        assertEquals(10, result.lastOrderId());
+        assertEquals(List.of(directory.resolve("orders-%s-%s.arrow".formatted(id(orders.get(0)).toHexString(),
+                id(orders.get(9)).toHexString()))), result.files());
+        List<List<Object>> rows = new ArrayList<>();
+        assertEquals(List.of(4, 4, 4, 4, 4, 4, 4, 2), read(result.files().get(0), rows));
+        assertEquals(List.of(1, 100, 7, 1, "item-1", true, 1.5, 2), rows.get(0));
+        assertEquals(List.of(10, 109, 7, 3, "item-3", false, 4.5, 2), rows.get(29));
+        ArgumentCaptor<ExportCheckpoint> saved = ArgumentCaptor.forClass(ExportCheckpoint.class);
+        verify(exportCheckpointRepo).save(saved.capture());
+        assertEquals(10, saved.getValue().getLastOrderId());
+        assertEquals(id(orders.get(9)), saved.getValue().getLastId());
+        assertEquals(30, saved.getValue().getExportedRows());
+    }
+
+    @Test
+    void export_ShouldResumeLegacyCheckpointByOrderIdAndRollFiles_WhenBatchesPerFileReached() throws Exception {
+        // Given
+        properties.setBatchesPerFile(2);
+        when(exportCheckpointRepo.findById(OrderExporter.CHECKPOINT_ID))
+                .thenReturn(Optional.of(new ExportCheckpoint(OrderExporter.CHECKPOINT_ID, 10, null, "orders-0000000001-0000000010.arrow", 10, 30, null)));
+        List<RawBsonDocument> orders = stream(null, 10, orders(11, 16));
+
+        // When
+        ExportResult result = exporter.export();
+
+        // Then
+        assertEquals(List.of(
+                directory.resolve("orders-%s-%s.arrow".formatted(id(orders.get(0)).toHexString(), id(orders.get(2)).toHexString())),
+                directory.resolve("orders-%s-%s.arrow".formatted(id(orders.get(3)).toHexString(), id(orders.get(5)).toHexString()))),
+                result.files());
+        List<List<Object>> rows = new ArrayList<>();
+        assertEquals(List.of(4, 4, 1), read(result.files().get(0), rows));
+        assertEquals(List.of(4, 4, 1), read(result.files().get(1), rows));
+        assertEquals(IntStream.rangeClosed(11, 16).boxed().flatMap(id -> Stream.of(id, id, id)).toList(),
+                rows.stream().map(row -> row.get(0)).toList());
+        ArgumentCaptor<ExportCheckpoint> saved = ArgumentCaptor.forClass(ExportCheckpoint.class);
+        verify(exportCheckpointRepo, times(2)).save(saved.capture());
+        assertEquals(16, saved.getValue().getLastOrderId());
+        assertEquals(id(orders.get(5)), saved.getValue().getLastId());
+        assertEquals(16, saved.getValue().getExportedOrders());
+        assertEquals(48, saved.getValue().getExportedRows());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void export_ShouldLeaveCheckpointUntouched_WhenNothingNew() throws Exception {
+        // Given
+        when(exportCheckpointRepo.findById(OrderExporter.CHECKPOINT_ID)).thenReturn(Optional.empty());
+        stream(null, 0, List.of());
+
+        // When
+        ExportResult result = exporter.export();
+
+        // Then
+        assertTrue(result.files().isEmpty());
+        assertEquals(0, result.lastOrderId());
+        verify(exportCheckpointRepo, never()).save(any());
+    }
+
+    @Test
+    void export_ShouldIncludeLowerOrderId_WhenInsertedAfterCheckpoint() throws Exception {
+        // Given
+        ObjectId checkpointId = new ObjectId();
+        when(exportCheckpointRepo.findById(OrderExporter.CHECKPOINT_ID))
+                .thenReturn(Optional.of(new ExportCheckpoint(OrderExporter.CHECKPOINT_ID, 20, checkpointId, "earlier.arrow", 20, 60, null)));
+        stream(checkpointId, 20, orders(15, 15));
+
+        // When
+        ExportResult result = exporter.export();
+
+        // Then
+        assertEquals(1, result.orders());
+        assertEquals(15, result.lastOrderId());
+    }
+
+    @Test
+    void export_ShouldSkipOrdersWithoutIdAndNullItems_AndMovePastThem() throws Exception {
+        // Given
+        when(exportCheckpointRepo.findById(OrderExporter.CHECKPOINT_ID)).thenReturn(Optional.empty());
+        List<Order> stored = new ArrayList<>(orders(1, 2));
+        stored.add(1, new Order(null, List.of(new FoodItemsDTO(1, "item-1", null, true, 1.5, 7, 2)), null, null));
+        stored.get(2).setFoodItemsList(Arrays.asList(null, new FoodItemsDTO(2, "item-2", null, false, 3.0, 7, 2)));
+        List<RawBsonDocument> orders = stream(null, 0, stored);
+
+        // When
+        ExportResult result = exporter.export();
+
+        // Then
+        assertEquals(2, result.orders());
+        assertEquals(4, result.rows());
+        assertEquals(2, result.lastOrderId());
+        ArgumentCaptor<ExportCheckpoint> saved = ArgumentCaptor.forClass(ExportCheckpoint.class);
+        verify(exportCheckpointRepo).save(saved.capture());
+        assertEquals(id(orders.get(2)), saved.getValue().getLastId());
+        assertEquals(1.0, meterRegistry.counter("order.export.skipped").count());
+        assertEquals(1.0, meterRegistry.counter("order.export.skipped-items").count());
+    }
+
+    /**
+     * Encodes the orders as they are stored, with ascending {@code _id}s, and serves them from a mocked cursor.
+     */
+    @SuppressWarnings("unchecked")
+    private List<RawBsonDocument> stream(ObjectId afterId, int afterOrderId, List<Order> orders) {
+        Codec<Order> codec = OrderCodecRepository.ORDER_CODEC_REGISTRY.get(Order.class);
+        List<RawBsonDocument> raw = new ArrayList<>();
+        for (Order order : orders) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            codec.encode(new BsonBinaryWriter(buffer), order, EncoderContext.builder().build());
+            raw.add(new RawBsonDocument(buffer.toByteArray()));
+        }
+        Iterator<RawBsonDocument> iterator = raw.iterator();
+        MongoCursor<RawBsonDocument> cursor = mock(MongoCursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(orderCodecRepository.streamAfterId(eq(afterId), eq(afterOrderId), any(ObjectId.class), anyInt())).thenReturn(cursor);
+        return raw;
+    }
+
+    private static ObjectId id(RawBsonDocument order) {
+        return order.getObjectId("_id").getValue();
+    }
+
+    /**
+     * Reads every batch of an export file into {@code rows} and returns the batch sizes.
+     */
+    private static List<Integer> read(Path file, List<List<Object>> rows) throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        try (RootAllocator allocator = new RootAllocator();
+             FileChannel channel = FileChannel.open(file);
+             ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertEquals(OrderExporter.SCHEMA, root.getSchema());
+            while (reader.loadNextBatch()) {
+                batchSizes.add(root.getRowCount());
+                for (int row = 0; row < root.getRowCount(); row++) {
+                    rows.add(List.of(
+                            ((IntVector) root.getVector("order_id")).get(row),
+                            ((IntVector) root.getVector("user_id")).get(row),
+                            ((IntVector) root.getVector("restaurant_id")).get(row),
+                            ((IntVector) root.getVector("item_id")).get(row),
+                            new String(((VarCharVector) root.getVector("item_name")).get(row)),
+                            root.getVector("is_veg").getObject(row),
+                            ((Float8Vector) root.getVector("price")).get(row),
+                            ((IntVector) root.getVector("quantity")).get(row)));
+                }
+            }
+        }
+        return batchSizes;
+    }
+
+    private static List<Order> orders(int from, int to) {
+        return IntStream.rangeClosed(from, to).mapToObj(id -> new Order(id,
+                IntStream.rangeClosed(1, 3).mapToObj(item -> new FoodItemsDTO(item, "item-" + item, null,
+                        item == 1, item * 1.5, 7, 2)).toList(),
+                new Restaurant(7, "r", null, null, null),
+                new UserDTO(99 + id, "user", null, null, null))).toList();
+    }
+}
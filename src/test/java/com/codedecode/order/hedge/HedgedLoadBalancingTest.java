@@ -0,0 +1,154 @@
+package com.codedecode.order.hedge;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.HedgingProperties;
+import com.codedecode.order.config.UserServiceLoadBalancerProperties;
+import com.codedecode.order.loadbalancer.LatencyAwareLoadBalancer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.net.SocketException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The hedger and the load balancer lifecycle together, with each attempt reporting to the lifecycle the way
+ * {@code BlockingLoadBalancerClient} does.
+ */
+class HedgedLoadBalancingTest {
+
+    private static final ServiceInstance SLOW = new DefaultServiceInstance("slow", "USER-SERVICE", "127.0.0.1", 8081, false);
+    private static final ServiceInstance FAST = new DefaultServiceInstance("fast", "USER-SERVICE", "127.0.0.1", 8082, false);
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserServiceLoadBalancerProperties loadBalancerProperties;
+    private LatencyAwareLoadBalancer loadBalancer;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadBalancerProperties = new UserServiceLoadBalancerProperties();
+        loadBalancerProperties.setFailureThreshold(3);
+        loadBalancerProperties.setMinOutlierSamples(3);
+        loadBalancer = new LatencyAwareLoadBalancer(mock(ObjectProvider.class), "USER-SERVICE", loadBalancerProperties,
+                meterRegistry);
+        HedgingProperties hedgingProperties = new HedgingProperties();
+        hedgingProperties.setEnabled(true);
+        hedgingProperties.setMinSamples(5);
+        hedgingProperties.setMinDelay(Duration.ofMillis(50));
+        hedgingProperties.setBudgetPercent(100);
+        hedger = new RequestHedger();
+        hedger.hedgingProperties = hedgingProperties;
+        hedger.meterRegistry = meterRegistry;
+        hedger.start();
+        for (int i = 0; i < hedgingProperties.getMinSamples(); i++) {
+            hedger.call(key -> "warm");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.stop();
+    }
+
+    @Test
+    void call_ShouldRecordCancelledPrimaryAsLatency_WhenHedgeWins() throws Exception {
+        // Given
+        int calls = 6;
+        Set<String> primaries = ConcurrentHashMap.newKeySet();
+        CountDownLatch primariesCompleted = new CountDownLatch(calls);
+
+        // When
+        for (int i = 0; i < calls; i++) {
+            String result = hedger.call(key -> primaries.add(key)
+                    ? attempt(SLOW, key, primariesCompleted)
+                    : attempt(FAST, key, null));
+            assertEquals("fast", result);
+        }
+
+        // Then
+        assertTrue(primariesCompleted.await(5, TimeUnit.SECONDS));
+        assertEquals(0.0, ejections("consecutive failures"));
+        assertEquals(1.0, ejections("latency outlier"));
+        assertEquals((double) calls, meterRegistry.counter("order.hedge.won").count());
+    }
+
+    /**
+     * One attempt as the blocking client runs it: an interrupted read closes the socket and reports a failure,
+     * with the thread's interrupt status still set.
+     */
+    private String attempt(ServiceInstance instance, String hedgeKey, CountDownLatch completed) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(RequestHedger.HEDGE_KEY_HEADER, hedgeKey);
+        Request<Object> request = new DefaultRequest<>(new RequestDataContext(new RequestData(HttpMethod.GET,
+                URI.create("http://USER-SERVICE/user/fetchUserById/1"), headers, new LinkedMultiValueMap<>(), Map.of())));
+        Response<ServiceInstance> lbResponse = new DefaultResponse(instance);
+        loadBalancer.onStartRequest(request, lbResponse);
+        if (instance == FAST) {
+            loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse,
+                    new ResponseData(HttpStatus.OK, new HttpHeaders(), null, null)));
+            return "fast";
+        }
+        try {
+            Thread.sleep(5_000);
+            return "slow";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            SocketException closed = new SocketException("Closed by interrupt");
+            loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED, closed, request, lbResponse));
+            throw new IllegalStateException(closed);
+        } finally {
+            completed.countDown();
+        }
+    }
+
+    private double ejections(String reason) {
+        return meterRegistry.counter("order.loadbalancer.ejections", "service", "USER-SERVICE", "reason", reason).count();
+    }
+}
@@ -0,0 +1,211 @@
+package com.codedecode.order.hedge;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private HedgingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setMinSamples(20);
+        properties.setMinDelay(Duration.ofMillis(20));
+        properties.setBudgetPercent(50);
+        meterRegistry = new SimpleMeterRegistry();
+        hedger = new RequestHedger();
+        hedger.hedgingProperties = properties;
+        hedger.meterRegistry = meterRegistry;
+        hedger.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.stop();
+    }
+
+    @Test
+    void call_ShouldNotHedge_WhenTooFewLatencySamples() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = hedger.call(key -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        // Then
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(-1, hedger.hedgeDelayNanos());
+    }
+
+    @Test
+    void call_ShouldReturnHedgeAndCancelPrimary_WhenPrimaryIsSlowerThanPercentile() throws Exception {
+        // Given
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+        List<String> keys = new CopyOnWriteArrayList<>();
+
+        // When
+        long start = System.nanoTime();
+        String result = hedger.call(key -> {
+            keys.add(key);
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertEquals("hedge", result);
+        assertTrue(elapsedMillis < 1_000, () -> "took " + elapsedMillis + "ms");
+        assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS));
+        assertEquals(2, keys.size());
+        assertEquals(keys.get(0), keys.get(1));
+        assertEquals(1.0, meterRegistry.counter("order.hedge.sent").count());
+        assertEquals(1.0, meterRegistry.counter("order.hedge.won").count());
+        assertEquals(properties.getMinSamples() + 1, hedger.latencies.count());
+    }
+
+    @Test
+    void call_ShouldSkipHedge_WhenBudgetExhausted() {
+        // Given
+        properties.setBudgetPercent(0);
+        hedger.stop();
+        hedger.start();
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = hedger.call(key -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "primary";
+        });
+
+        // Then
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, meterRegistry.counter("order.hedge.budget-exhausted").count());
+    }
+
+    @Test
+    void call_ShouldWaitForHedge_WhenPrimaryFailsAfterHedgeSent() {
+        // Given
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = hedger.call(key -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(60);
+                throw new IllegalStateException("primary failed");
+            }
+            sleep(100);
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result);
+    }
+
+    @Test
+    void call_ShouldRecordOnlyPrimaryLatency_WhenHedgeAnswersAfterPrimaryFailed() {
+        // Given
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        hedger.call(key -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(60);
+                throw new IllegalStateException("primary failed");
+            }
+            sleep(300);
+            return "hedge";
+        });
+
+        // Then
+        assertEquals(properties.getMinSamples() + 1, hedger.latencies.count());
+        long slowest = TimeUnit.NANOSECONDS.toMillis(hedger.latencies.quantile(1.0));
+        assertTrue(slowest < 250, () -> "recorded " + slowest + "ms");
+    }
+
+    @Test
+    void call_ShouldThrowPrimaryFailure_WhenAllAttemptsFail() {
+        // Given
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> hedger.call(key -> {
+            int attempt = attempts.incrementAndGet();
+            sleep(attempt == 1 ? 80 : 10);
+            throw new IllegalStateException("attempt " + attempt);
+        }));
+
+        // Then
+        assertEquals("attempt 1", thrown.getMessage());
+        assertEquals(2, attempts.get());
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < properties.getMinSamples(); i++) {
+            hedger.call(key -> "warm");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
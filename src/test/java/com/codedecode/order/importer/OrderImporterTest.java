@@ -0,0 +1,221 @@
+package com.codedecode.order.importer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.ImportProperties;
+import com.codedecode.order.config.OrderSummaryProperties;
+import com.codedecode.order.entity.ImportCheckpoint;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.repo.ImportCheckpointRepository;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import com.codedecode.order.service.SequenceGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class OrderImporterTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<Order> inserted = new CopyOnWriteArrayList<>();
+    private final Map<String, ImportCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger(1000);
+    private OrderCodecRepository orderCodecRepository;
+    private final UserOrderSummaryRepository userOrderSummaryRepository = mock(UserOrderSummaryRepository.class);
+    private OrderImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        orderCodecRepository = mock(OrderCodecRepository.class);
+        doAnswer(invocation -> inserted.addAll(invocation.getArgument(0))).when(orderCodecRepository).insertMany(anyList());
+        SequenceGenerator sequenceGenerator = mock(SequenceGenerator.class);
+        when(sequenceGenerator.allocateBlock(anyInt())).thenAnswer(invocation -> sequence.getAndAdd(invocation.getArgument(0)) + 1);
+
+        ImportProperties properties = new ImportProperties();
+        properties.setChunkSize(DataSize.ofBytes(2048));
+        properties.setBatchSize(7);
+        properties.setParserThreads(3);
+        properties.setWriterThreads(2);
+        properties.setMaxInFlightBatches(2);
+
+        importer = new OrderImporter();
+        importer.importProperties = properties;
+        importer.orderCodecRepository = orderCodecRepository;
+        importer.sequenceGenerator = sequenceGenerator;
+        importer.importCheckpointRepository = new InMemoryCheckpoints();
+        importer.objectMapper = new ObjectMapper();
+        importer.meterRegistry = new SimpleMeterRegistry();
+        importer.userOrderSummaryRepository = userOrderSummaryRepository;
+        importer.orderSummaryProperties = new OrderSummaryProperties();
+    }
+
+    @Test
+    void importFile_ShouldInsertEveryRecordWithUniqueIds_WhenFileIsNdjson() throws Exception {
+        // Given
+        Path file = ndjson(500);
+
+        // When
+        ImportResult result = importer.importFile(file);
+
+        // Then
+        assertEquals(500, result.imported());
+        assertTrue(result.chunks() > 1);
+        assertEquals(500, inserted.size());
+        assertEquals(500, inserted.stream().map(Order::getOrderId).distinct().count());
+        Set<Integer> users = new HashSet<>();
+        inserted.forEach(order -> users.add(order.getUserDTO().getUserId()));
+        assertEquals(500, users.size());
+        assertEquals(2, inserted.get(0).getFoodItemsList().get(0).getQuantity());
+        verify(orderCodecRepository).ensureOrderIdIndex();
+        verify(userOrderSummaryRepository).rebuild(null, 20);
+    }
+
+    @Test
+    void importFile_ShouldSkipHeaderAndRejectBadLines_WhenFileIsCsv() throws Exception {
+        // Given
+        Path file = directory.resolve("orders.csv");
+        Files.writeString(file, """
+                userId,userName,address,city,restaurantId,restaurantName,restaurantCity,items
+                1,Ann,1 Main St,Pune,7,Resto,Pune,1:Pizza:250:2:true;2:Soda:40.5:1:true\r
+                not,a,valid,row
+                2,Bob,2 Main St,Pune,7,Resto,Pune,3:Dal:120:1:true
+                """);
+
+        // When
+        ImportResult result = importer.importFile(file);
+
+        // Then
+        assertEquals(2, result.imported());
+        assertEquals(1, result.rejected());
+        Order ann = inserted.stream().filter(o -> o.getUserDTO().getUserId() == 1).findFirst().orElseThrow();
+        assertEquals(2, ann.getFoodItemsList().size());
+        assertEquals(40.5, ann.getFoodItemsList().get(1).getPrice());
+        assertEquals(250, ann.getFoodItemsList().get(0).getPrice());
+    }
+
+    @Test
+    void importFile_ShouldSkipDoneChunksAndRedoStartedOnes_WhenResumed() throws Exception {
+        // Given
+        Path file = ndjson(200);
+        importer.importFile(file);
+        ImportCheckpoint checkpoint = checkpoints.values().iterator().next();
+        int chunks = checkpoint.getDoneChunks().size();
+        checkpoint.getDoneChunks().remove(Integer.valueOf(1));
+        checkpoint.getStartedChunks().put("1", 5_000);
+        inserted.clear();
+
+        // When
+        ImportResult resumed = importer.importFile(file);
+
+        // Then
+        assertEquals(chunks - 1, resumed.skippedChunks());
+        assertEquals(resumed.imported(), inserted.size());
+        assertEquals(5_000, inserted.stream().mapToInt(Order::getOrderId).min().orElseThrow());
+        verify(orderCodecRepository).deleteByOrderIdRange(5_000, 5_000 + inserted.size());
+        assertTrue(checkpoint.getStartedChunks().isEmpty());
+        assertEquals(chunks, checkpoint.getDoneChunks().size());
+    }
+
+    @Test
+    void plan_ShouldEndEveryChunkOnANewline_WhenChunkSizeSplitsLines() throws Exception {
+        // Given
+        Path file = ndjson(100);
+
+        // When
+        List<long[]> chunks;
+        try (FileChannel channel = FileChannel.open(file)) {
+            chunks = OrderImporter.plan(channel, 1000);
+        }
+
+        // Then
+        byte[] bytes = Files.readAllBytes(file);
+        long expectedStart = 0;
+        for (long[] chunk : chunks) {
+            assertEquals(expectedStart, chunk[0]);
+            assertEquals('\n', bytes[(int) chunk[1] - 1]);
+            expectedStart = chunk[1];
+        }
+        assertEquals(bytes.length, expectedStart);
+    }
+
+    private Path ndjson(int count) throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            lines.append("{\"foodItemsList\":[{\"id\":1,\"itemName\":\"Pizza\",\"price\":250,\"restaurantId\":7,\"quantity\":2}],")
+                    .append("\"restaurant\":{\"id\":7,\"name\":\"Resto\"},")
+                    .append("\"userDTO\":{\"userId\":").append(i).append(",\"userName\":\"user").append(i).append("\"}}\n");
+        }
+        Path file = directory.resolve("orders.ndjson");
+        Files.writeString(file, lines);
+        return file;
+    }
+
+    private class InMemoryCheckpoints extends ImportCheckpointRepository {
+
+        @Override
+        public Optional<ImportCheckpoint> findById(String id) {
+            return Optional.ofNullable(checkpoints.get(id));
+        }
+
+        @Override
+        public synchronized void markStarted(String id, String file, long chunkBytes, int chunk, int firstOrderId) {
+            checkpoint(id, chunkBytes).getStartedChunks().put(String.valueOf(chunk), firstOrderId);
+        }
+
+        @Override
+        public synchronized void markDone(String id, String file, long chunkBytes, int chunk, int imported, int rejected) {
+            ImportCheckpoint checkpoint = checkpoint(id, chunkBytes);
+            checkpoint.getStartedChunks().remove(String.valueOf(chunk));
+            if (!checkpoint.getDoneChunks().contains(chunk)) {
+                checkpoint.getDoneChunks().add(chunk);
+            }
+            checkpoint.setImported(checkpoint.getImported() + imported);
+            checkpoint.setRejected(checkpoint.getRejected() + rejected);
+        }
+
+        private ImportCheckpoint checkpoint(String id, long chunkBytes) {
+            return checkpoints.computeIfAbsent(id, key -> {
+                ImportCheckpoint checkpoint = new ImportCheckpoint();
+                checkpoint.setId(key);
+                checkpoint.setChunkBytes(chunkBytes);
+                return checkpoint;
+            });
+        }
+    }
+}
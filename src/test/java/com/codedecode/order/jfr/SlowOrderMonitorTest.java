@@ -0,0 +1,105 @@
+package com.codedecode.order.jfr;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.JfrProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowOrderMonitorTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:30Z");
+
+    private SlowOrderMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        JfrProperties properties = new JfrProperties();
+        properties.setSlowestOrders(3);
+        properties.setWindow(Duration.ofMinutes(5));
+        properties.setPlacementThreshold(Duration.ZERO);
+        monitor = new SlowOrderMonitor();
+        monitor.jfrProperties = properties;
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void slowest_ShouldMergeMinutesAndDropExpired_WhenPlacementsOffered() {
+        // Given
+        monitor.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        monitor.start();
+        monitor.offer(order(1, 900, NOW.minus(Duration.ofMinutes(6))));
+        monitor.offer(order(2, 80, NOW.minus(Duration.ofMinutes(3))));
+        monitor.offer(order(3, 300, NOW.minus(Duration.ofMinutes(3))));
+        monitor.offer(order(4, 60, NOW));
+        monitor.offer(order(5, 200, NOW));
+        monitor.offer(order(6, 70, NOW));
+
+        // When
+        List<SlowOrder> slowest = monitor.slowest();
+
+        // Then
+        assertEquals(List.of(3, 5, 2), slowest.stream().map(SlowOrder::orderId).toList());
+    }
+
+    @Test
+    void slowest_ShouldListCommittedPlacementEvent_WhenStreamIsRunning() throws Exception {
+        // Given
+        monitor.start();
+        Thread.sleep(500);
+
+        // When
+        OrderPlacementEvent event = OrderPlacementEvent.start(3, "MAJORITY");
+        event.sequenceDone(4242);
+        Thread.sleep(5);
+        event.userLookupDone();
+        event.finish(new IllegalStateException("boom"));
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (monitor.slowest().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        SlowOrder recorded = monitor.slowest().stream().filter(order -> order.orderId() == 4242).findFirst().orElseThrow();
+        assertEquals(3, recorded.itemCount());
+        assertEquals("MAJORITY", recorded.durabilityTier());
+        assertEquals("IllegalStateException", recorded.outcome());
+        assertTrue(recorded.userLookupMillis() >= 5);
+        assertTrue(recorded.totalMillis() >= recorded.userLookupMillis());
+    }
+
+    private static SlowOrder order(int orderId, double totalMillis, Instant at) {
+        return new SlowOrder(orderId, 1, totalMillis, 0, 0, 0, 0, 0, null, "OK", "main", at);
+    }
+}
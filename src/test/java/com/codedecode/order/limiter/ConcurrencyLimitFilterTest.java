@@ -0,0 +1,92 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private GradientConcurrencyLimiter limiter;
+    private Counter rejected;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new GradientConcurrencyLimiter(1, 1, 10, 0.2, 100, 1.5, 0.9);
+        rejected = new SimpleMeterRegistry().counter("order.concurrency.rejected");
+        filter = new ConcurrencyLimitFilter(limiter, rejected, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void doFilter_ShouldPassRequestAndReleasePermit_WhenUnderLimit() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> ((MockHttpServletResponse) res).setStatus(201);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/order/saveOrder"), response, chain);
+
+        // Then
+        assertEquals(201, response.getStatus());
+        assertEquals(0, limiter.getInflight());
+        assertEquals(0, rejected.count());
+    }
+
+    @Test
+    void doFilter_ShouldShedWith429AndRetryAfter_WhenLimitReached() throws Exception {
+        // Given
+        GradientConcurrencyLimiter.Listener held = limiter.tryAcquire().orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> fail("Request over the limit must not reach the controller");
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/order/saveOrder"), response, chain);
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals(1, rejected.count());
+        held.onIgnore();
+    }
+
+    @Test
+    void doFilter_ShouldReleasePermit_WhenDownstreamThrows() {
+        // Given
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("Mongo timeout");
+        };
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(new MockHttpServletRequest("POST", "/order/saveOrder"), new MockHttpServletResponse(), chain));
+        assertEquals(0, limiter.getInflight());
+    }
+}
@@ -0,0 +1,133 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void tryAcquire_ShouldRejectRequestsAboveLimit() {
+        // Given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 1, 10, 0.2, 100, 1.5, 0.9);
+
+        // When
+        Optional<GradientConcurrencyLimiter.Listener> first = limiter.tryAcquire();
+        Optional<GradientConcurrencyLimiter.Listener> second = limiter.tryAcquire();
+        Optional<GradientConcurrencyLimiter.Listener> third = limiter.tryAcquire();
+
+        // Then
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(third.isEmpty());
+        assertEquals(2, limiter.getInflight());
+
+        first.get().onIgnore();
+        assertEquals(1, limiter.getInflight());
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    @Test
+    void listener_ShouldReleaseOnlyOnce() {
+        // Given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(5, 1, 10, 0.2, 100, 1.5, 0.9);
+        GradientConcurrencyLimiter.Listener listener = limiter.tryAcquire().orElseThrow();
+
+        // When
+        listener.onSuccess();
+        listener.onDropped();
+
+        // Then
+        assertEquals(0, limiter.getInflight());
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldGrowLimit_WhenSaturatedAndLatencySteady() {
+        // Given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 100, 0.2, 100, 1.5, 0.9);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(10 * MILLIS, limiter.getLimit());
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() > 10, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldNotGrowLimit_WhenNotSaturated() {
+        // Given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 100, 0.2, 100, 1.5, 0.9);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(10 * MILLIS, 1);
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldShrinkLimit_WhenLatencyRises() {
+        // Given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(50, 1, 100, 0.2, 100, 1.5, 0.9);
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(10 * MILLIS, limiter.getLimit());
+        }
+        int before = limiter.getLimit();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(100 * MILLIS, limiter.getLimit());
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < before / 2, before + " -> " + limiter.getLimit());
+    }
+
+    @Test
+    void onDropped_ShouldBackOffDownToMinLimit() {
+        // Given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 100, 0.2, 100, 1.5, 0.5);
+        List<GradientConcurrencyLimiter.Listener> listeners = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            listeners.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        // When
+        listeners.forEach(GradientConcurrencyLimiter.Listener::onDropped);
+
+        // Then
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+}
@@ -0,0 +1,107 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RateLimitProperties;
+import com.codedecode.order.dto.OrderDTOFromFE;
+import com.codedecode.order.dto.Restaurant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRateLimiterTest {
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setUser(new RateLimitProperties.KeyClass(0.001, 2));
+        properties.setRestaurant(new RateLimitProperties.KeyClass(0.001, 3));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void check_ShouldRejectUser_WhenUserBurstExhausted() {
+        // Given
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, meterRegistry);
+        limiter.check(order(1, 101));
+        limiter.check(order(1, 101));
+
+        // When
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class, () -> limiter.check(order(1, 101)));
+
+        // Then
+        assertEquals("user", e.getKeyClass());
+        assertTrue(e.getRetryAfter().toSeconds() > 0);
+        assertEquals(1, meterRegistry.get("order.ratelimit.rejected").tag("key", "user").counter().count());
+    }
+
+    @Test
+    void check_ShouldRejectRestaurant_WhenManyUsersOrderFromIt() {
+        // Given
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, meterRegistry);
+        limiter.check(order(1, 101));
+        limiter.check(order(2, 101));
+        limiter.check(order(3, 101));
+
+        // When
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class, () -> limiter.check(order(4, 101)));
+
+        // Then
+        assertEquals("restaurant", e.getKeyClass());
+        assertDoesNotThrow(() -> limiter.check(order(5, 102)));
+    }
+
+    @Test
+    void check_ShouldSkipMissingKeys() {
+        // Given
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, meterRegistry);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> limiter.check(new OrderDTOFromFE(List.of(), null, null)));
+        }
+    }
+
+    @Test
+    void check_ShouldDoNothing_WhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, meterRegistry);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> limiter.check(order(1, 101)));
+        }
+    }
+
+    private OrderDTOFromFE order(int userId, int restaurantId) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(restaurantId);
+        return new OrderDTOFromFE(List.of(), userId, restaurant);
+    }
+}
@@ -0,0 +1,161 @@
+package com.codedecode.order.limiter;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenReject() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(10, 5, 16, 0);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (table.tryAcquire(42, 0) == 0) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertEquals(5, allowed);
+    }
+
+    @Test
+    void tryAcquire_ShouldReportWaitUntilNextToken() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(10, 1, 16, 0);
+        assertEquals(0, table.tryAcquire(7, 0));
+
+        // When
+        long wait = table.tryAcquire(7, 0);
+
+        // Then
+        assertEquals(SECOND / 10, wait, SECOND / 100);
+        assertEquals(0, table.tryAcquire(7, wait));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRateButNotBeyondBurst() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(2, 3, 16, 0);
+        for (int i = 0; i < 3; i++) {
+            table.tryAcquire(1, 0);
+        }
+
+        // When
+        long later = 60 * SECOND;
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (table.tryAcquire(1, later) == 0) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertEquals(3, allowed);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, 1, 1024, 0);
+        assertEquals(0, table.tryAcquire(1, 0));
+
+        // When & Then
+        assertTrue(table.tryAcquire(1, 0) > 0);
+        for (int key = 2; key < 200; key++) {
+            assertEquals(0, table.tryAcquire(key, 0), "key " + key);
+        }
+        assertEquals(0, table.tryAcquire(0, 0));
+        assertTrue(table.tryAcquire(0, 0) > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldStayBounded_WhenKeysExceedCapacity() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, 1, 8, 0);
+        int capacity = table.capacity();
+
+        // When: far more distinct keys than slots, each taking its single token
+        for (int key = 0; key < capacity * 100; key++) {
+            assertEquals(0, table.tryAcquire(key, 0));
+        }
+
+        // Then: evicted keys simply start over with a full bucket
+        assertEquals(16, capacity);
+        assertEquals(0, table.tryAcquire(0, 0));
+    }
+
+    @Test
+    void tryAcquire_ShouldTreatLongIdleBucketsAsFull_AcrossTickWraparound() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1_000_000, 1, 16, 0);
+        assertEquals(0, table.tryAcquire(5, 0));
+        assertTrue(table.tryAcquire(5, 0) > 0);
+
+        // When: idle for far longer than the 32-bit tick range at this rate
+        long muchLater = 10_000 * SECOND;
+
+        // Then
+        assertEquals(0, table.tryAcquire(5, muchLater));
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverOverAdmit_UnderConcurrency() throws Exception {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(0.001, 1000, 64, 0);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    if (table.tryAcquire(99, 0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(1000, allowed.get());
+    }
+}
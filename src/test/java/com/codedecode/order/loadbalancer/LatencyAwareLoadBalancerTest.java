@@ -0,0 +1,220 @@
+package com.codedecode.order.loadbalancer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.UserServiceLoadBalancerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final ServiceInstance FAST = instance("fast", 8081);
+    private static final ServiceInstance ALSO_FAST = instance("also-fast", 8082);
+    private static final ServiceInstance SLOW = instance("slow", 8083);
+    private static final List<ServiceInstance> ALL = List.of(FAST, ALSO_FAST, SLOW);
+
+    private UserServiceLoadBalancerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LatencyAwareLoadBalancer loadBalancer;
+    private long now;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new UserServiceLoadBalancerProperties();
+        properties.setMinOutlierSamples(5);
+        meterRegistry = new SimpleMeterRegistry();
+        loadBalancer = new LatencyAwareLoadBalancer(mock(ObjectProvider.class), "USER-SERVICE", properties, meterRegistry);
+        now = TimeUnit.SECONDS.toNanos(1);
+        loadBalancer.nanoClock = () -> now;
+        loadBalancer.choose(ALL);
+    }
+
+    @Test
+    void choose_ShouldAvoidSlowInstance_WhenPeakEwmaHasLatencySamples() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            call(FAST, Duration.ofMillis(2), HttpStatus.OK);
+            call(ALSO_FAST, Duration.ofMillis(3), HttpStatus.OK);
+            call(SLOW, Duration.ofMillis(15), HttpStatus.OK);
+        }
+
+        // When
+        Map<ServiceInstance, Integer> picks = pick(ALL, 3000);
+
+        // Then
+        assertEquals(0, picks.getOrDefault(SLOW, 0));
+        assertTrue(picks.get(FAST) > picks.get(ALSO_FAST));
+    }
+
+    @Test
+    void choose_ShouldPreferIdleInstance_WhenStrategyIsLeastOutstanding() {
+        // Given
+        properties.setStrategy(UserServiceLoadBalancerProperties.Strategy.LEAST_OUTSTANDING);
+        loadBalancer.onStartRequest(request(), new DefaultResponse(FAST));
+        loadBalancer.onStartRequest(request(), new DefaultResponse(FAST));
+        loadBalancer.onStartRequest(request(), new DefaultResponse(SLOW));
+
+        // When
+        Map<ServiceInstance, Integer> picks = pick(ALL, 3000);
+
+        // Then
+        assertEquals(0, picks.getOrDefault(FAST, 0));
+        assertTrue(picks.get(ALSO_FAST) > picks.getOrDefault(SLOW, 0));
+    }
+
+    @Test
+    void choose_ShouldSkipInstanceUntilEjectionExpires_WhenItFailsRepeatedly() {
+        // Given
+        for (int i = 0; i < properties.getFailureThreshold(); i++) {
+            call(SLOW, Duration.ofMillis(1), HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        // When
+        Map<ServiceInstance, Integer> whileEjected = pick(ALL, 1000);
+        now += properties.getEjectionTime().toNanos();
+        Map<ServiceInstance, Integer> afterEjection = pick(ALL, 1000);
+
+        // Then
+        assertEquals(0, whileEjected.getOrDefault(SLOW, 0));
+        assertTrue(afterEjection.getOrDefault(SLOW, 0) > 0);
+        assertEquals(1.0, meterRegistry.counter("order.loadbalancer.ejections",
+                "service", "USER-SERVICE", "reason", "consecutive failures").count());
+    }
+
+    @Test
+    void onComplete_ShouldEjectLatencyOutlier_WhenSlowerThanPeersByFactor() {
+        // Given
+        for (int i = 0; i < properties.getMinOutlierSamples(); i++) {
+            call(FAST, Duration.ofMillis(5), HttpStatus.OK);
+            call(ALSO_FAST, Duration.ofMillis(6), HttpStatus.OK);
+        }
+
+        // When
+        for (int i = 0; i < properties.getMinOutlierSamples(); i++) {
+            call(SLOW, Duration.ofMillis(40), HttpStatus.OK);
+        }
+
+        // Then
+        assertEquals(0, pick(ALL, 1000).getOrDefault(SLOW, 0));
+    }
+
+    @Test
+    void onComplete_ShouldKeepInstancesIn_WhenMaxEjectedPercentReached() {
+        // Given
+        for (ServiceInstance instance : ALL) {
+            for (int i = 0; i < properties.getFailureThreshold(); i++) {
+                call(instance, Duration.ofMillis(1), HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+
+        // When
+        Map<ServiceInstance, Integer> picks = pick(ALL, 1000);
+
+        // Then
+        assertEquals(2, picks.size());
+        assertEquals(1.0, meterRegistry.counter("order.loadbalancer.ejections",
+                "service", "USER-SERVICE", "reason", "consecutive failures").count());
+    }
+
+    @Test
+    void choose_ShouldUseAllInstances_WhenEveryCandidateIsEjected() {
+        // Given
+        properties.setMaxEjectedPercent(100);
+        for (int i = 0; i < properties.getFailureThreshold(); i++) {
+            call(FAST, Duration.ofMillis(1), HttpStatus.BAD_GATEWAY);
+        }
+
+        // When
+        Response<ServiceInstance> response = loadBalancer.choose(List.of(FAST));
+
+        // Then
+        assertSame(FAST, response.getServer());
+    }
+
+    @Test
+    void choose_ShouldPutHedgeOnAnotherInstance_WhenSameHedgeKeyIsInFlight() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            call(FAST, Duration.ofMillis(2), HttpStatus.OK);
+            call(ALSO_FAST, Duration.ofMillis(20), HttpStatus.OK);
+            call(SLOW, Duration.ofMillis(40), HttpStatus.OK);
+        }
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            String hedgeKey = "hedge-" + i;
+            ServiceInstance primary = loadBalancer.choose(ALL, hedgeKey).getServer();
+            ServiceInstance hedge = loadBalancer.choose(ALL, hedgeKey).getServer();
+
+            // Then
+            assertNotEquals(primary, hedge);
+        }
+    }
+
+    private void call(ServiceInstance instance, Duration latency, HttpStatus status) {
+        Request<Object> request = request();
+        Response<ServiceInstance> lbResponse = new DefaultResponse(instance);
+        loadBalancer.onStartRequest(request, lbResponse);
+        now += latency.toNanos();
+        ResponseData responseData = new ResponseData(status, new HttpHeaders(), null, null);
+        loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse, responseData));
+        now += TimeUnit.MILLISECONDS.toNanos(10);
+    }
+
+    private Map<ServiceInstance, Integer> pick(List<ServiceInstance> instances, int times) {
+        Map<ServiceInstance, Integer> picks = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            picks.merge(loadBalancer.choose(instances).getServer(), 1, Integer::sum);
+        }
+        return picks;
+    }
+
+    private static Request<Object> request() {
+        return new DefaultRequest<>(new RequestDataContext());
+    }
+
+    private static ServiceInstance instance(String id, int port) {
+        return new DefaultServiceInstance(id, "USER-SERVICE", "127.0.0.1", port, false);
+    }
+}
@@ -0,0 +1,166 @@
+package com.codedecode.order.loadbalancer;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.loadtest.StubUserService;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import com.codedecode.order.service.OrderLifecycleService;
+import com.codedecode.order.service.SequenceGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the {@code @LoadBalanced} RestTemplate against three local USER-SERVICE stubs, two fast and one slow,
+ * registered through the simple discovery client.
+ */
+@SpringBootTest(properties = {
+        "order.user-service-lb.decay-time=200ms",
+        "order.user-service-lb.max-ejected-percent=100"})
+@ActiveProfiles("test")
+class UserServiceLoadBalancingTest {
+
+    private static final String USER_URL = "http://USER-SERVICE/user/fetchUserById/";
+
+    private static StubUserService[] stubs;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @MockitoBean
+    private OrderCodecRepository orderCodecRepository;
+
+    @MockitoBean
+    private SequenceGenerator sequenceGenerator;
+
+    @MockitoBean
+    private OrderLifecycleService orderLifecycleService;
+
+    @MockitoBean
+    private UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @DynamicPropertySource
+    static void stubUserServiceProperties(DynamicPropertyRegistry registry) {
+        StubUserService[] instances = stubs();
+        for (int i = 0; i < instances.length; i++) {
+            StubUserService stub = instances[i];
+            registry.add("spring.cloud.discovery.client.simple.instances[USER-SERVICE][" + i + "].uri", stub::baseUrl);
+        }
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        if (stubs != null) {
+            for (StubUserService stub : stubs) {
+                stub.close();
+            }
+        }
+    }
+
+    @Test
+    void fetchUser_ShouldSendLittleTrafficToSlowInstance_WhenPeersAreFaster() {
+        // Given
+        StubUserService slow = stubs()[2];
+        long slowBefore = slow.requestCount();
+        long totalBefore = totalRequests();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            restTemplate.getForObject(USER_URL + i, String.class);
+        }
+
+        // Then
+        long slowShare = slow.requestCount() - slowBefore;
+        assertEquals(200, totalRequests() - totalBefore);
+        assertTrue(slowShare < 20, () -> "slow instance got " + slowShare + " of 200 requests");
+    }
+
+    @Test
+    void fetchUser_ShouldStopSendingToInstance_WhenItFailsConsecutively() {
+        // Given
+        StubUserService failing = stubs()[0];
+        failing.configure(2, 0, 1.0);
+        int failures = 0;
+        long failingAfterEjection;
+        int failuresAfterEjection = 0;
+
+        // When
+        try {
+            for (int i = 0; i < 200 && failures < 5; i++) {
+                try {
+                    restTemplate.getForObject(USER_URL + i, String.class);
+                } catch (HttpServerErrorException e) {
+                    failures++;
+                }
+            }
+            failingAfterEjection = failing.requestCount();
+            for (int i = 0; i < 100; i++) {
+                try {
+                    restTemplate.getForObject(USER_URL + i, String.class);
+                } catch (HttpServerErrorException e) {
+                    failuresAfterEjection++;
+                }
+            }
+        } finally {
+            failing.configure(2, 0, 0);
+        }
+
+        // Then
+        assertEquals(5, failures);
+        assertEquals(0, failuresAfterEjection);
+        assertEquals(failingAfterEjection, failing.requestCount());
+    }
+
+    private static long totalRequests() {
+        long total = 0;
+        for (StubUserService stub : stubs()) {
+            total += stub.requestCount();
+        }
+        return total;
+    }
+
+    private static synchronized StubUserService[] stubs() {
+        if (stubs == null) {
+            try {
+                stubs = new StubUserService[] {
+                        new StubUserService(2, 0, 0),
+                        new StubUserService(2, 0, 0),
+                        new StubUserService(30, 0, 0)};
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return stubs;
+    }
+}
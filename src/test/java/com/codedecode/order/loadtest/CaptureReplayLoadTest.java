@@ -0,0 +1,99 @@
+package com.codedecode.order.loadtest;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.AbstractIntegrationTest;
+import com.codedecode.order.capture.CaptureFileReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Replays a file recorded with {@code order.capture.enabled=true} against this build, with the same setup as
+ * {@link SaveOrderLoadTest}. Run with
+ * {@code mvn -Pload-test test -Dtest=CaptureReplayLoadTest -Dloadtest.capture=capture/orders-....cap}, and
+ * {@code -Dloadtest.replay.speed=2} to compress the timeline. Set {@code -Dloadtest.target=http://host:port}
+ * to drive an already running build instead.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CaptureReplayLoadTest extends AbstractIntegrationTest {
+
+    private static StubUserService stubUserService;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubUserServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances[USER-SERVICE][0].uri", () -> stubUserService().baseUrl());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stubUserService != null) {
+            stubUserService.close();
+        }
+    }
+
+    @Test
+    void saveOrder_ShouldKeepUpWithCapturedTraffic() throws Exception {
+        String capture = System.getProperty("loadtest.capture");
+        assumeTrue(capture != null, "No capture file given with -Dloadtest.capture");
+        double speed = Double.parseDouble(System.getProperty("loadtest.replay.speed", "1"));
+        double maxErrorRatio = Double.parseDouble(System.getProperty("loadtest.max-error-ratio", "0.01"));
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "target/load-test"));
+        String label = System.getProperty("loadtest.label", "replay-x" + speed);
+        URI target = URI.create(System.getProperty("loadtest.target", "http://localhost:" + port) + "/order/saveOrder");
+
+        LoadTestResult result;
+        try (CaptureFileReader reader = new CaptureFileReader(Path.of(capture))) {
+            result = new OpenLoopLoadGenerator(Duration.ofSeconds(10)).replay(target, reader, speed);
+        }
+        result.writeTo(reportDir, label);
+        System.out.println(result.summary(label));
+        assertTrue(result.getFailed() <= result.getSent() * maxErrorRatio, "Error ratio above " + maxErrorRatio);
+    }
+
+    private static synchronized StubUserService stubUserService() {
+        if (stubUserService == null) {
+            try {
+                stubUserService = StubUserService.fromSystemProperties();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return stubUserService;
+    }
+}
@@ -0,0 +1,140 @@
+package com.codedecode.order.loadtest;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Outcome of one fixed-rate run. {@link #writeTo(Path, String)} emits a human readable summary, the full
+ * HdrHistogram percentile distribution ({@code .hgrm}, plottable with HdrHistogram's plotter) and appends
+ * one line to {@code summary.csv} so runs from different builds can be compared side by side.
+ */
+public class LoadTestResult {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private int targetRate;
+    private Duration duration;
+    private long sent;
+    private long succeeded;
+    private long failed;
+    private long sendPhaseNanos;
+    private Histogram latency;
+    private Histogram serviceTime;
+
+    LoadTestResult(int targetRate, Duration duration) {
+        this.targetRate = targetRate;
+        this.duration = duration;
+    }
+
+    void complete(long sent, long succeeded, long failed, long sendPhaseNanos, Histogram latency, Histogram serviceTime) {
+        this.sent = sent;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.sendPhaseNanos = sendPhaseNanos;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+    }
+
+    /**
+     * For replays, where rate and duration are only known once the capture has been sent.
+     */
+    void setSchedule(int targetRate, Duration duration) {
+        this.targetRate = targetRate;
+        this.duration = duration;
+    }
+
+    public int getTargetRate() {
+        return targetRate;
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public double achievedRate() {
+        return sent / (sendPhaseNanos / 1_000_000_000.0);
+    }
+
+    public double latencyMillisAt(double percentile) {
+        return latency.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public void writeTo(Path directory, String label) throws IOException {
+        Files.createDirectories(directory);
+        String name = label + "-" + targetRate + "rps";
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+            latency.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + "-service-time.hgrm")))) {
+            serviceTime.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+        Files.writeString(directory.resolve(name + ".txt"), summary(label));
+
+        Path csv = directory.resolve("summary.csv");
+        if (!Files.exists(csv)) {
+            Files.writeString(csv, "label,target_rps,achieved_rps,duration_s,sent,ok,failed,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+        }
+        Files.writeString(csv, String.format(Locale.ROOT, "%s,%d,%.1f,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                label, targetRate, achievedRate(), duration.toSeconds(), sent, succeeded, failed,
+                latencyMillisAt(50), latencyMillisAt(90), latencyMillisAt(99), latencyMillisAt(99.9),
+                latency.getMaxValue() / NANOS_PER_MILLI), StandardOpenOption.APPEND);
+    }
+
+    public String summary(String label) {
+        return String.format(Locale.ROOT, """
+                        run            : %s
+                        target rate    : %d req/s (achieved %.1f req/s)
+                        duration       : %d s
+                        requests       : %d sent, %d ok, %d failed
+                        latency (ms, corrected for coordinated omission)
+                          p50 %.3f  p90 %.3f  p99 %.3f  p99.9 %.3f  max %.3f
+                        service time (ms, uncorrected)
+                          p50 %.3f  p90 %.3f  p99 %.3f  p99.9 %.3f  max %.3f
+                        """,
+                label, targetRate, achievedRate(), duration.toSeconds(), sent, succeeded, failed,
+                latencyMillisAt(50), latencyMillisAt(90), latencyMillisAt(99), latencyMillisAt(99.9),
+                latency.getMaxValue() / NANOS_PER_MILLI,
+                serviceTime.getValueAtPercentile(50) / NANOS_PER_MILLI, serviceTime.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                serviceTime.getValueAtPercentile(99) / NANOS_PER_MILLI, serviceTime.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                serviceTime.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,167 @@
+package com.codedecode.order.loadtest;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.capture.CaptureFileReader;
+import com.codedecode.order.capture.CapturedRequest;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Fires requests on a fixed schedule regardless of how fast responses come back (open loop). Latency is
+ * measured from the <em>intended</em> send time, so a stalled server is charged for every request it
+ * delayed and the histogram is free of coordinated omission. The plain service time (actual send to
+ * response) is recorded separately for comparison.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public OpenLoopLoadGenerator(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Drives {@code ratePerSecond} POSTs of {@code bodyForRequest.apply(i)} to {@code target} for
+     * {@code duration}, after an unrecorded warm-up of the same rate.
+     */
+    public LoadTestResult run(URI target, int ratePerSecond, Duration warmup, Duration duration,
+                              LongFunction<String> bodyForRequest) throws InterruptedException {
+        drive(target, fixedRate(ratePerSecond, warmup, bodyForRequest), null);
+        LoadTestResult result = new LoadTestResult(ratePerSecond, duration);
+        drive(target, fixedRate(ratePerSecond, duration, bodyForRequest), result);
+        return result;
+    }
+
+    /**
+     * Re-sends captured requests at their original spacing divided by {@code speed}, so {@code 2.0} replays
+     * the same traffic shape at twice the rate. Requests are read from the capture as they are due.
+     */
+    public LoadTestResult replay(URI target, CaptureFileReader capture, double speed)
+            throws IOException, InterruptedException {
+        LoadTestResult result = new LoadTestResult(0, Duration.ZERO);
+        long[] lastOffset = new long[1];
+        Iterator<Send> sends = new Iterator<>() {
+            private CapturedRequest next = capture.next();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Send next() {
+                CapturedRequest current = next;
+                try {
+                    next = capture.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                lastOffset[0] = (long) (current.arrivalNanos() / speed);
+                return new Send(lastOffset[0], HttpRequest.BodyPublishers.ofByteArray(current.payload()));
+            }
+        };
+        drive(target, sends, result);
+        Duration span = Duration.ofNanos(lastOffset[0]);
+        result.setSchedule((int) Math.round(result.getSent() / Math.max(1e-3, span.toNanos() / 1e9)), span);
+        return result;
+    }
+
+    private static Iterator<Send> fixedRate(int ratePerSecond, Duration duration, LongFunction<String> bodyForRequest) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long total = duration.toNanos() / intervalNanos;
+        return LongStream.range(0, total)
+                .mapToObj(i -> new Send(i * intervalNanos, HttpRequest.BodyPublishers.ofString(bodyForRequest.apply(i))))
+                .iterator();
+    }
+
+    private void drive(URI target, Iterator<Send> sends, LoadTestResult result) throws InterruptedException {
+        Recorder corrected = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        Recorder service = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        AtomicLong ok = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        Phaser inflight = new Phaser(1);
+
+        long total = 0;
+        long start = System.nanoTime();
+        while (sends.hasNext()) {
+            Send send = sends.next();
+            long intended = start + send.offsetNanos();
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            HttpRequest request = HttpRequest.newBuilder(target)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(send.body())
+                    .build();
+            long sent = System.nanoTime();
+            total++;
+            inflight.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long now = System.nanoTime();
+                corrected.recordValue(Math.min(now - intended, HIGHEST_TRACKABLE_NANOS));
+                service.recordValue(Math.min(now - sent, HIGHEST_TRACKABLE_NANOS));
+                if (error == null && response.statusCode() < 400) {
+                    ok.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+                inflight.arriveAndDeregister();
+            });
+        }
+        long sendPhaseNanos = System.nanoTime() - start;
+        inflight.arriveAndAwaitAdvance();
+
+        if (result != null) {
+            Histogram correctedHistogram = corrected.getIntervalHistogram();
+            Histogram serviceHistogram = service.getIntervalHistogram();
+            result.complete(total, ok.get(), failed.get(), sendPhaseNanos, correctedHistogram, serviceHistogram);
+        }
+    }
+
+    private record Send(long offsetNanos, HttpRequest.BodyPublisher body) {
+    }
+}
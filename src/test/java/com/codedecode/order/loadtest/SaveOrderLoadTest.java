@@ -0,0 +1,117 @@
+package com.codedecode.order.loadtest;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Capacity run for {@code POST /order/saveOrder}: the real service on a random port, Mongo from
+ * Testcontainers and USER-SERVICE replaced by {@link StubUserService} through the simple discovery client.
+ * Only runs with {@code mvn -Pload-test test}; tune with
+ * {@code -Dloadtest.rates=50,100,200 -Dloadtest.duration-s=30 -Dloadtest.stub.latency-ms=5}.
+ * Reports land in {@code target/load-test}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SaveOrderLoadTest extends AbstractIntegrationTest {
+
+    private static StubUserService stubUserService;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubUserServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances[USER-SERVICE][0].uri", () -> stubUserService().baseUrl());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stubUserService != null) {
+            stubUserService.close();
+        }
+    }
+
+    @Test
+    void saveOrder_ShouldSustainConfiguredArrivalRates() throws Exception {
+        int[] rates = Arrays.stream(System.getProperty("loadtest.rates", "50,100").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-s", 20));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-s", 5));
+        double maxErrorRatio = Double.parseDouble(System.getProperty("loadtest.max-error-ratio", "0.01"));
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "target/load-test"));
+        String label = System.getProperty("loadtest.label",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+
+        URI target = URI.create("http://localhost:" + port + "/order/saveOrder");
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(Duration.ofSeconds(10));
+        for (int rate : rates) {
+            LoadTestResult result = generator.run(target, rate, warmup, duration, SaveOrderLoadTest::orderJson);
+            result.writeTo(reportDir, label);
+            System.out.println(result.summary(label));
+            long total = result.getSucceeded() + result.getFailed();
+            assertTrue(result.getFailed() <= total * maxErrorRatio,
+                    "Error ratio above " + maxErrorRatio + " at " + rate + " req/s");
+        }
+    }
+
+    static String orderJson(long sequence) {
+        int userId = (int) (sequence % 10_000) + 1;
+        int restaurantId = (int) (sequence % 50) + 1;
+        return "{\"userId\":" + userId
+                + ",\"restaurant\":{\"id\":" + restaurantId + ",\"name\":\"Restaurant " + restaurantId
+                + "\",\"address\":\"Main St\",\"city\":\"Load City\",\"restaurantDescription\":\"load test\"}"
+                + ",\"foodItemsList\":["
+                + "{\"id\":1,\"itemName\":\"Pizza\",\"itemDescription\":\"Cheese\",\"veg\":true,\"price\":299,\"restaurantId\":" + restaurantId + ",\"quantity\":2},"
+                + "{\"id\":2,\"itemName\":\"Pasta\",\"itemDescription\":\"Arrabbiata\",\"veg\":true,\"price\":199,\"restaurantId\":" + restaurantId + ",\"quantity\":1}]}";
+    }
+
+    private static synchronized StubUserService stubUserService() {
+        if (stubUserService == null) {
+            try {
+                stubUserService = StubUserService.fromSystemProperties();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return stubUserService;
+    }
+}
@@ -0,0 +1,175 @@
+package com.codedecode.order.mongo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlowCommandListenerTest {
+
+    private static final ServerId SERVER = new ServerId(new ClusterId(), new ServerAddress("mongo", 27017));
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(SERVER);
+
+    @Mock
+    private CommandExplainer explainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SlowCommandLog slowCommandLog;
+    private SlowCommandListener listener;
+    private int requestId;
+
+    @BeforeEach
+    void setUp() {
+        slowCommandLog = new SlowCommandLog(2);
+        listener = new SlowCommandListener(Duration.ofMillis(100), slowCommandLog, explainer, meterRegistry);
+    }
+
+    @Test
+    void commandSucceeded_ShouldLogOnlySlowCommandsWithoutPayloads_WhenOrdersInserted() {
+        // Given
+        String insert = """
+                {"insert": "order", "ordered": true, "$db": "orderdb", "lsid": {"id": 1},
+                 "documents": [{"orderId": 1, "userDTO": {"userPassword": "secret"}}, {"orderId": 2}]}""";
+
+        // When
+        run("insert", insert, 5);
+        run("insert", insert, 250);
+
+        // Then
+        List<SlowCommand> entries = slowCommandLog.entries();
+        assertEquals(1, entries.size());
+        SlowCommand slow = entries.get(0);
+        assertEquals("order", slow.getCollection());
+        assertEquals(250.0, slow.getMillis());
+        assertEquals(2, slow.getStatements());
+        assertEquals("success", slow.getOutcome());
+        assertEquals(BsonDocument.parse("{\"insert\": \"order\", \"documents\": 2}"),
+                BsonDocument.parse(slow.getCommand()));
+        assertEquals(1, meterRegistry.counter("order.mongo.slow-commands").count());
+        verifyNoInteractions(explainer);
+    }
+
+    @Test
+    void commandStarted_ShouldNotReadInsertedDocuments() {
+        // Given
+        BsonDocument order = spy(BsonDocument.parse("{\"orderId\": 1}"));
+        BsonDocument insert = spy(new BsonDocument("insert", new BsonString("order")).append("documents", new BsonArray(List.of(order))));
+
+        // When
+        listener.commandStarted(new CommandStartedEvent(null, 1, ++requestId, CONNECTION, "orderdb", "insert", insert));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "orderdb", "insert",
+                new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(200)));
+
+        // Then
+        verify(insert, never()).entrySet();
+        verifyNoInteractions(order);
+        assertEquals(1, slowCommandLog.entries().get(0).getStatements());
+    }
+
+    @Test
+    void commandSucceeded_ShouldExplainQueryWithRedactedUpdate_WhenFindAndModifyIsSlow() {
+        // Given
+        String findAndModify = """
+                {"findAndModify": "sequence", "query": {"_id": "sequence"}, "update": {"$inc": {"sequence": 1}},
+                 "new": true, "upsert": true, "$db": "orderdb"}""";
+
+        // When
+        run("findAndModify", findAndModify, 120);
+
+        // Then
+        ArgumentCaptor<BsonDocument> command = ArgumentCaptor.forClass(BsonDocument.class);
+        verify(explainer).explainLater(eq("orderdb"), command.capture(), same(slowCommandLog.entries().get(0)));
+        assertEquals(BsonDocument.parse("{\"_id\": \"sequence\"}"), command.getValue().getDocument("query"));
+        assertEquals(new BsonDocument(), command.getValue().getDocument("update"));
+        assertFalse(command.getValue().containsKey("$db"));
+    }
+
+    @Test
+    void commandFailed_ShouldRecordOutcomeAndKeepOnlyNewest_WhenLogIsFull() {
+        // Given
+        String update = """
+                {"update": "order", "updates": [{"q": {"orderId": 1}, "u": {"userDTO": {"userPassword": "x"}}},
+                 {"q": {"orderId": 2}, "u": {}}]}""";
+
+        // When
+        run("update", update, 300);
+        run("update", update, 400);
+        listener.commandStarted(new CommandStartedEvent(null, 1, ++requestId, CONNECTION, "orderdb", "update", BsonDocument.parse(update)));
+        listener.commandFailed(new CommandFailedEvent(null, 1, requestId, CONNECTION, "orderdb", "update",
+                TimeUnit.MILLISECONDS.toNanos(500), new IllegalStateException("boom")));
+
+        // Then
+        List<SlowCommand> entries = slowCommandLog.entries();
+        assertEquals(List.of(500.0, 400.0), entries.stream().map(SlowCommand::getMillis).toList());
+        assertEquals("IllegalStateException", entries.get(0).getOutcome());
+        assertEquals(2, entries.get(0).getStatements());
+        assertFalse(entries.get(0).getCommand().contains("userPassword"));
+        assertTrue(entries.get(0).getCommand().contains("\"orderId\": 1"));
+    }
+
+    @Test
+    void connectionCheckedOut_ShouldRecordWaitPerServer_WhenConnectionHandedOut() {
+        // Given
+        ConnectionPoolWaitListener poolListener = new ConnectionPoolWaitListener(meterRegistry);
+
+        // When
+        poolListener.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(SERVER), 1, TimeUnit.MILLISECONDS.toNanos(7)));
+
+        // Then
+        Timer wait = meterRegistry.get("order.mongo.pool.wait").tag("server.address", "mongo:27017").tag("outcome", "success").timer();
+        assertEquals(1, wait.count());
+        assertEquals(7.0, wait.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    private void run(String commandName, String json, long millis) {
+        int id = ++requestId;
+        listener.commandStarted(new CommandStartedEvent(null, 1, id, CONNECTION, "orderdb", commandName, BsonDocument.parse(json)));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, id, CONNECTION, "orderdb", commandName,
+                new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+}
@@ -0,0 +1,226 @@
+package com.codedecode.order.ordercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapOrderStoreTest {
+
+    @Test
+    void get_ShouldReturnEqualOrder_WhenStored() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 100, 4096);
+        Order order = new Order(42, Arrays.asList(
+                new FoodItemsDTO(1, "Masala Dosa", "Crisp, with chutney", true, 120, 3, 2),
+                null,
+                new FoodItemsDTO(-5, null, "", false, 99.5, null, null),
+                new FoodItemsDTO(7, "Thali", null, true, 10_000_000_000L, 3, 1),
+                new FoodItemsDTO(8, "Lassi", null, true, new BigDecimal("45.25"), 3, 1)),
+                new Restaurant(3, "Dosa Point", "MG Road", "Pune", null),
+                new UserDTO(7, "ana", "secret", "1 Main St", "Pune"));
+
+        // When
+        assertTrue(store.put(order));
+        CachedOrder cached = store.get(42);
+
+        // Then
+        assertEquals(order, cached.toOrder());
+        assertEquals(5, cached.itemCount());
+        assertEquals("Dosa Point", cached.restaurant().getName());
+        assertEquals(7, cached.user().getUserId());
+        assertNull(store.get(43));
+        assertTrue(store.contains(42));
+    }
+
+    @Test
+    void get_ShouldKeepNullParts() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 100, 4096);
+        Order order = new Order(1, null, null, null);
+
+        // When
+        store.put(order);
+        CachedOrder cached = store.get(1);
+
+        // Then
+        assertEquals(order, cached.toOrder());
+        assertEquals(0, cached.itemCount());
+    }
+
+    @Test
+    void put_ShouldReplaceEarlierCopy_WhenSameOrderIdStoredAgain() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 100, 4096);
+        store.put(order(1, 1));
+
+        // When
+        store.put(order(1, 3));
+
+        // Then
+        assertEquals(3, store.get(1).itemCount());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void put_ShouldRefuse_WhenOrderTooLargeOrWithoutId() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 100, 256);
+
+        // When / Then
+        assertFalse(store.put(order(1, 50)));
+        assertFalse(store.put(new Order(null, List.of(), null, null)));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void put_ShouldStoreOrder_WhenEncodingOutgrowsFirstBuffer() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 100, 16 * 1024);
+        Order order = order(1, 100);
+
+        // When
+        assertTrue(store.put(order));
+
+        // Then
+        assertEquals(order, store.get(1).toOrder());
+    }
+
+    @Test
+    void put_ShouldEvictOldestUnreferenced_WhenEntryLimitReached() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 3, 4096);
+        store.put(order(1, 1));
+        store.put(order(2, 1));
+        store.put(order(3, 1));
+        store.get(1);
+
+        // When
+        store.put(order(4, 1));
+
+        // Then
+        assertTrue(store.contains(1), "referenced order got a second chance");
+        assertFalse(store.contains(2));
+        assertTrue(store.contains(3));
+        assertTrue(store.contains(4));
+        assertEquals(1, store.evictions());
+        assertEquals(1, store.secondChances());
+    }
+
+    @Test
+    void put_ShouldEvictEverything_WhenAllReferencedAndFull() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(64 * 1024, 64 * 1024, 2, 4096);
+        store.put(order(1, 1));
+        store.put(order(2, 1));
+        store.get(1);
+        store.get(2);
+
+        // When
+        store.put(order(3, 1));
+
+        // Then
+        assertEquals(2, store.size());
+        assertTrue(store.contains(3));
+        assertFalse(store.contains(1), "the lap clears both bits, then the oldest goes");
+        assertTrue(store.contains(2));
+    }
+
+    @Test
+    void put_ShouldStayWithinDataArea_WhenLogWrapsAcrossChunks() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(4 * 1024, 1024, 10_000, 512);
+        Map<Integer, Order> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        // When
+        for (int id = 0; id < 2_000; id++) {
+            Order order = order(id, 1 + random.nextInt(6));
+            store.put(order);
+            expected.put(id, order);
+            if (random.nextInt(4) == 0) {
+                store.get(id - random.nextInt(10));
+            }
+        }
+
+        // Then
+        assertTrue(store.usedBytes() <= store.dataBytes());
+        assertTrue(store.size() > 10, "size " + store.size());
+        assertTrue(store.evictions() > 0);
+        int found = 0;
+        for (int id = 0; id < 2_000; id++) {
+            CachedOrder cached = store.get(id);
+            if (cached != null) {
+                assertEquals(expected.get(id), cached.toOrder());
+                found++;
+            }
+        }
+        assertEquals(store.size(), found);
+        assertEquals(expected.get(1_999), store.get(1_999).toOrder());
+    }
+
+    @Test
+    void contains_ShouldMatchReference_WhenIndexChurnsWithCollisions() {
+        // Given
+        OffHeapOrderStore store = new OffHeapOrderStore(1024 * 1024, 1024 * 1024, 64, 256);
+        Random random = new Random(11);
+        List<Integer> live = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            int id = random.nextInt(200) * 1024;
+            store.put(new Order(id, List.of(), null, null));
+            live.remove(Integer.valueOf(id));
+            live.add(id);
+            if (live.size() > 64) {
+                live.remove(0);
+            }
+        }
+
+        // Then
+        assertEquals(64, store.size());
+        for (int id : live) {
+            assertTrue(store.contains(id), "missing " + id);
+        }
+    }
+
+    private static Order order(int orderId, int items) {
+        List<FoodItemsDTO> list = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            list.add(new FoodItemsDTO(i, "Item " + i, "Description of item " + i, i % 2 == 0, 100 + i, 9, 1 + i));
+        }
+        return new Order(orderId, list, new Restaurant(9, "Restaurant 9", "Street 9", "Pune", null),
+                new UserDTO(orderId % 100, "user", null, "Address", "Pune"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.codedecode.order.payload;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import com.codedecode.order.service.OrderLifecycleService;
+import com.codedecode.order.service.SequenceGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Order bodies go through {@link OrderPayloadConverter} in the real web stack and are refused before any work is done.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "order.payload.max-bytes=4KB",
+        "order.payload.max-items=2"})
+@ActiveProfiles("test")
+class OrderPayloadLimitTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private OrderCodecRepository orderCodecRepository;
+
+    @MockitoBean
+    private SequenceGenerator sequenceGenerator;
+
+    @MockitoBean
+    private OrderLifecycleService orderLifecycleService;
+
+    @MockitoBean
+    private UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @Test
+    void saveOrder_ShouldReturn413_WhenOrderHasTooManyItems() throws Exception {
+        // When
+        HttpResponse<String> response = post(HttpRequest.BodyPublishers.ofString("""
+                {"userId": 7, "foodItemsList": [{"id": 1}, {"id": 2}, {"id": 3}]}"""));
+
+        // Then
+        assertEquals(413, response.statusCode());
+        assertTrue(response.body().contains("more than 2 items"), response.body());
+        verifyNoInteractions(sequenceGenerator);
+    }
+
+    @Test
+    void saveOrder_ShouldReturn413_WhenChunkedBodyExceedsLimit() throws Exception {
+        // Given
+        byte[] body = ("{\"userId\": 7, \"note\": \"" + "x".repeat(8 * 1024) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        HttpResponse<String> response = post(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body)));
+
+        // Then
+        assertEquals(413, response.statusCode());
+        verifyNoInteractions(sequenceGenerator);
+    }
+
+    @Test
+    void saveOrder_ShouldReturn400_WhenItemQuantityInvalid() throws Exception {
+        // When
+        HttpResponse<String> response = post(HttpRequest.BodyPublishers.ofString("""
+                {"userId": 7, "foodItemsList": [{"id": 1, "quantity": -2}]}"""));
+
+        // Then
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("Item 0 quantity"), response.body());
+    }
+
+    private HttpResponse<String> post(HttpRequest.BodyPublisher body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/order/saveOrder"))
+                .header("Content-Type", "application/json")
+                .POST(body)
+                .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,154 @@
+package com.codedecode.order.payload;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingOrderReaderTest {
+
+    private final StreamingOrderReader reader = new StreamingOrderReader(64 * 1024, 100, 50, 32);
+
+    @Test
+    void read_ShouldNormalizeItemsAndComputeTotals() throws IOException {
+        // Given
+        String json = """
+                {"userId": 7, "ignored": {"nested": [1, 2]},
+                 "foodItemsList": [
+                   {"id": 1, "itemName": "  Pizza ", "itemDescription": " ", "veg": true, "price": 299, "quantity": 2},
+                   {"id": 2, "itemName": "Coke", "price": 1.5, "restaurantId": 9}],
+                 "restaurant": {"id": 101, "name": "Test Restaurant", "city": "Pune"}}""";
+
+        // When
+        ParsedOrder parsed = reader.read(stream(json), json.length());
+
+        // Then
+        FoodItemsDTO pizza = parsed.order().getFoodItemsList().get(0);
+        FoodItemsDTO coke = parsed.order().getFoodItemsList().get(1);
+        assertEquals(new FoodItemsDTO(1, "Pizza", null, true, 299, 101, 2), pizza);
+        assertEquals(new FoodItemsDTO(2, "Coke", null, false, 1.5, 9, 1), coke);
+        assertEquals(7, parsed.order().getUserId());
+        assertEquals("Test Restaurant", parsed.order().getRestaurant().getName());
+        assertEquals(2, parsed.itemCount());
+        assertEquals(3, parsed.totalQuantity());
+        assertEquals(0, new BigDecimal("599.5").compareTo(parsed.totalAmount()));
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length, parsed.bytesRead());
+    }
+
+    @Test
+    void read_ShouldRejectUnread_WhenDeclaredLengthExceedsLimit() {
+        // Given
+        CountingStream body = new CountingStream(stream("{}"));
+
+        // When / Then
+        assertThrows(OrderPayloadTooLargeException.class, () -> reader.read(body, 64 * 1024 + 1));
+        assertEquals(0, body.bytesRead);
+    }
+
+    @Test
+    void read_ShouldStopAtLimit_WhenUndeclaredBodyIsTooLarge() {
+        // Given
+        StringBuilder json = new StringBuilder("{\"userId\": 1, \"padding\": \"");
+        json.append("x".repeat(200 * 1024)).append("\"}");
+        CountingStream body = new CountingStream(stream(json.toString()));
+
+        // When / Then
+        assertThrows(OrderPayloadTooLargeException.class, () -> reader.read(body, -1));
+        assertTrue(body.bytesRead <= 64 * 1024 + 1, "read " + body.bytesRead + " bytes");
+    }
+
+    @Test
+    void read_ShouldRejectBeforeReadingRest_WhenItemCountExceedsLimit() {
+        // Given
+        StringBuilder json = new StringBuilder("{\"foodItemsList\": [");
+        for (int i = 0; i < 1_000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append('}');
+        }
+        json.append("]}");
+        StreamingOrderReader largeBodies = new StreamingOrderReader(1024 * 1024, 100, 50, 32);
+        CountingStream body = new CountingStream(stream(json.toString()));
+
+        // When
+        OrderPayloadTooLargeException e = assertThrows(OrderPayloadTooLargeException.class, () -> largeBodies.read(body, -1));
+
+        // Then
+        assertEquals("Order has more than 100 items", e.getMessage());
+        assertTrue(body.bytesRead < json.length(), "read the whole body");
+    }
+
+    @Test
+    void read_ShouldRejectInvalidItems() {
+        // When / Then
+        assertInvalid("{\"foodItemsList\": [{\"id\": 1, \"quantity\": 0}]}", "Item 0 quantity must be between 1 and 50");
+        assertInvalid("{\"foodItemsList\": [{\"id\": 1, \"quantity\": 51}]}", "Item 0 quantity must be between 1 and 50");
+        assertInvalid("{\"foodItemsList\": [{\"id\": 1, \"price\": -1}]}", "Item 0 price must not be negative");
+        assertInvalid("{\"foodItemsList\": [{\"id\": 1, \"itemName\": \"" + "x".repeat(33) + "\"}]}",
+                "item 0 itemName is longer than 32 characters");
+        assertInvalid("{\"foodItemsList\": {}}", "foodItemsList must be an array");
+        assertInvalid("[]", "Order payload must be a JSON object");
+        assertThrows(InvalidOrderPayloadException.class, () -> reader.read(stream("{\"userId\": "), -1));
+    }
+
+    private void assertInvalid(String json, String message) {
+        InvalidOrderPayloadException e = assertThrows(InvalidOrderPayloadException.class, () -> reader.read(stream(json), -1));
+        assertEquals(message, e.getMessage());
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class CountingStream extends InputStream {
+
+        private final InputStream in;
+        long bytesRead;
+
+        CountingStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                bytesRead += n;
+            }
+            return n;
+        }
+    }
+}
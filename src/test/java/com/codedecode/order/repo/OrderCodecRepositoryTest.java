@@ -0,0 +1,72 @@
+package com.codedecode.order.repo;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.resilience.Deadline;
+import com.mongodb.client.MongoCollection;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OrderCodecRepositoryTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void withinDeadline_ShouldSetOperationTimeoutToRemainingBudget_WhenRequestHasDeadline() {
+        // Given
+        MongoCollection<Order> collection = mock(MongoCollection.class);
+        MongoCollection<Order> bounded = mock(MongoCollection.class);
+        when(collection.withTimeout(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(bounded);
+
+        // When
+        MongoCollection<Order> result;
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(Duration.ofMillis(800)))) {
+            result = OrderCodecRepository.withinDeadline(collection);
+        }
+
+        // Then
+        assertSame(bounded, result);
+        var timeout = forClass(Long.class);
+        verify(collection).withTimeout(timeout.capture(), eq(TimeUnit.MILLISECONDS));
+        assertTrue(timeout.getValue() > 0 && timeout.getValue() <= 800);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void withinDeadline_ShouldLeaveCollectionUnbounded_WhenNoDeadline() {
+        // Given
+        MongoCollection<Order> collection = mock(MongoCollection.class);
+
+        // When
+        MongoCollection<Order> result = OrderCodecRepository.withinDeadline(collection);
+
+        // Then
+        assertSame(collection, result);
+        verifyNoInteractions(collection);
+    }
+}
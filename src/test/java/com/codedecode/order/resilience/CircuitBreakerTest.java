@@ -0,0 +1,142 @@
+package com.codedecode.order.resilience;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private long now;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker(50, 10, 4, OPEN_NANOS, 2, () -> now);
+    }
+
+    @Test
+    void onFailure_ShouldOpen_WhenFailureRateReachesThresholdAfterMinimumCalls() {
+        // Given
+        record(true, false, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // When
+        record(true);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void onFailure_ShouldStayClosed_WhenOldFailuresSlideOutOfWindow() {
+        // Given
+        record(true, true, false, false, false, false, false, false, false, false);
+
+        // When
+        record(false, false, true);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void tryAcquirePermission_ShouldLimitTrialCalls_WhenHalfOpen() {
+        // Given
+        record(true, true, true, true);
+        now += OPEN_NANOS;
+
+        // When
+        boolean first = breaker.tryAcquirePermission();
+        boolean second = breaker.tryAcquirePermission();
+        boolean third = breaker.tryAcquirePermission();
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void onSuccess_ShouldClose_WhenAllTrialCallsSucceed() {
+        // Given
+        record(true, true, true, true);
+        now += OPEN_NANOS;
+
+        // When
+        record(false, false);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        record(true, true, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void onFailure_ShouldReopen_WhenTrialCallFails() {
+        // Given
+        record(true, true, true, true);
+        now += OPEN_NANOS;
+
+        // When
+        record(false, true);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        now += OPEN_NANOS - 1;
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void releasePermission_ShouldReturnTrialPermit_WhenCallNeverWentOut() {
+        // Given
+        record(true, true, true, true);
+        now += OPEN_NANOS;
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+
+        // When
+        breaker.releasePermission();
+
+        // Then
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failure : failures) {
+            assertTrue(breaker.tryAcquirePermission());
+            if (failure) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.codedecode.order.resilience;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundGuardTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker breaker;
+    private OutboundGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new CircuitBreaker(50, 4, 2, TimeUnit.SECONDS.toNanos(30), 1, System::nanoTime);
+        guard = new OutboundGuard("test", breaker, 1, 0, TIMEOUT_NANOS, IllegalArgumentException.class::isInstance, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.close();
+    }
+
+    @Test
+    void call_ShouldReturnFallback_WhenCallFails() {
+        // When
+        String result = guard.call(() -> {
+            throw new IllegalStateException("down");
+        }, failure -> "fallback: " + failure.getMessage());
+
+        // Then
+        assertEquals("fallback: down", result);
+        assertEquals(1.0, meterRegistry.counter("order.circuitbreaker.calls", "name", "test", "outcome", "failure").count());
+    }
+
+    @Test
+    void call_ShouldRethrowWithoutCountingFailure_WhenExceptionIsIgnored() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> guard.call(() -> {
+            throw new IllegalArgumentException("unknown user");
+        }, failure -> "fallback"));
+
+        // Then
+        assertEquals(1.0, meterRegistry.counter("order.circuitbreaker.calls", "name", "test", "outcome", "success").count());
+    }
+
+    @Test
+    void call_ShouldTimeOutAndInterruptCall_WhenSlowerThanTimeout() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        String result = guard.call(() -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, failure -> failure.getClass().getSimpleName());
+
+        // Then
+        assertEquals("OutboundTimeoutException", result);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.counter("order.circuitbreaker.calls", "name", "test", "outcome", "timeout").count());
+    }
+
+    @Test
+    void call_ShouldRejectWithoutCalling_WhenBulkheadFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> guard.call(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "held";
+        }, failure -> "fallback"));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When
+        String result = guard.call(() -> "second", failure -> failure.getMessage());
+
+        // Then
+        assertEquals("Bulkhead for test is full", result);
+        assertEquals(1.0, meterRegistry.counter("order.bulkhead.rejected", "name", "test").count());
+        release.countDown();
+        holder.join(1_000);
+    }
+
+    @Test
+    void call_ShouldShortCircuitAndReportState_WhenBreakerOpen() {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            guard.call(() -> {
+                throw new IllegalStateException("down");
+            }, failure -> "fallback");
+        }
+
+        // When
+        String result = guard.call(() -> "not called", failure -> failure.getClass().getSimpleName());
+
+        // Then
+        assertEquals("CallNotPermittedException", result);
+        assertEquals(1.0, meterRegistry.get("order.circuitbreaker.state").tag("name", "test").gauge().value());
+        assertEquals(1.0, meterRegistry.counter("order.circuitbreaker.calls", "name", "test", "outcome", "not_permitted").count());
+    }
+
+    @Test
+    void call_ShouldThrowDeadlineExceededAndKeepBreakerClosed_WhenRequestDeadlineIsShorter() {
+        // Given
+        try (Deadline.Scope ignored = Deadline.bind(Deadline.after(Duration.ofMillis(30)))) {
+            for (int i = 0; i < 3; i++) {
+
+                // When
+                assertThrows(DeadlineExceededException.class, () -> guard.call(() -> {
+                    sleepQuietly(150);
+                    return "late";
+                }, failure -> "fallback"));
+            }
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void call_ShouldSeeCallerDeadline_WhenRunningOnGuardThread() {
+        // Given
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        // When
+        Deadline seen;
+        try (Deadline.Scope ignored = Deadline.bind(deadline)) {
+            seen = guard.call(Deadline::current, failure -> null);
+        }
+
+        // Then
+        assertSame(deadline, seen);
+        assertNull(Deadline.current());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
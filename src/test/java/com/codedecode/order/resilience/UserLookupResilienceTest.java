@@ -0,0 +1,184 @@
+package com.codedecode.order.resilience;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.OrderDTO;
+import com.codedecode.order.loadtest.StubUserService;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import com.codedecode.order.service.OrderLifecycleService;
+import com.codedecode.order.service.SequenceGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Places orders through the web stack with USER-SERVICE served by {@link StubUserService} and Mongo mocked out,
+ * checking deadline propagation and the user lookup fallback.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "order.user-service-resilience.timeout=500ms",
+        "order.user-service-resilience.fallback=partial"})
+@ActiveProfiles("test")
+class UserLookupResilienceTest {
+
+    private static StubUserService stubUserService;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private OrderCodecRepository orderCodecRepository;
+
+    @MockitoBean
+    private SequenceGenerator sequenceGenerator;
+
+    @MockitoBean
+    private OrderLifecycleService orderLifecycleService;
+
+    @MockitoBean
+    private UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @DynamicPropertySource
+    static void stubUserServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances[USER-SERVICE][0].uri", () -> stubUserService().baseUrl());
+    }
+
+    @AfterEach
+    void resetStub() {
+        stubUserService().configure(0, 0, 0);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stubUserService != null) {
+            stubUserService.close();
+        }
+    }
+
+    @Test
+    void saveOrder_ShouldForwardRemainingBudgetAndBoundMongo_WhenDeadlineHeaderSent() throws Exception {
+        // Given
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(601);
+        AtomicLong mongoBudgetMillis = new AtomicLong(-1);
+        when(orderCodecRepository.insert(any())).thenAnswer(invocation -> {
+            mongoBudgetMillis.set(Deadline.current().remainingMillis());
+            return invocation.getArgument(0);
+        });
+
+        // When
+        HttpResponse<String> response = saveOrder("2000");
+
+        // Then
+        assertEquals(201, response.statusCode(), response.body());
+        long forwarded = Long.parseLong(stubUserService().lastRequestHeader("X-Request-Timeout-Ms"));
+        assertTrue(forwarded > 0 && forwarded <= 2000, () -> "forwarded " + forwarded);
+        assertTrue(mongoBudgetMillis.get() > 0 && mongoBudgetMillis.get() <= forwarded, () -> "mongo " + mongoBudgetMillis);
+    }
+
+    @Test
+    void saveOrder_ShouldUsePartialUser_WhenUserServiceFails() throws Exception {
+        // Given
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(602);
+        stubUserService().configure(0, 0, 1.0);
+
+        // When
+        HttpResponse<String> response = saveOrder(null);
+
+        // Then
+        assertEquals(201, response.statusCode(), response.body());
+        OrderDTO order = objectMapper.readValue(response.body(), OrderDTO.class);
+        assertEquals(7, order.getUserDTO().getUserId());
+        assertNull(order.getUserDTO().getUserName());
+    }
+
+    @Test
+    void saveOrder_ShouldAnswerGatewayTimeout_WhenDeadlineRunsOutDuringLookup() throws Exception {
+        // Given
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(603);
+        stubUserService().configure(300, 0, 0);
+
+        // When
+        HttpResponse<String> response = saveOrder("100");
+
+        // Then
+        assertEquals(504, response.statusCode(), response.body());
+    }
+
+    @Test
+    void saveOrder_ShouldRejectWithoutWork_WhenBudgetAlreadySpent() throws Exception {
+        // Given
+        long lookupsBefore = stubUserService().requestCount();
+
+        // When
+        HttpResponse<String> response = saveOrder("0");
+
+        // Then
+        assertEquals(504, response.statusCode());
+        assertEquals(lookupsBefore, stubUserService().requestCount());
+    }
+
+    private HttpResponse<String> saveOrder(String budgetMillis) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/order/saveOrder"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"userId": 7, "restaurant": {"id": 3, "name": "Trattoria"},
+                         "foodItemsList": [{"id": 1, "itemName": "Pizza", "price": 299, "quantity": 2}]}"""));
+        if (budgetMillis != null) {
+            request.header("X-Request-Timeout-Ms", budgetMillis);
+        }
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static synchronized StubUserService stubUserService() {
+        if (stubUserService == null) {
+            try {
+                stubUserService = new StubUserService(0, 0, 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return stubUserService;
+    }
+}
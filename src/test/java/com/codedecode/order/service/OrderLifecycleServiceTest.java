@@ -0,0 +1,188 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.LifecycleProperties;
+import com.codedecode.order.entity.OrderEvent;
+import com.codedecode.order.entity.OrderState;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.OrderStatus;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.OrderEventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderLifecycleServiceTest {
+
+    @Mock
+    private OrderEventStore orderEventStore;
+
+    @Mock
+    private OrderCodecRepository orderCodecRepository;
+
+    @InjectMocks
+    private OrderLifecycleService orderLifecycleService;
+
+    @BeforeEach
+    void setUp() {
+        LifecycleProperties properties = new LifecycleProperties();
+        properties.setSnapshotEvery(2);
+        orderLifecycleService.lifecycleProperties = properties;
+    }
+
+    @Test
+    void place_ShouldAppendFirstEvent_WhenOrderIsNew() {
+        // When
+        OrderState state = orderLifecycleService.place(7);
+
+        // Then
+        ArgumentCaptor<OrderEvent> event = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(orderEventStore).append(event.capture());
+        assertEquals(1, event.getValue().getSeq());
+        assertEquals(OrderStatus.PLACED, event.getValue().getStatus());
+        assertEquals(OrderStatus.PLACED, state.getStatus());
+        assertEquals(1, state.getVersion());
+        verify(orderEventStore).saveState(state);
+        verify(orderEventStore, never()).saveSnapshot(any());
+    }
+
+    @Test
+    void place_ShouldReturnStoredState_WhenOrderIsAlreadyPlaced() {
+        // Given
+        doThrow(new OptimisticLockingFailureException("taken")).when(orderEventStore).append(any());
+        when(orderEventStore.findSnapshot(7)).thenReturn(Optional.empty());
+        when(orderEventStore.readStream(7, 0)).thenReturn(List.of(event(7, 1, OrderStatus.PLACED)));
+
+        // When
+        OrderState state = orderLifecycleService.place(7);
+
+        // Then
+        assertEquals(OrderStatus.PLACED, state.getStatus());
+        assertEquals(1, state.getVersion());
+    }
+
+    @Test
+    void currentState_ShouldPlaceOrder_WhenOrderExistsWithoutEvents() {
+        // Given
+        when(orderEventStore.findState(8)).thenReturn(Optional.empty());
+        when(orderEventStore.findSnapshot(8)).thenReturn(Optional.empty());
+        when(orderEventStore.readStream(8, 0)).thenReturn(List.of());
+        when(orderCodecRepository.findByOrderId(8)).thenReturn(Optional.of(new Order(8, List.of(), null, null)));
+
+        // When
+        OrderState state = orderLifecycleService.currentState(8);
+
+        // Then
+        assertEquals(OrderStatus.PLACED, state.getStatus());
+        verify(orderEventStore).append(any(OrderEvent.class));
+    }
+
+    @Test
+    void transition_ShouldAppendAndSnapshot_WhenVersionReachesInterval() {
+        // Given
+        when(orderEventStore.findState(7)).thenReturn(Optional.of(state(7, OrderStatus.PLACED, 1)));
+
+        // When
+        OrderState state = orderLifecycleService.transition(7, OrderStatus.ACCEPTED);
+
+        // Then
+        assertEquals(OrderStatus.ACCEPTED, state.getStatus());
+        assertEquals(2, state.getVersion());
+        verify(orderEventStore).append(any(OrderEvent.class));
+        verify(orderEventStore).saveSnapshot(state);
+    }
+
+    @Test
+    void transition_ShouldThrow_WhenTransitionIsNotAllowed() {
+        // Given
+        when(orderEventStore.findState(7)).thenReturn(Optional.of(state(7, OrderStatus.DELIVERED, 5)));
+
+        // When & Then
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> orderLifecycleService.transition(7, OrderStatus.PREPARING));
+        verify(orderEventStore, never()).append(any());
+    }
+
+    @Test
+    void transition_ShouldRebuildProjection_WhenAppendLosesRace() {
+        // Given
+        when(orderEventStore.findState(7)).thenReturn(Optional.of(state(7, OrderStatus.PLACED, 1)));
+        doThrow(new OptimisticLockingFailureException("taken")).when(orderEventStore).append(any());
+        when(orderEventStore.findSnapshot(7)).thenReturn(Optional.empty());
+        when(orderEventStore.readStream(7, 0)).thenReturn(List.of(event(7, 1, OrderStatus.PLACED), event(7, 2, OrderStatus.ACCEPTED)));
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> orderLifecycleService.transition(7, OrderStatus.ACCEPTED));
+        ArgumentCaptor<OrderState> rebuilt = ArgumentCaptor.forClass(OrderState.class);
+        verify(orderEventStore).saveState(rebuilt.capture());
+        assertEquals(2, rebuilt.getValue().getVersion());
+    }
+
+    @Test
+    void rebuild_ShouldReplayOnlyEventsAfterSnapshot_WhenSnapshotExists() {
+        // Given
+        when(orderEventStore.findSnapshot(7)).thenReturn(Optional.of(state(7, OrderStatus.ACCEPTED, 2)));
+        when(orderEventStore.readStream(7, 2)).thenReturn(List.of(event(7, 3, OrderStatus.PREPARING)));
+
+        // When
+        OrderState state = orderLifecycleService.rebuild(7);
+
+        // Then
+        assertEquals(OrderStatus.PREPARING, state.getStatus());
+        assertEquals(3, state.getVersion());
+        verify(orderEventStore, never()).readStream(7, 0);
+    }
+
+    @Test
+    void currentState_ShouldThrowNotFound_WhenOrderHasNoEvents() {
+        // Given
+        when(orderEventStore.findState(9)).thenReturn(Optional.empty());
+        when(orderEventStore.findSnapshot(9)).thenReturn(Optional.empty());
+        when(orderEventStore.readStream(9, 0)).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(OrderNotFoundException.class, () -> orderLifecycleService.currentState(9));
+    }
+
+    private static OrderState state(int orderId, OrderStatus status, int version) {
+        return new OrderState(orderId, status, version, Instant.EPOCH, Instant.EPOCH);
+    }
+
+    private static OrderEvent event(int orderId, int seq, OrderStatus status) {
+        return new OrderEvent(null, orderId, seq, status, Instant.EPOCH.plusSeconds(seq));
+    }
+}
@@ -20,18 +20,25 @@ package com.codedecode.order.service;
  * #L%
  */
 
+import com.codedecode.order.archive.OrderArchive;
 import com.codedecode.order.dto.*;
 import com.codedecode.order.entity.Order;
-import com.codedecode.order.repo.OrderRepo;
+import com.codedecode.order.ordercache.CachedOrder;
+import com.codedecode.order.ordercache.RecentOrderCache;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.usercache.UserProfileCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,7 +48,7 @@ import static org.mockito.Mockito.*;
 class OrderServiceTestFixed {
 
     @Mock
-    private OrderRepo orderRepo;
+    private OrderCodecRepository orderCodecRepository;
 
     @Mock
     private SequenceGenerator sequenceGenerator;
@@ -49,6 +56,21 @@ class OrderServiceTestFixed {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private OrderLifecycleService orderLifecycleService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @Mock
+    private RecentOrderCache recentOrderCache;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -67,7 +89,7 @@ class OrderServiceTestFixed {
         Integer newOrderId = 1001;
         when(sequenceGenerator.generateNextOrderId()).thenReturn(newOrderId);
         when(restTemplate.getForObject(anyString(), eq(UserDTO.class))).thenReturn(sampleUserDTO);
-        when(orderRepo.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderCodecRepository.insert(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         OrderDTO result = orderService.saveOrderInDb(sampleOrderFromFE);
@@ -76,10 +98,117 @@ class OrderServiceTestFixed {
         assertNotNull(result);
         assertEquals(newOrderId, result.getOrderId());
         assertEquals(sampleUserDTO.getUserId(), result.getUserDTO().getUserId());
+        assertNull(result.getUserDTO().getUserPassword());
 
         verify(sequenceGenerator, times(1)).generateNextOrderId();
         verify(restTemplate, times(1)).getForObject("http://USER-SERVICE/user/fetchUserById/1", UserDTO.class);
-        verify(orderRepo, times(1)).save(any(Order.class));
+        verify(orderCodecRepository, times(1)).insert(any(Order.class));
+        verify(orderLifecycleService, times(1)).place(newOrderId);
+        verify(applicationEventPublisher, times(1)).publishEvent(any(OrderPlacedEvent.class));
+    }
+
+    @Test
+    void saveOrderInDb_ShouldSkipUserService_WhenProfileCached() {
+        // Given
+        UserDTO cachedUser = new UserDTO(1, "John Doe", null, "123 Main St", "Test City");
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(1002);
+        when(userProfileCache.get(1)).thenReturn(cachedUser);
+
+        // When
+        OrderDTO result = orderService.saveOrderInDb(sampleOrderFromFE);
+
+        // Then
+        assertEquals(cachedUser, result.getUserDTO());
+        verifyNoInteractions(restTemplate);
+        verify(userProfileCache, never()).put(any());
+    }
+
+    @Test
+    void saveOrderInDb_ShouldWriteProfileThrough_WhenFetchedFromUserService() {
+        // Given
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(1003);
+        when(restTemplate.getForObject(anyString(), eq(UserDTO.class))).thenReturn(sampleUserDTO);
+
+        // When
+        orderService.saveOrderInDb(sampleOrderFromFE);
+
+        // Then
+        verify(userProfileCache).put(new UserDTO(1, "John Doe", null, "123 Main St", "Test City"));
+    }
+
+    @Test
+    void saveOrderInDb_ShouldReturnOrder_WhenLifecycleWriteFailsAfterInsert() {
+        // Given
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(1004);
+        when(restTemplate.getForObject(anyString(), eq(UserDTO.class))).thenReturn(sampleUserDTO);
+        when(orderLifecycleService.place(1004)).thenThrow(new IllegalStateException("event store down"));
+
+        // When
+        OrderDTO result = orderService.saveOrderInDb(sampleOrderFromFE);
+
+        // Then
+        assertEquals(1004, result.getOrderId());
+        verify(orderCodecRepository).insert(any(Order.class));
+        verify(applicationEventPublisher).publishEvent(any(OrderPlacedEvent.class));
+    }
+
+    @Test
+    void findOrders_ShouldFallBackToArchiveAndSkipUnknownIds() {
+        // Given
+        Order hot = new Order(1, List.of(), null, sampleUserDTO);
+        Order archived = new Order(2, List.of(), null, sampleUserDTO);
+        when(orderCodecRepository.findByOrderIds(List.of(2, 1, 3))).thenReturn(List.of(hot));
+        when(orderArchive.find(2)).thenReturn(Optional.of(archived));
+
+        // When
+        List<OrderDTO> result = orderService.findOrders(List.of(2, 1, 3));
+
+        // Then
+        assertEquals(List.of(2, 1), result.stream().map(OrderDTO::getOrderId).toList());
+        assertTrue(result.stream().allMatch(order -> order.getUserDTO().getUserPassword() == null));
+        verify(orderArchive, never()).find(1);
+    }
+
+    @Test
+    void findOrder_ShouldSkipMongo_WhenOrderIsRecent() {
+        // Given
+        CachedOrder recent = mock(CachedOrder.class);
+        when(recent.toOrder()).thenReturn(new Order(9, List.of(), null, sampleUserDTO));
+        when(recentOrderCache.get(9)).thenReturn(recent);
+
+        // When
+        OrderDTO result = orderService.findOrder(9);
+
+        // Then
+        assertEquals(9, result.getOrderId());
+        verifyNoInteractions(orderCodecRepository, orderArchive);
+    }
+
+    @Test
+    void findOrder_ShouldDropUserPassword_WhenStoredOrderHasOne() {
+        // Given
+        when(orderCodecRepository.findByOrderId(5)).thenReturn(Optional.of(new Order(5, List.of(), null, sampleUserDTO)));
+
+        // When
+        OrderDTO result = orderService.findOrder(5);
+
+        // Then
+        assertEquals(sampleUserDTO.getUserId(), result.getUserDTO().getUserId());
+        assertNull(result.getUserDTO().getUserPassword());
+    }
+
+    @Test
+    void findOrder_ShouldDropUserPassword_WhenOrderIsRecent() {
+        // Given
+        CachedOrder recent = mock(CachedOrder.class);
+        when(recent.toOrder()).thenReturn(new Order(9, List.of(), null, createSampleUserDTO()));
+        when(recentOrderCache.get(9)).thenReturn(recent);
+
+        // When
+        OrderDTO result = orderService.findOrder(9);
+
+        // Then
+        assertNull(result.getUserDTO().getUserPassword());
     }
 
     private OrderDTOFromFE createSampleOrderFromFE() {
@@ -0,0 +1,83 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.OrderSummaryProperties;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryEndpointTest {
+
+    @Mock
+    private UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @InjectMocks
+    private OrderSummaryEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        OrderSummaryProperties properties = new OrderSummaryProperties();
+        properties.setRecentOrders(5);
+        properties.setRebuildInterval(Duration.ofMinutes(10));
+        endpoint.orderSummaryProperties = properties;
+        endpoint.clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    }
+
+    @Test
+    void rebuild_ShouldRejectSecondFullRebuild_WhenWithinInterval() {
+        // When
+        WebEndpointResponse<Void> first = endpoint.rebuild(null);
+        WebEndpointResponse<Void> second = endpoint.rebuild(null);
+
+        // Then
+        assertEquals(WebEndpointResponse.STATUS_NO_CONTENT, first.getStatus());
+        assertEquals(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS, second.getStatus());
+        verify(userOrderSummaryRepository, times(1)).rebuild(null, 5);
+    }
+
+    @Test
+    void rebuild_ShouldAllowSingleUser_WhenFullRebuildRanRecently() {
+        // Given
+        endpoint.rebuild(null);
+
+        // When
+        WebEndpointResponse<Void> response = endpoint.rebuild(42);
+
+        // Then
+        assertEquals(WebEndpointResponse.STATUS_NO_CONTENT, response.getStatus());
+        verify(userOrderSummaryRepository).rebuild(42, 5);
+    }
+}
@@ -0,0 +1,140 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.OrderSummaryProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.OrderSummaryEntry;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryProjectorTest {
+
+    @Mock
+    private UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @InjectMocks
+    private OrderSummaryProjector projector;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        OrderSummaryProperties properties = new OrderSummaryProperties();
+        properties.setRecentOrders(5);
+        meterRegistry = new SimpleMeterRegistry();
+        projector.orderSummaryProperties = properties;
+        projector.meterRegistry = meterRegistry;
+        projector.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        projector.stop();
+    }
+
+    @Test
+    void of_ShouldSumQuantitiesAndTotal_WhenOrderHasItems() {
+        // Given
+        Order order = order(1, 10, new FoodItemsDTO(1, "Pizza", "", true, 250, 7, 2),
+                new FoodItemsDTO(2, "Soda", "", true, 40.5, 7, null));
+
+        // When
+        OrderSummaryEntry entry = OrderSummaryEntry.of(order);
+
+        // Then
+        assertEquals(3, entry.getItemCount());
+        assertEquals(540.5, entry.getTotal(), 1e-9);
+        assertEquals("Resto", entry.getRestaurantName());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_ShouldGroupEntriesByUser_WhenBatchHasSeveralUsers() {
+        // Given
+        List<OrderSummaryProjector.Pending> batch = List.of(
+                pending(1, 10), pending(2, 20), pending(1, 11));
+
+        // When
+        projector.apply(batch);
+
+        // Then
+        ArgumentCaptor<Map<Integer, List<OrderSummaryEntry>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(userOrderSummaryRepository).appendRecent(captor.capture(), eq(5));
+        assertEquals(2, captor.getValue().get(1).size());
+        assertEquals(1, captor.getValue().get(2).size());
+    }
+
+    @Test
+    void apply_ShouldCountFailure_WhenRepositoryThrows() {
+        // Given
+        doThrow(new IllegalStateException("down")).when(userOrderSummaryRepository).appendRecent(anyMap(), anyInt());
+
+        // When
+        projector.apply(List.of(pending(1, 10), pending(2, 20)));
+
+        // Then
+        assertEquals(2.0, meterRegistry.counter("order.summary.failed").count());
+    }
+
+    @Test
+    void onOrderPlaced_ShouldReachRepository_WhenWorkerIsRunning() {
+        // When
+        projector.onOrderPlaced(new OrderPlacedEvent(order(3, 30, new FoodItemsDTO(1, "Pizza", "", true, 100, 7, 1))));
+
+        // Then
+        verify(userOrderSummaryRepository, timeout(2000)).appendRecent(anyMap(), eq(5));
+    }
+
+    private static OrderSummaryProjector.Pending pending(int userId, int orderId) {
+        return new OrderSummaryProjector.Pending(userId, new OrderSummaryEntry(orderId, "Resto", 1, 10));
+    }
+
+    private static Order order(int userId, int orderId, FoodItemsDTO... items) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(7);
+        restaurant.setName("Resto");
+        UserDTO user = new UserDTO();
+        user.setUserId(userId);
+        return new Order(orderId, List.of(items), restaurant, user);
+    }
+}
@@ -0,0 +1,136 @@
+package com.codedecode.order.service;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.WarmupProperties;
+import com.codedecode.order.jfr.OrderPlacementEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private ObjectProvider<ApplicationInfoManager> applicationInfoManagerProvider;
+
+    @Mock
+    private ApplicationInfoManager applicationInfoManager;
+
+    private WarmupRunner warmupRunner;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmupRunner = new WarmupRunner();
+        warmupRunner.warmupProperties = new WarmupProperties();
+        warmupRunner.objectMapper = new ObjectMapper();
+        warmupRunner.meterRegistry = meterRegistry;
+        warmupRunner.applicationInfoManager = applicationInfoManagerProvider;
+    }
+
+    @Test
+    void run_ShouldStopAtMaxIterationsAndMarkInstanceUp() {
+        // Given
+        warmupRunner.warmupProperties.setMaxIterations(300);
+        warmupRunner.warmupProperties.setBatchSize(100);
+        when(applicationInfoManagerProvider.getIfAvailable()).thenReturn(applicationInfoManager);
+
+        // When
+        warmupRunner.run(null);
+
+        // Then
+        assertEquals(300, warmupRunner.getIterations());
+        assertEquals(300, meterRegistry.get("order.warmup.iterations").gauge().value());
+        assertEquals(1, meterRegistry.get("order.warmup.complete").gauge().value());
+        assertEquals(300, meterRegistry.get("order.warmup.iteration").timer().count());
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+    }
+
+    @Test
+    void run_ShouldStopEarly_WhenLatencyTargetReachedAfterMinIterations() {
+        // Given
+        warmupRunner.warmupProperties.setMaxIterations(100_000);
+        warmupRunner.warmupProperties.setMinIterations(200);
+        warmupRunner.warmupProperties.setBatchSize(100);
+        warmupRunner.warmupProperties.setTargetP99Latency(Duration.ofSeconds(1));
+
+        // When
+        warmupRunner.run(null);
+
+        // Then
+        assertEquals(200, warmupRunner.getIterations());
+    }
+
+    @Test
+    void warmUp_ShouldNotRecordPlacementEvents(@TempDir Path directory) throws Exception {
+        // Given
+        warmupRunner.warmupProperties.setMaxIterations(50);
+        warmupRunner.warmupProperties.setBatchSize(50);
+        Path dump = directory.resolve("warmup.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(OrderPlacementEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            warmupRunner.warmUp();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // Then
+        assertEquals(50, warmupRunner.getIterations());
+        assertTrue(RecordingFile.readAllEvents(dump).stream()
+                .noneMatch(event -> event.getEventType().getName().equals(OrderPlacementEvent.NAME)));
+    }
+
+    @Test
+    void run_ShouldOnlyMarkInstanceUp_WhenWarmupDisabled() {
+        // Given
+        warmupRunner.warmupProperties.setEnabled(false);
+        when(applicationInfoManagerProvider.getIfAvailable()).thenReturn(applicationInfoManager);
+
+        // When
+        warmupRunner.run(null);
+
+        // Then
+        assertEquals(0, warmupRunner.getIterations());
+        assertEquals(1, meterRegistry.get("order.warmup.complete").gauge().value());
+        verify(applicationInfoManager).setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+    }
+}
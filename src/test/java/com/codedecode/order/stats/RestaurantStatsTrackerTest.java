@@ -0,0 +1,168 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.RestaurantStatsProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.RestaurantStatsDTO;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.RestaurantSketch;
+import com.codedecode.order.repo.RestaurantSketchRepository;
+import com.codedecode.order.service.OrderPlacedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantStatsTrackerTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T12:30:00Z");
+
+    @Mock
+    private RestaurantSketchRepository restaurantSketchRepository;
+
+    @InjectMocks
+    private RestaurantStatsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        RestaurantStatsProperties properties = new RestaurantStatsProperties();
+        properties.setInstanceId("a");
+        tracker.restaurantStatsProperties = properties;
+        tracker.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    }
+
+    @Test
+    void stats_ShouldCountCustomersAndPercentiles_WhenOrdersArePlaced() {
+        // Given
+        for (int i = 1; i <= 100; i++) {
+            tracker.onOrderPlaced(order(i % 10, i));
+        }
+
+        // When
+        RestaurantStatsDTO stats = tracker.stats(7, Duration.ofHours(1));
+
+        // Then
+        assertEquals(100, stats.getOrderCount());
+        assertEquals(10, stats.getDistinctCustomers());
+        assertEquals(50, stats.getOrderValueP50(), 0.5);
+        assertEquals(99, stats.getOrderValueP99(), 1);
+        assertEquals(3600, stats.getWindowSeconds());
+    }
+
+    @Test
+    void stats_ShouldExcludeOldBuckets_WhenWindowIsShorter() {
+        // Given
+        tracker.clock = Clock.fixed(NOW.minus(Duration.ofHours(2)), ZoneOffset.UTC);
+        tracker.onOrderPlaced(order(1, 10));
+        tracker.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        tracker.onOrderPlaced(order(2, 20));
+
+        // When & Then
+        assertEquals(1, tracker.stats(7, Duration.ofHours(1)).getOrderCount());
+        assertEquals(2, tracker.stats(7, Duration.ofHours(3)).getOrderCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshPeers_ShouldMergeOtherInstances_WhenTheirSketchesArePersisted() {
+        // Given
+        tracker.onOrderPlaced(order(1, 10));
+        tracker.persist();
+        ArgumentCaptor<List<RestaurantSketch>> saved = ArgumentCaptor.forClass(List.class);
+        verify(restaurantSketchRepository).saveAll(saved.capture());
+        RestaurantSketch peer = saved.getValue().get(0);
+        peer.setInstanceId("b");
+        when(restaurantSketchRepository.findOthers(eq("a"), anyLong())).thenReturn(List.of(peer));
+        tracker.onOrderPlaced(order(2, 30));
+
+        // When
+        tracker.refreshPeers();
+        RestaurantStatsDTO stats = tracker.stats(7, Duration.ofHours(1));
+
+        // Then
+        assertEquals(3, stats.getOrderCount());
+        assertEquals(2, stats.getDistinctCustomers());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void persist_ShouldRetryBuckets_WhenSaveFails() {
+        // Given
+        tracker.onOrderPlaced(order(1, 10));
+        doThrow(new IllegalStateException("down")).doNothing().when(restaurantSketchRepository).saveAll(anyList());
+        tracker.persist();
+
+        // When
+        tracker.persist();
+
+        // Then
+        ArgumentCaptor<List<RestaurantSketch>> saved = ArgumentCaptor.forClass(List.class);
+        verify(restaurantSketchRepository, times(2)).saveAll(saved.capture());
+        assertEquals(1, saved.getAllValues().get(1).size());
+    }
+
+    @Test
+    void onOrderPlaced_ShouldEvictIdleRestaurant_WhenTrackerIsFull() {
+        // Given
+        tracker.restaurantStatsProperties.setMaxRestaurants(1);
+        tracker.onOrderPlaced(order(7, 1, 10));
+        tracker.onOrderPlaced(order(8, 1, 10));
+        assertEquals(0, tracker.stats(8, Duration.ofHours(1)).getOrderCount());
+        tracker.clock = Clock.fixed(NOW.plus(Duration.ofHours(24)), ZoneOffset.UTC);
+
+        // When
+        tracker.onOrderPlaced(order(8, 1, 10));
+
+        // Then
+        assertEquals(1, tracker.stats(8, Duration.ofHours(1)).getOrderCount());
+    }
+
+    private static OrderPlacedEvent order(int userId, int price) {
+        return order(7, userId, price);
+    }
+
+    private static OrderPlacedEvent order(int restaurantId, int userId, int price) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(restaurantId);
+        UserDTO user = new UserDTO();
+        user.setUserId(userId);
+        return new OrderPlacedEvent(new Order(1, List.of(new FoodItemsDTO(1, "Pizza", "", true, price, restaurantId, 1)), restaurant, user));
+    }
+}
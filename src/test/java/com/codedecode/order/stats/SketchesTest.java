@@ -0,0 +1,105 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SketchesTest {
+
+    @Test
+    void estimate_ShouldBeWithinFivePercent_WhenCountingManyDistinctValues() {
+        // Given
+        HyperLogLog hll = new HyperLogLog();
+        for (long i = 0; i < 100_000; i++) {
+            hll.add(i);
+            hll.add(i);
+        }
+
+        // When
+        long estimate = hll.estimate();
+
+        // Then
+        assertEquals(100_000, estimate, 5_000);
+    }
+
+    @Test
+    void merge_ShouldEqualUnion_WhenSetsOverlap() {
+        // Given
+        HyperLogLog a = new HyperLogLog();
+        HyperLogLog b = new HyperLogLog();
+        for (long i = 0; i < 600; i++) {
+            a.add(i);
+            b.add(i + 300);
+        }
+
+        // When
+        a.merge(b);
+        a.merge(HyperLogLog.fromBytes(b.toBytes()));
+
+        // Then
+        assertEquals(900, a.estimate(), 45);
+    }
+
+    @Test
+    void quantile_ShouldBeWithinRelativeAccuracy_WhenValuesAreSkewed() {
+        // Given
+        Random random = new Random(7);
+        double[] values = new double[50_000];
+        DDSketch sketch = new DDSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(5 + random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // When & Then
+        for (double q : new double[]{0.5, 0.95, 0.99}) {
+            double exact = values[(int) (q * (values.length - 1))];
+            assertEquals(exact, sketch.quantile(q), exact * 0.011, "q=" + q);
+        }
+    }
+
+    @Test
+    void merge_ShouldMatchSingleSketch_WhenRoundTrippedThroughBytes() {
+        // Given
+        DDSketch all = new DDSketch();
+        DDSketch low = new DDSketch();
+        DDSketch high = new DDSketch();
+        for (int i = 1; i <= 1_000; i++) {
+            all.add(i);
+            (i <= 500 ? low : high).add(i);
+        }
+
+        // When
+        DDSketch merged = DDSketch.fromBytes(low.toBytes());
+        merged.merge(DDSketch.fromBytes(high.toBytes()));
+
+        // Then
+        assertEquals(all.count(), merged.count());
+        assertEquals(all.quantile(0.95), merged.quantile(0.95));
+        assertTrue(Double.isNaN(new DDSketch().quantile(0.5)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.TopItem;
+import com.codedecode.order.entity.RestaurantTopItems;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingTopKTest {
+
+    private static final long WINDOW = 60_000;
+
+    @Test
+    void top_ShouldKeepHeavyHitters_WhenManyDistinctItemsExceedCapacity() {
+        // Given
+        SlidingTopK sketch = new SlidingTopK(16, WINDOW, 6);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int itemId = i % 4 == 0 ? 1 : i % 10 == 1 ? 2 : 100 + random.nextInt(5_000);
+            sketch.offer(1_000, itemId, "item-" + itemId, 1);
+        }
+
+        // When
+        List<TopItem> top = sketch.top(1_000, 2);
+
+        // Then
+        assertEquals(1, top.get(0).getItemId());
+        assertEquals(2, top.get(1).getItemId());
+        assertTrue(top.get(0).getCount() >= 5_000);
+        assertTrue(top.get(0).getCount() - top.get(0).getError() <= 5_000);
+    }
+
+    @Test
+    void top_ShouldWeighByQuantity_WhenWeightsDiffer() {
+        // Given
+        SlidingTopK sketch = new SlidingTopK(8, WINDOW, 6);
+        sketch.offer(1_000, 1, "Soda", 1);
+        sketch.offer(1_000, 1, "Soda", 1);
+        sketch.offer(1_000, 2, "Pizza", 5);
+
+        // When
+        List<TopItem> top = sketch.top(1_000, 10);
+
+        // Then
+        assertEquals(new TopItem(2, "Pizza", 5, 0), top.get(0));
+        assertEquals(new TopItem(1, "Soda", 2, 0), top.get(1));
+    }
+
+    @Test
+    void top_ShouldForgetBuckets_WhenTheyLeaveTheWindow() {
+        // Given
+        SlidingTopK sketch = new SlidingTopK(8, WINDOW, 6);
+        sketch.offer(0, 1, "Old", 10);
+        sketch.offer(55_000, 2, "New", 1);
+
+        // When
+        List<TopItem> top = sketch.top(WINDOW + 5_000, 10);
+
+        // Then
+        assertEquals(1, top.size());
+        assertEquals(2, top.get(0).getItemId());
+    }
+
+    @Test
+    void restore_ShouldMergeSnapshot_WhenBucketsAreStillInWindow() {
+        // Given
+        SlidingTopK before = new SlidingTopK(8, WINDOW, 6);
+        before.offer(20_000, 1, "Pizza", 3);
+        RestaurantTopItems saved = before.snapshot(7, 20_000);
+        SlidingTopK after = new SlidingTopK(8, WINDOW, 6);
+        after.offer(30_000, 1, "Pizza", 2);
+
+        // When
+        after.restore(saved, 30_000);
+
+        // Then
+        assertEquals(5, after.top(30_000, 1).get(0).getCount());
+    }
+}
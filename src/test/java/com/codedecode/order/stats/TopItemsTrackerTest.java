@@ -0,0 +1,136 @@
+package com.codedecode.order.stats;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.config.TopItemsProperties;
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.TopItem;
+import com.codedecode.order.entity.Order;
+import com.codedecode.order.entity.RestaurantTopItems;
+import com.codedecode.order.repo.RestaurantTopItemsRepo;
+import com.codedecode.order.service.OrderPlacedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopItemsTrackerTest {
+
+    @Mock
+    private RestaurantTopItemsRepo restaurantTopItemsRepo;
+
+    @InjectMocks
+    private TopItemsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker.topItemsProperties = new TopItemsProperties();
+        tracker.clock = Clock.fixed(Instant.parse("2024-05-01T12:00:00Z"), ZoneOffset.UTC);
+    }
+
+    @Test
+    void onOrderPlaced_ShouldCountQuantities_WhenOrderHasItems() {
+        // Given
+        tracker.onOrderPlaced(event(new FoodItemsDTO(1, "Pizza", "", true, 10, 7, 3),
+                new FoodItemsDTO(2, "Soda", "", true, 2, 7, 1)));
+        tracker.onOrderPlaced(event(new FoodItemsDTO(2, "Soda", "", true, 2, 7, 1)));
+
+        // When
+        List<TopItem> top = tracker.topItems(7, 10);
+
+        // Then
+        assertEquals(List.of(new TopItem(1, "Pizza", 3, 0), new TopItem(2, "Soda", 2, 0)), top);
+        assertEquals(List.of(), tracker.topItems(8, 10));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void persist_ShouldSaveOnlyChangedRestaurants_WhenCalledTwice() {
+        // Given
+        tracker.onOrderPlaced(event(new FoodItemsDTO(1, "Pizza", "", true, 10, 7, 3)));
+
+        // When
+        tracker.persist();
+        tracker.persist();
+
+        // Then
+        ArgumentCaptor<List<RestaurantTopItems>> saved = ArgumentCaptor.forClass(List.class);
+        verify(restaurantTopItemsRepo, times(1)).saveAll(saved.capture());
+        assertEquals(7, saved.getValue().get(0).getRestaurantId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void load_ShouldRestorePersistedCounts_WhenRestarted() {
+        // Given
+        tracker.onOrderPlaced(event(new FoodItemsDTO(1, "Pizza", "", true, 10, 7, 4)));
+        tracker.persist();
+        ArgumentCaptor<List<RestaurantTopItems>> saved = ArgumentCaptor.forClass(List.class);
+        verify(restaurantTopItemsRepo).saveAll(saved.capture());
+        TopItemsTracker restarted = new TopItemsTracker();
+        restarted.topItemsProperties = tracker.topItemsProperties;
+        restarted.clock = tracker.clock;
+        restarted.restaurantTopItemsRepo = restaurantTopItemsRepo;
+        when(restaurantTopItemsRepo.findAll()).thenReturn(saved.getValue());
+
+        // When
+        restarted.load();
+
+        // Then
+        assertEquals(4, restarted.topItems(7, 1).get(0).getCount());
+    }
+
+    @Test
+    void onOrderPlaced_ShouldEvictIdleRestaurant_WhenTrackerIsFull() {
+        // Given
+        tracker.topItemsProperties.setMaxRestaurants(1);
+        tracker.onOrderPlaced(event(new FoodItemsDTO(1, "Pizza", "", true, 10, 7, 3)));
+        tracker.onOrderPlaced(event(new FoodItemsDTO(2, "Soda", "", true, 2, 8, 1)));
+        assertEquals(List.of(), tracker.topItems(8, 10));
+        tracker.clock = Clock.offset(tracker.clock, tracker.topItemsProperties.getWindow());
+
+        // When
+        tracker.onOrderPlaced(event(new FoodItemsDTO(2, "Soda", "", true, 2, 8, 1)));
+
+        // Then
+        assertEquals(1, tracker.topItems(8, 10).size());
+        assertEquals(List.of(), tracker.topItems(7, 10));
+    }
+
+    private static OrderPlacedEvent event(FoodItemsDTO... items) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(7);
+        return new OrderPlacedEvent(new Order(1, List.of(items), restaurant, null));
+    }
+}
@@ -0,0 +1,62 @@
+package com.codedecode.order.tieredcache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.FoodItemsDTO;
+import com.codedecode.order.dto.Restaurant;
+import com.codedecode.order.dto.UserDTO;
+import com.codedecode.order.entity.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsonValueCodecTest {
+
+    @Test
+    void users_ShouldRoundTripUser() {
+        // Given
+        BsonValueCodec<UserDTO> codec = BsonValueCodec.users();
+        UserDTO user = new UserDTO(7, "ana", null, "1 Main St", "Pune");
+
+        // When
+        UserDTO decoded = codec.decode(codec.encode(user));
+
+        // Then
+        assertEquals(user, decoded);
+    }
+
+    @Test
+    void orders_ShouldRoundTripOrder() {
+        // Given
+        BsonValueCodec<Order> codec = BsonValueCodec.orders();
+        Order order = new Order(42, List.of(new FoodItemsDTO(1, "Dosa", "South Indian", true, 120, 3, 1)),
+                new Restaurant(3, "Dosa Point", "MG Road", "Pune", "South Indian"),
+                new UserDTO(7, "ana", "secret", "1 Main St", "Pune"));
+
+        // When
+        Order decoded = codec.decode(codec.encode(order));
+
+        // Then
+        assertEquals(order, decoded);
+    }
+}
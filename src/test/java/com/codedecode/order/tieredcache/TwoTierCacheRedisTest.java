@@ -0,0 +1,212 @@
+package com.codedecode.order.tieredcache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two cache "instances" with their own L1 and invalidation subscription, sharing one Redis.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TwoTierCacheRedisTest {
+
+    private static final String CHANNEL = "test:cache-invalidation";
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TwoTierCache<Integer, UserDTO> instanceA;
+    private TwoTierCache<Integer, UserDTO> instanceB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        meterRegistry = new SimpleMeterRegistry();
+        instanceA = newInstance(template);
+        instanceB = newInstance(template);
+    }
+
+    private TwoTierCache<Integer, UserDTO> newInstance(RedisTemplate<String, byte[]> template) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(CHANNEL, template);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bus, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainers.add(container);
+        return new TwoTierCache<>("users", "test:", 100, Duration.ofMinutes(1), Duration.ofMinutes(1), template,
+                BsonValueCodec.users(), bus, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : listenerContainers) {
+            container.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void get_ShouldServeFromRedis_WhenAnotherInstanceLoadedTheValue() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        instanceA.get(1, () -> {
+            loads.incrementAndGet();
+            return user(1, "Pune");
+        });
+
+        // When
+        UserDTO fromB = instanceB.get(1, () -> {
+            loads.incrementAndGet();
+            return user(1, "Pune");
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(new UserDTO(1, "user-1", null, "1 Main St", "Pune"), fromB);
+        assertEquals(1.0, requests("l2_hit"));
+    }
+
+    @Test
+    void put_ShouldEvictOtherInstancesL1_WhenValueChanges() {
+        // Given
+        instanceA.get(1, () -> user(1, "Pune"));
+        assertEquals("Pune", instanceB.get(1).getCity());
+        assertEquals(1, instanceB.localSize());
+
+        // When
+        instanceA.put(1, user(1, "Mumbai"));
+
+        // Then
+        awaitTrue(() -> instanceB.localSize() == 0);
+        assertEquals("Mumbai", instanceB.get(1).getCity());
+    }
+
+    @Test
+    void fill_ShouldNotEvictOtherInstancesL1() {
+        // Given
+        instanceA.get(1, () -> user(1, "Pune"));
+        instanceA.get(2, () -> user(2, "Pune"));
+        instanceB.get(1);
+        instanceB.get(2);
+
+        // When
+        instanceA.fill(1, user(1, "Mumbai"));
+        instanceA.put(2, user(2, "Delhi"));
+
+        // Then
+        awaitTrue(() -> instanceB.localSize() == 1);
+        assertEquals("Pune", instanceB.get(1).getCity());
+        assertEquals("Mumbai", instanceA.get(1).getCity());
+    }
+
+    @Test
+    void invalidate_ShouldRemoveValueFromBothTiersEverywhere() {
+        // Given
+        instanceA.get(1, () -> user(1, "Pune"));
+        instanceB.get(1);
+
+        // When
+        instanceA.invalidate(1);
+
+        // Then
+        awaitTrue(() -> instanceB.localSize() == 0);
+        assertNull(instanceA.get(1));
+        assertNull(instanceB.get(1));
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyKeysMissingFromBothTiers() {
+        // Given
+        instanceA.get(1, () -> user(1, "Pune"));
+        instanceA.get(2, () -> user(2, "Delhi"));
+        instanceB.get(1);
+        List<Collection<Integer>> loaderCalls = new ArrayList<>();
+
+        // When
+        Map<Integer, UserDTO> users = instanceB.getAll(List.of(3, 1, 2, 4), missing -> {
+            loaderCalls.add(List.copyOf(missing));
+            return missing.stream().filter(id -> id == 3).collect(Collectors.toMap(id -> id, id -> user(id, "Goa")));
+        });
+
+        // Then
+        assertEquals(List.of(3, 1, 2), List.copyOf(users.keySet()));
+        assertEquals(List.of(List.of(3, 4)), loaderCalls);
+        assertEquals("Goa", instanceA.get(3).getCity());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("order.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static UserDTO user(int userId, String city) {
+        return new UserDTO(userId, "user-" + userId, "secret", "1 Main St", city);
+    }
+}
@@ -0,0 +1,150 @@
+package com.codedecode.order.tracing;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.loadtest.StubUserService;
+import com.codedecode.order.repo.OrderCodecRepository;
+import com.codedecode.order.repo.UserOrderSummaryRepository;
+import com.codedecode.order.service.OrderLifecycleService;
+import com.codedecode.order.service.SequenceGenerator;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Saves an order through the real web stack with Mongo mocked out and USER-SERVICE served by
+ * {@link StubUserService}, then checks the exported spans and the propagated {@code traceparent}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.tracing.sampling.probability=1.0",
+        "order.tracing.exporter=memory"})
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+class SaveOrderTracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String CALLER_SPAN_ID = "00f067aa0ba902b7";
+
+    private static StubUserService stubUserService;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RecentSpansExporter recentSpansExporter;
+
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
+
+    @MockitoBean
+    private OrderCodecRepository orderCodecRepository;
+
+    @MockitoBean
+    private SequenceGenerator sequenceGenerator;
+
+    @MockitoBean
+    private OrderLifecycleService orderLifecycleService;
+
+    @MockitoBean
+    private UserOrderSummaryRepository userOrderSummaryRepository;
+
+    @DynamicPropertySource
+    static void stubUserServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances[USER-SERVICE][0].uri", () -> stubUserService().baseUrl());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stubUserService != null) {
+            stubUserService.close();
+        }
+    }
+
+    @Test
+    void saveOrder_ShouldExportStageSpansUnderCallerTraceAndPropagateToUserService_WhenTraceparentSent() throws Exception {
+        // Given
+        when(sequenceGenerator.generateNextOrderId()).thenReturn(501);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/order/saveOrder"))
+                .header("Content-Type", "application/json")
+                .header("traceparent", "00-" + TRACE_ID + "-" + CALLER_SPAN_ID + "-01")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"userId": 7, "restaurant": {"id": 3, "name": "Trattoria"},
+                         "foodItemsList": [{"id": 1, "itemName": "Pizza", "price": 299, "quantity": 2}]}"""))
+                .build();
+
+        // When
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        sdkTracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(201, response.statusCode(), response.body());
+        List<SpanView> spans = recentSpansExporter.spans(TRACE_ID);
+        SpanView server = single(spans, "SERVER", "http post /order/saveOrder");
+        assertEquals(CALLER_SPAN_ID, server.parentSpanId());
+        SpanView sequence = single(spans, "INTERNAL", "order.sequence");
+        SpanView userLookup = single(spans, "CLIENT", "http get");
+        SpanView insert = single(spans, "INTERNAL", "order.insert");
+        for (SpanView child : List.of(sequence, userLookup, insert)) {
+            assertEquals(server.spanId(), child.parentSpanId(), child.name());
+        }
+        assertEquals("default", insert.attributes().get("durability.tier"));
+        assertTrue(sequence.startEpochMicros() <= userLookup.startEpochMicros());
+        assertTrue(userLookup.startEpochMicros() <= insert.startEpochMicros());
+        assertEquals("00-" + TRACE_ID + "-" + userLookup.spanId() + "-01", stubUserService().lastRequestHeader("traceparent"));
+    }
+
+    private static SpanView single(List<SpanView> spans, String kind, String name) {
+        List<SpanView> matching = spans.stream().filter(span -> span.kind().equals(kind) && span.name().equals(name)).toList();
+        assertEquals(1, matching.size(), () -> "spans named " + name + " in " + spans);
+        return matching.get(0);
+    }
+
+    private static synchronized StubUserService stubUserService() {
+        if (stubUserService == null) {
+            try {
+                stubUserService = new StubUserService(0, 0, 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return stubUserService;
+    }
+}
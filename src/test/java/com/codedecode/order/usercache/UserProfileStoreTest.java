@@ -0,0 +1,170 @@
+package com.codedecode.order.usercache;
+
+/*-
+ * #%L
+ * Order Service
+ * %%
+ * Copyright (C) 2024 - 2025 CodeDecode
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.codedecode.order.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserProfileStoreTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long TTL = 60_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void get_ShouldReturnProfileWithoutPassword_WhenStoredAndNotExpired() throws IOException {
+        // Given
+        try (UserProfileStore store = UserProfileStore.open(directory.resolve("users.bin"), 64, 256)) {
+            store.put(user(7, "Ana Müller"), NOW + TTL, NOW);
+
+            // When
+            UserDTO cached = store.get(7, NOW + 1);
+
+            // Then
+            assertEquals(new UserDTO(7, "Ana Müller", null, "1 Main St", "Pune"), cached);
+            assertNull(store.get(8, NOW + 1));
+        }
+    }
+
+    @Test
+    void get_ShouldMiss_WhenEntryExpired() throws IOException {
+        // Given
+        try (UserProfileStore store = UserProfileStore.open(directory.resolve("users.bin"), 64, 256)) {
+            store.put(user(7, "Ana"), NOW + TTL, NOW);
+
+            // When
+            UserDTO cached = store.get(7, NOW + TTL);
+
+            // Then
+            assertNull(cached);
+        }
+    }
+
+    @Test
+    void open_ShouldKeepEntries_WhenReopenedWithSameGeometry() throws IOException {
+        // Given
+        Path file = directory.resolve("users.bin");
+        try (UserProfileStore store = UserProfileStore.open(file, 1_000, 256)) {
+            for (int userId = 1; userId <= 500; userId++) {
+                store.put(user(userId, "user-" + userId), NOW + TTL, NOW);
+            }
+        }
+
+        // When
+        try (UserProfileStore reopened = UserProfileStore.open(file, 1_000, 256)) {
+
+            // Then
+            int hits = 0;
+            for (int userId = 1; userId <= 500; userId++) {
+                UserDTO cached = reopened.get(userId, NOW + 1);
+                if (cached != null) {
+                    assertEquals("user-" + userId, cached.getUserName());
+                    hits++;
+                }
+            }
+            assertTrue(hits >= 490, () -> "hits after reopen");
+            assertEquals(hits, reopened.liveEntries(NOW + 1));
+        }
+    }
+
+    @Test
+    void open_ShouldStartEmpty_WhenGeometryChanged() throws IOException {
+        // Given
+        Path file = directory.resolve("users.bin");
+        try (UserProfileStore store = UserProfileStore.open(file, 64, 256)) {
+            store.put(user(7, "Ana"), NOW + TTL, NOW);
+        }
+
+        // When
+        try (UserProfileStore reopened = UserProfileStore.open(file, 128, 256)) {
+
+            // Then
+            assertNull(reopened.get(7, NOW + 1));
+            assertEquals(0, reopened.liveEntries(NOW + 1));
+        }
+    }
+
+    @Test
+    void put_ShouldEvictSoonestToExpire_WhenBucketFull() throws IOException {
+        // Given
+        try (UserProfileStore store = UserProfileStore.open(directory.resolve("users.bin"), UserProfileStore.WAYS, 256)) {
+            for (int userId = 1; userId <= UserProfileStore.WAYS; userId++) {
+                store.put(user(userId, "user-" + userId), NOW + TTL + userId, NOW);
+            }
+
+            // When
+            store.put(user(100, "newcomer"), NOW + TTL, NOW);
+
+            // Then
+            assertNull(store.get(1, NOW + 1));
+            assertEquals("newcomer", store.get(100, NOW + 1).getUserName());
+            assertEquals("user-2", store.get(2, NOW + 1).getUserName());
+        }
+    }
+
+    @Test
+    void put_ShouldSkipProfile_WhenLargerThanSlot() throws IOException {
+        // Given
+        try (UserProfileStore store = UserProfileStore.open(directory.resolve("users.bin"), 64, 64)) {
+
+            // When
+            boolean stored = store.put(user(7, "x".repeat(100)), NOW + TTL, NOW);
+
+            // Then
+            assertFalse(stored);
+            assertNull(store.get(7, NOW + 1));
+        }
+    }
+
+    @Test
+    void get_ShouldMiss_WhenSlotTornOnDisk() throws IOException {
+        // Given
+        Path file = directory.resolve("users.bin");
+        try (UserProfileStore store = UserProfileStore.open(file, UserProfileStore.WAYS, 256)) {
+            store.put(user(7, "Ana"), NOW + TTL, NOW);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), UserProfileStore.HEADER_BYTES + UserProfileStore.SLOT_HEADER_BYTES + 2);
+        }
+
+        // When
+        try (UserProfileStore reopened = UserProfileStore.open(file, UserProfileStore.WAYS, 256)) {
+
+            // Then
+            assertNull(reopened.get(7, NOW + 1));
+        }
+    }
+
+    private static UserDTO user(int userId, String name) {
+        return new UserDTO(userId, name, "secret", "1 Main St", "Pune");
+    }
+}
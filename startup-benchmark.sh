@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# Startup and time-to-first-order benchmark for the packaged order service.
+#
+# Modes:
+#   plain    java -jar on the extracted jar
+#   cds      AppCDS archive from a training run (-Dspring.context.exit=onRefresh)
+#   aot-cds  Spring AOT + AppCDS; needs a jar built with: mvn -Pfast-startup package
+#
+# Time to first order is only measured when USER_SERVICE_URL is set (e.g. a stub or a real USER-SERVICE)
+# and MONGO_URI points at a reachable MongoDB; USER-SERVICE is then resolved through the simple discovery
+# client instead of Eureka.
+#
+# Usage: RUNS=5 MODES="plain cds aot-cds" MONGO_URI=mongodb://localhost:27017/orderdb \
+#        USER_SERVICE_URL=http://localhost:9093 ./startup-benchmark.sh
+set -euo pipefail
+
+JAR=${JAR:-$(ls target/order-*.jar | grep -v original | head -1)}
+RUNS=${RUNS:-5}
+MODES=${MODES:-"plain cds aot-cds"}
+PORT=${PORT:-19094}
+MONGO_URI=${MONGO_URI:-mongodb://localhost:27017/orderdb}
+USER_SERVICE_URL=${USER_SERVICE_URL:-}
+TIMEOUT_S=${TIMEOUT_S:-60}
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" > /dev/null
+APP="$WORK/app/$(basename "$JAR")"
+
+COMMON=(-Dserver.port="$PORT" -Dspring.data.mongodb.uri="$MONGO_URI"
+        -Deureka.client.register-with-eureka=false -Deureka.client.fetch-registry=false)
+if [[ -n "$USER_SERVICE_URL" ]]; then
+  COMMON+=("-Dspring.cloud.discovery.client.simple.instances[USER-SERVICE][0].uri=$USER_SERVICE_URL")
+fi
+
+ORDER='{"userId":1,"restaurant":{"id":1,"name":"Bench"},"foodItemsList":[{"id":1,"itemName":"Pizza","veg":true,"price":299,"restaurantId":1,"quantity":1}]}'
+
+mode_opts() {
+  case "$1" in
+    plain)   echo "-Dspring.aot.enabled=false" ;;
+    cds)     echo "-XX:SharedArchiveFile=$WORK/app.jsa -Dspring.aot.enabled=false" ;;
+    aot-cds) echo "-XX:SharedArchiveFile=$WORK/app-aot.jsa -Dspring.aot.enabled=true" ;;
+  esac
+}
+
+train() {
+  local archive=$1 aot=$2
+  java -XX:ArchiveClassesAtExit="$archive" -Dspring.context.exit=onRefresh -Dspring.aot.enabled="$aot" \
+       "${COMMON[@]}" -jar "$APP" > "$WORK/train.log" 2>&1 || true
+}
+
+now_ms() { date +%s%3N; }
+
+[[ " $MODES " == *" cds "* ]] && train "$WORK/app.jsa" false
+[[ " $MODES " == *" aot-cds "* ]] && train "$WORK/app-aot.jsa" true
+
+printf "%-8s %4s %12s %12s %16s\n" mode run started_ms jvm_ms first_order_ms
+for mode in $MODES; do
+  for run in $(seq 1 "$RUNS"); do
+    log="$WORK/$mode-$run.log"
+    start=$(now_ms)
+    # shellcheck disable=SC2046
+    java $(mode_opts "$mode") "${COMMON[@]}" -jar "$APP" > "$log" 2>&1 &
+    pid=$!
+    started="n/a"; jvm="n/a"; first="n/a"
+    deadline=$((start + TIMEOUT_S * 1000))
+    while [[ $(now_ms) -lt $deadline ]]; do
+      if line=$(grep -m1 "Started OrderApplication in" "$log"); then
+        started=$(sed -E 's/.* in ([0-9.]+) seconds.*/\1/' <<< "$line" | awk '{printf "%d", $1 * 1000}')
+        jvm=$(sed -E 's/.*process running for ([0-9.]+).*/\1/' <<< "$line" | awk '{printf "%d", $1 * 1000}')
+        break
+      fi
+      sleep 0.05
+    done
+    if [[ -n "$USER_SERVICE_URL" ]]; then
+      while [[ $(now_ms) -lt $deadline ]]; do
+        code=$(curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' \
+               -d "$ORDER" "http://localhost:$PORT/order/saveOrder" || true)
+        if [[ "$code" == "201" ]]; then
+          first=$(( $(now_ms) - start ))
+          break
+        fi
+        sleep 0.05
+      done
+    fi
+    kill "$pid" 2> /dev/null; wait "$pid" 2> /dev/null || true
+    printf "%-8s %4d %12s %12s %16s\n" "$mode" "$run" "$started" "$jvm" "$first"
+  done
+done